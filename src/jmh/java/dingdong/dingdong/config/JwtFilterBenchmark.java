@@ -0,0 +1,90 @@
+package dingdong.dingdong.config;
+
+import dingdong.dingdong.service.auth.TokenRevocationList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * JwtFilter 요청 1건 처리 비용 측정
+ * cacheMaxSize = 0 이면 매 요청마다 서명 검증, 그 외에는 검증된 토큰 캐시 사용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtFilterBenchmark {
+
+    @Param({"0", "10000"})
+    long cacheMaxSize;
+
+    private TokenProvider tokenProvider;
+    private TokenRevocationList tokenRevocationList;
+    private JwtFilter jwtFilter;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        byte[] secret = new byte[64];
+        ThreadLocalRandom.current().nextBytes(secret);
+        tokenProvider = new TokenProvider(Base64.getEncoder().encodeToString(secret),
+            cacheMaxSize);
+        // 폐기 목록이 비어 있으면 Bloom Filter 만 확인하고 Redis 는 사용하지 않음
+        tokenRevocationList = new TokenRevocationList(new StringRedisTemplate(), 100000, 0.001);
+        jwtFilter = new JwtFilter(tokenProvider, tokenRevocationList);
+
+        Authentication authentication = new UsernamePasswordAuthenticationToken("01012345678",
+            "", List.of(new SimpleGrantedAuthority("REGULAR")));
+        token = tokenProvider.generateTokenDto(authentication).getAccessToken();
+    }
+
+    @TearDown(Level.Invocation)
+    public void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    // 변경 전 방식 (validateToken 후 getAuthentication, 서명 검증 2회)
+    @Benchmark
+    public Authentication validateThenGetAuthentication() {
+        if (tokenProvider.validateToken(token)) {
+            return tokenProvider.getAuthentication(token);
+        }
+        return null;
+    }
+
+    @Benchmark
+    public Authentication resolveAuthentication() {
+        return tokenProvider.resolveAuthentication(token);
+    }
+
+    @Benchmark
+    public boolean revocationCheck() {
+        return tokenRevocationList.isRevoked(tokenProvider.resolveAuthentication(token));
+    }
+
+    @Benchmark
+    public Authentication filter() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/profile");
+        request.addHeader(JwtFilter.AUTHORIZATION_HEADER, JwtFilter.BEARER_PREFIX + token);
+        jwtFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+}
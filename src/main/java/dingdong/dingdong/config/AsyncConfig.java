@@ -0,0 +1,58 @@
+package dingdong.dingdong.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.task.TaskExecutorBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.scheduling.annotation.AsyncAnnotationBeanPostProcessor;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@EnableAsync
+@Configuration
+public class AsyncConfig {
+
+    /**
+     * 기본 스레드 풀 (@Async, WebSocket 등)
+     * 다른 Executor 빈이 있으면 Spring Boot 가 만들지 않으므로 spring.task.execution 설정으로 직접 생성한다.
+     */
+    @Primary
+    @Bean(name = {TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME,
+        AsyncAnnotationBeanPostProcessor.DEFAULT_TASK_EXECUTOR_BEAN_NAME})
+    public ThreadPoolTaskExecutor applicationTaskExecutor(TaskExecutorBuilder taskExecutorBuilder) {
+        return taskExecutorBuilder.build();
+    }
+
+    // 신고 누적에 따른 정지, 블랙리스트 처리 스레드 풀 (@Async("moderationExecutor"))
+    @Bean
+    public ThreadPoolTaskExecutor moderationExecutor(@Value("${moderation.executor.pool-size:2}") int poolSize,
+        @Value("${moderation.executor.queue-capacity:1000}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("moderation-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        executor.initialize();
+        return executor;
+    }
+
+    // 이미지 변환, 업로드 스레드 풀 (CPU 를 많이 사용하므로 크기를 제한하고, 대기열이 가득 차면 요청을 거절함)
+    @Bean
+    public ThreadPoolTaskExecutor imageExecutor(
+        @Value("${image.executor.pool-size:#{T(java.lang.Runtime).getRuntime().availableProcessors()}}") int poolSize,
+        @Value("${image.executor.queue-capacity:64}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("image-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,16 @@
+package dingdong.dingdong.config;
+
+import org.springframework.batch.core.configuration.annotation.EnableBatchProcessing;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+
+/**
+ * Spring Batch 설정
+ * 배치 작업은 서버 시작 시 실행하지 않고 필요할 때만 실행한다 (batch.properties)
+ */
+@Configuration
+@EnableBatchProcessing
+@PropertySource("classpath:batch.properties")
+public class BatchConfig {
+
+}
@@ -1,20 +0,0 @@
-package dingdong.dingdong.config;
-
-import lombok.RequiredArgsConstructor;
-import org.springframework.security.config.annotation.SecurityConfigurerAdapter;
-import org.springframework.security.config.annotation.web.builders.HttpSecurity;
-import org.springframework.security.web.DefaultSecurityFilterChain;
-import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
-
-@RequiredArgsConstructor
-public class JwtSecurityConfig extends
-    SecurityConfigurerAdapter<DefaultSecurityFilterChain, HttpSecurity> {
-
-    private final TokenProvider tokenProvider;
-
-    @Override
-    public void configure(HttpSecurity builder) {
-        JwtFilter customFilter = new JwtFilter(tokenProvider);
-        builder.addFilterBefore(customFilter, UsernamePasswordAuthenticationFilter.class);
-    }
-}
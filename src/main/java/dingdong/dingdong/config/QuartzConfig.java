@@ -0,0 +1,161 @@
+package dingdong.dingdong.config;
+
+import dingdong.dingdong.service.chat.ChatPromiseEndJob;
+import dingdong.dingdong.service.image.ImageGarbageCollectJob;
+import dingdong.dingdong.service.profile.ModerationRetryJob;
+import dingdong.dingdong.service.profile.UserMaintenanceJob;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Properties;
+import java.util.TimeZone;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.quartz.CronScheduleBuilder;
+import org.quartz.DateBuilder;
+import org.quartz.JobBuilder;
+import org.quartz.JobDetail;
+import org.quartz.SimpleScheduleBuilder;
+import org.quartz.Trigger;
+import org.quartz.TriggerBuilder;
+import org.springframework.boot.autoconfigure.quartz.JobStoreType;
+import org.springframework.boot.autoconfigure.quartz.QuartzProperties;
+import org.springframework.boot.autoconfigure.quartz.SchedulerFactoryBeanCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Slf4j
+@RequiredArgsConstructor
+@Configuration
+public class QuartzConfig {
+
+    private final QuartzProperties quartzProperties;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 여러 서버가 같은 DB 의 Quartz 테이블(QRTZ_*)을 공유하며 하나의 서버만 작업을 실행하도록 클러스터 설정
+     * 테이블은 quartz 의 tables_mysql_innodb.sql 로 미리 생성해야 한다 (spring.quartz.job-store-type=jdbc)
+     * jdbc 가 아니면(memory) 클러스터가 되지 않아 모든 서버가 각자 작업을 실행하므로 서버가 하나일 때만 사용한다.
+     * 서버가 시작될 때마다 trigger 를 코드의 설정으로 덮어쓰므로, 시작 시각을 다음 주기 경계로 맞춰
+     * 재시작한 서버가 작업을 바로 다시 실행하지 않게 한다.
+     */
+    @Bean
+    public SchedulerFactoryBeanCustomizer clusteredSchedulerCustomizer() {
+        return schedulerFactoryBean -> {
+            Properties properties = new Properties();
+            properties.putAll(quartzProperties.getProperties());
+            properties.putIfAbsent("org.quartz.scheduler.instanceId", "AUTO");
+            if (quartzProperties.getJobStoreType() == JobStoreType.JDBC) {
+                properties.putIfAbsent("org.quartz.jobStore.isClustered", "true");
+                properties.putIfAbsent("org.quartz.jobStore.clusterCheckinInterval", "15000");
+                properties.putIfAbsent("org.quartz.jobStore.misfireThreshold", "60000");
+                properties.putIfAbsent("org.quartz.jobStore.driverDelegateClass",
+                    "org.quartz.impl.jdbcjobstore.StdJDBCDelegate");
+            } else {
+                log.warn("Quartz job store 가 {} 이므로 클러스터로 실행되지 않습니다. "
+                    + "서버가 여러 대이면 spring.quartz.job-store-type=jdbc 로 설정하세요.",
+                    quartzProperties.getJobStoreType());
+            }
+            schedulerFactoryBean.setQuartzProperties(properties);
+            schedulerFactoryBean.setOverwriteExistingJobs(true);
+
+            QuartzMetricsListener metricsListener = new QuartzMetricsListener(meterRegistry);
+            schedulerFactoryBean.setGlobalJobListeners(metricsListener);
+            schedulerFactoryBean.setGlobalTriggerListeners(metricsListener);
+        };
+    }
+
+    /**
+     * 약속 마감 시간 확인 (1시간마다 작동)
+     */
+    @Bean
+    public JobDetail chatPromiseEndJobDetail() {
+        return JobBuilder.newJob(ChatPromiseEndJob.class)
+            .withIdentity("chatPromiseEndJob")
+            .storeDurably()
+            .requestRecovery()
+            .build();
+    }
+
+    @Bean
+    public Trigger chatPromiseEndTrigger() {
+        // 정각마다 실행하고, 스케줄러가 지연되어 실행을 놓친 경우 복구되는 즉시 한 번 실행한다
+        return TriggerBuilder.newTrigger()
+            .forJob(chatPromiseEndJobDetail())
+            .withIdentity("chatPromiseEndTrigger")
+            .startAt(DateBuilder.evenHourDate(null))
+            .withSchedule(SimpleScheduleBuilder.repeatHourlyForever()
+                .withMisfireHandlingInstructionNowWithExistingCount())
+            .build();
+    }
+
+    /**
+     * 탈퇴 회원 정보 삭제, 정지 회원 해제 (매일 자정 작동)
+     */
+    @Bean
+    public JobDetail userMaintenanceJobDetail() {
+        return JobBuilder.newJob(UserMaintenanceJob.class)
+            .withIdentity("userMaintenanceJob")
+            .storeDurably()
+            .requestRecovery()
+            .build();
+    }
+
+    @Bean
+    public Trigger userMaintenanceTrigger() {
+        // 자정 실행을 놓친 경우, 복구되는 즉시 한 번 실행하고 다음 자정부터 정상 실행한다
+        return TriggerBuilder.newTrigger()
+            .forJob(userMaintenanceJobDetail())
+            .withIdentity("userMaintenanceTrigger")
+            .withSchedule(CronScheduleBuilder.dailyAtHourAndMinute(0, 0)
+                .inTimeZone(TimeZone.getTimeZone("Asia/Seoul"))
+                .withMisfireHandlingInstructionFireAndProceed())
+            .build();
+    }
+
+    /**
+     * 사용하지 않는 S3 이미지 삭제 (10분마다 작동)
+     */
+    @Bean
+    public JobDetail imageGarbageCollectJobDetail() {
+        return JobBuilder.newJob(ImageGarbageCollectJob.class)
+            .withIdentity("imageGarbageCollectJob")
+            .storeDurably()
+            .requestRecovery()
+            .build();
+    }
+
+    @Bean
+    public Trigger imageGarbageCollectTrigger() {
+        // 10분 단위 시각마다 실행하고, 실행을 놓친 경우 복구되는 즉시 한 번 실행한다
+        return TriggerBuilder.newTrigger()
+            .forJob(imageGarbageCollectJobDetail())
+            .withIdentity("imageGarbageCollectTrigger")
+            .startAt(DateBuilder.nextGivenMinuteDate(null, 10))
+            .withSchedule(SimpleScheduleBuilder.repeatMinutelyForever(10)
+                .withMisfireHandlingInstructionNowWithExistingCount())
+            .build();
+    }
+
+    /**
+     * 처리되지 않은 정지, 블랙리스트 작업 재처리 (1분마다 작동)
+     */
+    @Bean
+    public JobDetail moderationRetryJobDetail() {
+        return JobBuilder.newJob(ModerationRetryJob.class)
+            .withIdentity("moderationRetryJob")
+            .storeDurably()
+            .requestRecovery()
+            .build();
+    }
+
+    @Bean
+    public Trigger moderationRetryTrigger() {
+        // 매분 0초마다 실행하고, 실행을 놓친 경우 복구되는 즉시 한 번 실행한다
+        return TriggerBuilder.newTrigger()
+            .forJob(moderationRetryJobDetail())
+            .withIdentity("moderationRetryTrigger")
+            .startAt(DateBuilder.evenMinuteDate(null))
+            .withSchedule(SimpleScheduleBuilder.repeatMinutelyForever()
+                .withMisfireHandlingInstructionNowWithExistingCount())
+            .build();
+    }
+}
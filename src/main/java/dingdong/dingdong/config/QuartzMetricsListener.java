@@ -0,0 +1,68 @@
+package dingdong.dingdong.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.quartz.JobExecutionContext;
+import org.quartz.JobExecutionException;
+import org.quartz.JobListener;
+import org.quartz.Trigger;
+import org.quartz.Trigger.CompletedExecutionInstruction;
+import org.quartz.TriggerListener;
+
+/**
+ * Quartz 작업의 실행 시간, 실패, misfire 횟수를 기록
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class QuartzMetricsListener implements JobListener, TriggerListener {
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public String getName() {
+        return "quartzMetricsListener";
+    }
+
+    @Override
+    public void jobToBeExecuted(JobExecutionContext context) {
+    }
+
+    @Override
+    public void jobExecutionVetoed(JobExecutionContext context) {
+    }
+
+    @Override
+    public void jobWasExecuted(JobExecutionContext context, JobExecutionException e) {
+        String jobName = context.getJobDetail().getKey().getName();
+        meterRegistry.timer("dingdong.job.duration", "job", jobName,
+            "result", e == null ? "success" : "failure")
+            .record(context.getJobRunTime(), TimeUnit.MILLISECONDS);
+
+        if (e != null) {
+            log.error("Quartz 작업 실패 : {}", jobName, e);
+        }
+    }
+
+    @Override
+    public void triggerFired(Trigger trigger, JobExecutionContext context) {
+    }
+
+    @Override
+    public boolean vetoJobExecution(Trigger trigger, JobExecutionContext context) {
+        return false;
+    }
+
+    @Override
+    public void triggerMisfired(Trigger trigger) {
+        log.warn("Quartz 작업 실행 시간 초과(misfire) : {}", trigger.getJobKey().getName());
+        meterRegistry.counter("dingdong.job.misfire", "job", trigger.getJobKey().getName())
+            .increment();
+    }
+
+    @Override
+    public void triggerComplete(Trigger trigger, JobExecutionContext context,
+        CompletedExecutionInstruction triggerInstructionCode) {
+    }
+}
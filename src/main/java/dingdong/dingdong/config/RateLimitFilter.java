@@ -0,0 +1,132 @@
+package dingdong.dingdong.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dingdong.dingdong.service.ratelimit.RateLimitPolicy;
+import dingdong.dingdong.service.ratelimit.RateLimiter;
+import dingdong.dingdong.util.SecurityUtil;
+import dingdong.dingdong.util.exception.Result;
+import dingdong.dingdong.util.exception.ResultCode;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * 경로별 요청 제한
+ * Security Filter Chain 다음에 실행되므로 로그인한 회원은 회원 id 로 제한할 수 있다.
+ * 전화번호별 제한은 요청 본문이 필요하므로 AuthService 에서 처리한다.
+ * 로드 밸런서 뒤에서는 신뢰하는 프록시가 붙인 X-Forwarded-For 로 클라이언트 IP 를 구한다.
+ */
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+    private static final String X_FORWARDED_FOR = "X-Forwarded-For";
+    // IP 주소 형식 (도메인은 DNS 조회를 하게 되므로 신뢰하지 않음)
+    private static final Pattern IP_ADDRESS = Pattern.compile("[0-9a-fA-F.:]+");
+
+    private final RateLimiter rateLimiter;
+    private final ObjectMapper objectMapper;
+    private final List<IpAddressMatcher> trustedProxies;
+
+    public RateLimitFilter(RateLimiter rateLimiter, ObjectMapper objectMapper,
+        @Value("${rate-limit.trusted-proxies:127.0.0.1/32,::1/128,10.0.0.0/8,172.16.0.0/12,192.168.0.0/16}")
+            List<String> trustedProxies) {
+        this.rateLimiter = rateLimiter;
+        this.objectMapper = objectMapper;
+        this.trustedProxies = trustedProxies.stream()
+            .map(String::trim)
+            .filter(StringUtils::hasText)
+            .map(IpAddressMatcher::new)
+            .collect(Collectors.toList());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+        FilterChain filterChain) throws IOException, ServletException {
+        if (HttpMethod.POST.matches(request.getMethod()) && !isAllowed(request)) {
+            // 제한을 초과하면 429
+            ResultCode resultCode = ResultCode.TOO_MANY_REQUESTS;
+            response.setStatus(resultCode.getHttpStatus().value());
+            response.setContentType("application/json");
+            response.setCharacterEncoding("UTF-8");
+            response.getWriter().write(objectMapper.writeValueAsString(Result.of(resultCode)));
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private boolean isAllowed(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        if (path.equals("/api/v1/auth/send-sms")) {
+            return rateLimiter.tryAcquire(RateLimitPolicy.SEND_SMS_IP, clientIp(request));
+        }
+        if (path.equals("/api/v1/auth")) {
+            return rateLimiter.tryAcquire(RateLimitPolicy.AUTH_IP, clientIp(request));
+        }
+        if (PATH_MATCHER.match("/api/v1/post/{localId}", path)) {
+            Long userId = SecurityUtil.getUserId();
+            return userId == null
+                || rateLimiter.tryAcquire(RateLimitPolicy.POST_CREATE, userId.toString());
+        }
+        return true;
+    }
+
+    /**
+     * 클라이언트 IP
+     * 신뢰하는 프록시를 거친 요청만 X-Forwarded-For 를 오른쪽부터 확인하여 처음 나오는 신뢰하지 않는 주소를 사용한다.
+     * (클라이언트가 임의로 넣은 왼쪽 값은 무시됨)
+     */
+    String clientIp(HttpServletRequest request) {
+        String ip = request.getRemoteAddr();
+        if (!isTrusted(ip)) {
+            return ip;
+        }
+        List<String> forwarded = new ArrayList<>();
+        Enumeration<String> headers = request.getHeaders(X_FORWARDED_FOR);
+        while (headers != null && headers.hasMoreElements()) {
+            for (String value : headers.nextElement().split(",")) {
+                if (StringUtils.hasText(value)) {
+                    forwarded.add(value.trim());
+                }
+            }
+        }
+        for (int i = forwarded.size() - 1; i >= 0; i--) {
+            ip = forwarded.get(i);
+            if (!isTrusted(ip)) {
+                return ip;
+            }
+        }
+        return ip;
+    }
+
+    private boolean isTrusted(String ip) {
+        if (ip == null || !IP_ADDRESS.matcher(ip).matches()) {
+            return false;
+        }
+        try {
+            for (IpAddressMatcher trustedProxy : trustedProxies) {
+                if (trustedProxy.matches(ip)) {
+                    return true;
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            // IP 형식이 아닌 값
+            return false;
+        }
+        return false;
+    }
+}
@@ -1,7 +1,12 @@
 package dingdong.dingdong.config;
 
 import dingdong.dingdong.domain.chat.RedisChatRoom;
+import dingdong.dingdong.service.auth.CurrentUserCache;
+import dingdong.dingdong.service.auth.PhoneFilter;
+import dingdong.dingdong.service.auth.TokenRevocationList;
+import dingdong.dingdong.service.chat.ChatJoinCache;
 import dingdong.dingdong.service.chat.RedisSubscriber;
+import dingdong.dingdong.service.profile.ProfileCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -47,13 +52,41 @@ public class RedisConfig {
     @Bean
     public RedisMessageListenerContainer redisMessageListener(
         RedisConnectionFactory connectionFactory, MessageListenerAdapter listenerAdapter,
-        ChannelTopic channelTopic) {
+        ChannelTopic channelTopic, ChatJoinCache chatJoinCache,
+        CurrentUserCache currentUserCache, TokenRevocationList tokenRevocationList,
+        PhoneFilter phoneFilter, ProfileCache profileCache) {
         RedisMessageListenerContainer container = new RedisMessageListenerContainer();
         container.setConnectionFactory(connectionFactory);
         container.addMessageListener(listenerAdapter, channelTopic);
+        // 채팅방 참여자 캐시 무효화
+        container.addMessageListener(invalidateListener(chatJoinCache), ChatJoinCache.TOPIC);
+        // 로그인 회원 캐시 무효화
+        container.addMessageListener(invalidateListener(currentUserCache),
+            CurrentUserCache.TOPIC);
+        // Access Token 폐기 목록 동기화
+        MessageListenerAdapter revokedListener = new MessageListenerAdapter(tokenRevocationList,
+            "onRevoked");
+        revokedListener.afterPropertiesSet();
+        container.addMessageListener(revokedListener, TokenRevocationList.TOPIC);
+        // 가입 제한 전화번호 필터 동기화
+        container.addMessageListener(invalidateListener(phoneFilter), PhoneFilter.TOPIC);
+        // 프로필 캐시 무효화
+        container.addMessageListener(invalidateListener(profileCache), ProfileCache.TOPIC);
         return container;
     }
 
+    /**
+     * 캐시 무효화 메시지를 onInvalidate(String) 으로 전달하는 리스너
+     * Redis pub/sub 은 전달을 보장하지 않으므로, 발행에 실패하거나 구독이 끊긴 동안의 메시지를 놓친 서버는
+     * 캐시의 expireAfterWrite 시간(PhoneFilter 는 다음 재생성)까지 이전 값을 사용할 수 있다.
+     * 자주 조회되는 항목도 이 시간 안에 다시 읽도록 캐시는 expireAfterAccess 를 사용하지 않는다.
+     */
+    private MessageListenerAdapter invalidateListener(Object cache) {
+        MessageListenerAdapter adapter = new MessageListenerAdapter(cache, "onInvalidate");
+        adapter.afterPropertiesSet();
+        return adapter;
+    }
+
     /**
      * 실제 메시지를 처리하는 subscriber 설정 추가
      */
@@ -2,6 +2,7 @@ package dingdong.dingdong.config;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.autoconfigure.security.servlet.PathRequest;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -22,7 +23,6 @@ import org.springframework.web.filter.CharacterEncodingFilter;
 public class SecurityConfig extends WebSecurityConfigurerAdapter {
 
     private final HttpLogoutSuccessHandler logoutSuccessHandler;
-    private final TokenProvider tokenProvider;
     private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
     private final JwtAccessDeniedHandler jwtAccessDeniedHandler;
     private final JwtFilter jwtFilter;
@@ -32,6 +32,14 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
         return PasswordEncoderFactories.createDelegatingPasswordEncoder();
     }
 
+    // JwtFilter 는 Security Filter Chain 에서만 실행되도록 서블릿 필터 자동 등록 해제
+    @Bean
+    public FilterRegistrationBean<JwtFilter> jwtFilterRegistration(JwtFilter jwtFilter) {
+        FilterRegistrationBean<JwtFilter> registration = new FilterRegistrationBean<>(jwtFilter);
+        registration.setEnabled(false);
+        return registration;
+    }
+
     @Override
     public void configure(WebSecurity web) {
         web.ignoring()
@@ -45,6 +53,7 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
         http.authorizeRequests()
             .mvcMatchers("/console", "/webjars/**/**", "/ws-stomp/**", "/api/v1/auth",
                 "/api/v1/auth/send-sms", "/api/v1/auth/reissue", "/docs/**", "/api/v1/chat").permitAll()
+            .mvcMatchers("/api/v1/admin/**").hasAuthority("ADMIN")
             .anyRequest().hasAuthority("REGULAR");
 
         CharacterEncodingFilter filter = new CharacterEncodingFilter();
@@ -74,8 +83,6 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
 
         http.sessionManagement()
             .sessionCreationPolicy(SessionCreationPolicy.STATELESS);
-        http.apply(new JwtSecurityConfig(tokenProvider));
-
         http.addFilterBefore(jwtFilter, UsernamePasswordAuthenticationFilter.class);
     }
 
@@ -0,0 +1,61 @@
+package dingdong.dingdong.config;
+
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.client.RestTemplate;
+
+@Configuration
+public class SmsConfig {
+
+    /**
+     * SENS 호출용 RestTemplate
+     * 커넥션 풀을 공유하고, 연결/응답 대기 시간을 제한한다.
+     */
+    @Bean
+    public RestTemplate smsRestTemplate(RestTemplateBuilder restTemplateBuilder,
+        @Value("${sms.http.max-connections:50}") int maxConnections,
+        @Value("${sms.http.connect-timeout-ms:1000}") int connectTimeout,
+        @Value("${sms.http.read-timeout-ms:3000}") int readTimeout) {
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+        connectionManager.setMaxTotal(maxConnections);
+        connectionManager.setDefaultMaxPerRoute(maxConnections);
+        CloseableHttpClient httpClient = HttpClientBuilder.create()
+            .setConnectionManager(connectionManager)
+            .evictIdleConnections(30, TimeUnit.SECONDS)
+            .build();
+
+        HttpComponentsClientHttpRequestFactory requestFactory =
+            new HttpComponentsClientHttpRequestFactory(httpClient);
+        requestFactory.setConnectTimeout(connectTimeout);
+        requestFactory.setConnectionRequestTimeout(connectTimeout);
+        requestFactory.setReadTimeout(readTimeout);
+
+        return restTemplateBuilder.requestFactory(() -> requestFactory).build();
+    }
+
+    // 인증 번호 전송 스레드 풀 (요청 스레드에서 SENS 응답을 기다리지 않음)
+    @Bean
+    public ThreadPoolTaskExecutor smsExecutor(@Value("${sms.executor.pool-size:8}") int poolSize,
+        @Value("${sms.executor.queue-capacity:1000}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("sms-");
+        // 큐가 가득 차면 묶음을 만드는 sms-batch 스레드에서 직접 전송 (그동안 묶기를 멈춰 대기열이 쌓임)
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        executor.initialize();
+        return executor;
+    }
+}
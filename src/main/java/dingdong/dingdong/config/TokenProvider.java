@@ -1,18 +1,30 @@
 package dingdong.dingdong.config;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import dingdong.dingdong.domain.user.UserAccount;
+import dingdong.dingdong.domain.user.UserPrincipal;
 import dingdong.dingdong.dto.auth.TokenDto;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Arrays;
-import java.util.Collection;
+import java.util.Base64;
 import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -20,7 +32,6 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
-import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
@@ -29,16 +40,45 @@ import org.springframework.stereotype.Component;
 public class TokenProvider {
 
     private static final String AUTHORITIES_KEY = "auth";
+    private static final String USER_ID_KEY = "uid";
     private static final String BEARER_TYPE = "bearer";
 
-    private static final long ACCESS_TOKEN_EXPIRE_TIME = 1000 * 60 * 30;            // 30분
+    public static final long ACCESS_TOKEN_EXPIRE_TIME = 1000 * 60 * 30;            // 30분
     private static final long REFRESH_TOKEN_EXPIRE_TIME = 1000 * 60 * 60 * 24 * 7;  // 7일
 
     private final Key key;
+    // 스레드 안전하므로 하나만 만들어서 재사용
+    private final JwtParser jwtParser;
+    // 검증된 토큰의 인증 정보 캐시 (key: 토큰 SHA-256, 토큰 만료 시각에 만료)
+    private final Cache<String, VerifiedToken> verifiedTokens;
 
-    public TokenProvider(@Value("${jwt.secret}") String secretKey) {
+    public TokenProvider(@Value("${jwt.secret}") String secretKey,
+        @Value("${jwt.cache.max-size:10000}") long cacheMaxSize) {
         byte[] keyBytes = Decoders.BASE64.decode(secretKey);
         this.key = Keys.hmacShaKeyFor(keyBytes);
+        this.jwtParser = Jwts.parserBuilder().setSigningKey(key).build();
+        this.verifiedTokens = Caffeine.newBuilder()
+            .maximumSize(cacheMaxSize)
+            .expireAfter(new Expiry<String, VerifiedToken>() {
+                @Override
+                public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+                    long remainingMillis = value.expiration - System.currentTimeMillis();
+                    return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMillis));
+                }
+
+                @Override
+                public long expireAfterUpdate(String key, VerifiedToken value, long currentTime,
+                    long currentDuration) {
+                    return expireAfterCreate(key, value, currentTime);
+                }
+
+                @Override
+                public long expireAfterRead(String key, VerifiedToken value, long currentTime,
+                    long currentDuration) {
+                    return currentDuration;
+                }
+            })
+            .build();
     }
 
     public TokenDto generateTokenDto(Authentication authentication) {
@@ -52,14 +92,18 @@ public class TokenProvider {
         // Access Token 생성
         Date accessTokenExpiresIn = new Date(now + ACCESS_TOKEN_EXPIRE_TIME);
         String accessToken = Jwts.builder()
+            .setId(UUID.randomUUID().toString())        // payload "jti": 토큰 id (로그아웃 시 폐기용)
+            .setIssuedAt(new Date(now))                 // payload "iat": 1516239022 (예시)
             .setSubject(authentication.getName())       // payload "sub": "name"
             .claim(AUTHORITIES_KEY, authorities)        // payload "auth": "ROLE_USER"
+            .claim(USER_ID_KEY, getUserId(authentication))  // payload "uid": 1
             .setExpiration(accessTokenExpiresIn)        // payload "exp": 1516239022 (예시)
             .signWith(key, SignatureAlgorithm.HS512)    // header "alg": "HS512"
             .compact();
 
         // Refresh Token 생성
         String refreshToken = Jwts.builder()
+            .setId(UUID.randomUUID().toString())
             .setExpiration(new Date(now + REFRESH_TOKEN_EXPIRE_TIME))
             .signWith(key, SignatureAlgorithm.HS512)
             .compact();
@@ -72,6 +116,42 @@ public class TokenProvider {
             .build();
     }
 
+    /**
+     * Access Token 검증 후 인증 정보 반환 (유효하지 않으면 null)
+     * 서명 검증은 토큰당 한 번만 하고, 이후에는 만료 시각까지 캐시된 인증 정보를 사용한다.
+     */
+    public Authentication resolveAuthentication(String accessToken) {
+        String cacheKey = hash(accessToken);
+        VerifiedToken cached = verifiedTokens.getIfPresent(cacheKey);
+        if (cached != null && cached.expiration > System.currentTimeMillis()) {
+            return cached.toAuthentication();
+        }
+
+        Claims claims;
+        try {
+            claims = jwtParser.parseClaimsJws(accessToken).getBody();
+        } catch (io.jsonwebtoken.security.SecurityException | MalformedJwtException e) {
+            log.info("잘못된 JWT 서명입니다.");
+            return null;
+        } catch (ExpiredJwtException e) {
+            log.info("만료된 JWT 토큰입니다.");
+            return null;
+        } catch (UnsupportedJwtException e) {
+            log.info("지원되지 않는 JWT 토큰입니다.");
+            return null;
+        } catch (IllegalArgumentException e) {
+            log.info("JWT 토큰이 잘못되었습니다.");
+            return null;
+        }
+        if (claims.get(AUTHORITIES_KEY) == null || claims.getExpiration() == null) {
+            return null;
+        }
+
+        VerifiedToken verified = VerifiedToken.from(claims);
+        verifiedTokens.put(cacheKey, verified);
+        return verified.toAuthentication();
+    }
+
     public Authentication getAuthentication(String accessToken) {
         // 토큰 복호화
         Claims claims = parseClaims(accessToken);
@@ -80,21 +160,28 @@ public class TokenProvider {
             throw new RuntimeException("권한 정보가 없는 토큰입니다.");
         }
 
-        // 클레임에서 권한 정보 가져오기
-        Collection<? extends GrantedAuthority> authorities =
-            Arrays.stream(claims.get(AUTHORITIES_KEY).toString().split(","))
-                .map(SimpleGrantedAuthority::new)
-                .collect(Collectors.toList());
+        return VerifiedToken.from(claims).toAuthentication();
+    }
 
-        // UserDetails 객체를 만들어서 Authentication 리턴
-        UserDetails principal = new User(claims.getSubject(), "", authorities);
+    private static long toMillis(Date date) {
+        return date == null ? 0L : date.getTime();
+    }
 
-        return new UsernamePasswordAuthenticationToken(principal, "", authorities);
+    // 인증 정보에서 회원 id 가져오기 (로그인 시 UserAccount, 재발급 시 UserPrincipal)
+    private Long getUserId(Authentication authentication) {
+        Object principal = authentication.getPrincipal();
+        if (principal instanceof UserAccount) {
+            return ((UserAccount) principal).getUserId();
+        }
+        if (principal instanceof UserPrincipal) {
+            return ((UserPrincipal) principal).getId();
+        }
+        return null;
     }
 
     public boolean validateToken(String token) {
         try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
+            jwtParser.parseClaimsJws(token);
             return true;
         } catch (io.jsonwebtoken.security.SecurityException | MalformedJwtException e) {
             log.info("잘못된 JWT 서명입니다.");
@@ -110,10 +197,63 @@ public class TokenProvider {
 
     private Claims parseClaims(String accessToken) {
         try {
-            return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(accessToken)
-                .getBody();
+            return jwtParser.parseClaimsJws(accessToken).getBody();
         } catch (ExpiredJwtException e) {
             return e.getClaims();
         }
     }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                .digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 검증된 토큰의 클레임 값 (변경할 수 없는 값만 보관)
+     * Authentication 과 UserDetails 는 변경 가능한 객체이므로 공유하지 않고 요청마다 새로 만든다.
+     */
+    private static class VerifiedToken {
+
+        private final Long userId;
+        private final String subject;
+        private final List<GrantedAuthority> authorities;
+        private final String tokenId;
+        private final long issuedAt;
+        private final long expiration;
+
+        private VerifiedToken(Long userId, String subject, List<GrantedAuthority> authorities,
+            String tokenId, long issuedAt, long expiration) {
+            this.userId = userId;
+            this.subject = subject;
+            this.authorities = authorities;
+            this.tokenId = tokenId;
+            this.issuedAt = issuedAt;
+            this.expiration = expiration;
+        }
+
+        private static VerifiedToken from(Claims claims) {
+            // 클레임에서 권한 정보 가져오기 (SimpleGrantedAuthority 는 변경할 수 없음)
+            List<GrantedAuthority> authorities =
+                Arrays.stream(claims.get(AUTHORITIES_KEY).toString().split(","))
+                    .map(SimpleGrantedAuthority::new)
+                    .collect(Collectors.toUnmodifiableList());
+            // uid 클레임이 없는 이전 토큰은 id 없음
+            Number userId = claims.get(USER_ID_KEY, Number.class);
+            return new VerifiedToken(userId == null ? null : userId.longValue(),
+                claims.getSubject(), authorities, claims.getId(),
+                toMillis(claims.getIssuedAt()), toMillis(claims.getExpiration()));
+        }
+
+        // UserDetails 객체를 만들어서 Authentication 리턴
+        private Authentication toAuthentication() {
+            UserDetails principal = new UserPrincipal(userId, subject, authorities, tokenId,
+                issuedAt, expiration);
+            return new UsernamePasswordAuthenticationToken(principal, "", authorities);
+        }
+    }
 }
@@ -1,11 +1,17 @@
 package dingdong.dingdong.config;
 
+import dingdong.dingdong.service.auth.TokenRevocationList;
+import dingdong.dingdong.service.chat.BatchSubscriptionRegistry;
+import dingdong.dingdong.service.chat.StompErrorHandler;
 import dingdong.dingdong.service.chat.StompHandler;
+import dingdong.dingdong.service.ratelimit.RateLimiter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.messaging.support.ChannelInterceptor;
@@ -19,11 +25,17 @@ import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerCo
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     private final StompHandler stompHandler;
+    private final StompErrorHandler stompErrorHandler;
     private final TokenProvider tokenProvider;
+    private final TokenRevocationList tokenRevocationList;
+    private final RateLimiter rateLimiter;
+    private final BatchSubscriptionRegistry batchSubscriptionRegistry;
+    private final ObjectProvider<SimpMessageSendingOperations> messagingTemplate;
 
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
-        config.enableSimpleBroker("/topic");
+        // /queue 는 회원별 에러 알림 (StompHandler.ERROR_DESTINATION)
+        config.enableSimpleBroker("/topic", "/queue");
         config.setApplicationDestinationPrefixes("/pub");
     }
 
@@ -32,6 +44,7 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
         registry.addEndpoint("/ws-stomp")
             .withSockJS();
         // .setAllowedOrigins("*") 이거 때문에 오류나는데.. 알 수가 없다..
+        registry.setErrorHandler(stompErrorHandler);
     }
 
     @Override
@@ -42,6 +55,7 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     @Bean
     @Order(Ordered.HIGHEST_PRECEDENCE + 99)
     public ChannelInterceptor authenticationChannelInterceptor() {
-        return new StompHandler(tokenProvider);
+        return new StompHandler(tokenProvider, tokenRevocationList, rateLimiter,
+            batchSubscriptionRegistry, messagingTemplate);
     }
 }
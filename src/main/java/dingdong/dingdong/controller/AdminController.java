@@ -0,0 +1,36 @@
+package dingdong.dingdong.controller;
+
+import dingdong.dingdong.service.profile.UserMaintenanceService;
+import dingdong.dingdong.service.rating.RatingReconcileService;
+import dingdong.dingdong.util.exception.Result;
+import dingdong.dingdong.util.exception.ResultCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/api/v1/admin")
+public class AdminController {
+
+    private final RatingReconcileService ratingReconcileService;
+    private final UserMaintenanceService userMaintenanceService;
+
+    // 평가 수 재계산 (작업 실행 id 반환)
+    @PostMapping("/rating/reconcile")
+    public ResponseEntity<Result<Long>> reconcileRating() {
+        Long data = ratingReconcileService.reconcile();
+        return Result.toResult(ResultCode.RATING_RECONCILE_SUCCESS, data);
+    }
+
+    // 탈퇴 회원 정보 삭제, 정지 회원 해제 (dryRun 이면 대상 회원 수만 기록, 작업 실행 id 반환)
+    @PostMapping("/user-maintenance")
+    public ResponseEntity<Result<Long>> runUserMaintenance(
+        @RequestParam(defaultValue = "true") boolean dryRun) throws Exception {
+        Long data = userMaintenanceService.runManually(dryRun).getId();
+        return Result.toResult(ResultCode.USER_MAINTENANCE_SUCCESS, data);
+    }
+}
@@ -65,6 +65,13 @@ public class AuthController {
         return Result.toResult(ResultCode.REISSUE_SUCCESS, data);
     }
 
+    // 닉네임 사용 가능 여부 확인
+    @GetMapping("/nickname")
+    public ResponseEntity<Result> checkNickname(@RequestParam String nickname) {
+        authService.checkNickname(nickname);
+        return Result.toResult(ResultCode.CHECK_NICKNAME_SUCCESS);
+    }
+
     // 닉네임 설정
     @PatchMapping("/nickname")
     public ResponseEntity<Result> nickname(@CurrentUser User user, @RequestBody NicknameRequestDto nicknameRequestDto) {
@@ -4,6 +4,8 @@ import dingdong.dingdong.config.TokenProvider;
 import dingdong.dingdong.domain.chat.RedisChatMessage;
 import dingdong.dingdong.domain.user.User;
 import dingdong.dingdong.service.auth.AuthService;
+import dingdong.dingdong.service.auth.TokenRevocationList;
+import dingdong.dingdong.service.chat.ChatMessageSequencer;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.listener.ChannelTopic;
@@ -21,7 +23,9 @@ public class ChatController {
     private final RedisTemplate redisTemplate;
     private final ChannelTopic channelTopic;
     private final TokenProvider tokenProvider;
+    private final TokenRevocationList tokenRevocationList;
     private final AuthService authService;
+    private final ChatMessageSequencer chatMessageSequencer;
 
     /**
      * websocket "/pub/chat/message"로 들어오는 메시징을 처리한다.
@@ -29,13 +33,22 @@ public class ChatController {
     @MessageMapping("/chat/message")
     public void message(RedisChatMessage message, @Header("Authorization") String token) {
         String jwt = token.substring(7);
-        if (StringUtils.hasText(jwt) && tokenProvider.validateToken(jwt)) {
-            Authentication authentication = tokenProvider.getAuthentication(jwt);
+        Authentication authentication =
+            StringUtils.hasText(jwt) ? tokenProvider.resolveAuthentication(jwt) : null;
+        // 연결 후 로그아웃 등으로 폐기된 토큰은 무시
+        if (authentication != null && !tokenRevocationList.isRevoked(authentication)) {
             SecurityContextHolder.getContext().setAuthentication(authentication);
             User user = authService.getUserInfo();
 
             message.setSender(user.getId().toString());
 
+            // 재전송된 메시지는 무시하고, 처음 받은 메시지에 채팅방 순번 발급
+            if (!chatMessageSequencer.isFirstDelivery(message.getRoomId(), message.getSender(),
+                message.getClientMessageId())) {
+                return;
+            }
+            message.setSeq(chatMessageSequencer.next(message.getRoomId()));
+
             // Websocket에 발행된 메시지를 redis로 발행(publish)
             redisTemplate.convertAndSend(channelTopic.getTopic(), message);
         }
@@ -21,6 +21,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RequiredArgsConstructor
@@ -72,8 +73,9 @@ public class ChatRoomController {
     // 채팅 메세지 조회
     @GetMapping("/message/{roomId}")
     public ResponseEntity<Result<List<ChatMessageResponseDto>>> findChatMessagesByRoomId(
-        @CurrentUser User user, @PathVariable Long roomId) {
-        List<ChatMessageResponseDto> data = chatService.findChatMessages(user, roomId);
+        @CurrentUser User user, @PathVariable Long roomId,
+        @RequestParam(required = false) Long after) {
+        List<ChatMessageResponseDto> data = chatService.findChatMessages(user, roomId, after);
         return Result.toResult(ResultCode.CHAT_MESSAGE_READ_SUCCESS, data);
     }
 
@@ -0,0 +1,32 @@
+package dingdong.dingdong.controller;
+
+import dingdong.dingdong.domain.user.CurrentUser;
+import dingdong.dingdong.domain.user.User;
+import dingdong.dingdong.dto.image.ImageUploadRequestDto;
+import dingdong.dingdong.dto.image.ImageUploadResponseDto;
+import dingdong.dingdong.service.image.ImageService;
+import dingdong.dingdong.util.exception.Result;
+import dingdong.dingdong.util.exception.ResultCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/api/v1/image")
+public class ImageController {
+
+    private final ImageService imageService;
+
+    // S3 직접 업로드 주소 발급 (발급받은 key 는 나누기, 프로필 저장 시 전달)
+    @PostMapping("/upload-url")
+    public ResponseEntity<Result<ImageUploadResponseDto>> createUploadUrl(@CurrentUser User user,
+        @RequestBody ImageUploadRequestDto imageUploadRequestDto) {
+        ImageUploadResponseDto data = imageService.createUploadUrl(user.getId(),
+            imageUploadRequestDto);
+        return Result.toResult(ResultCode.IMAGE_UPLOAD_URL_SUCCESS, data);
+    }
+}
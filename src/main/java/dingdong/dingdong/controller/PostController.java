@@ -112,9 +112,9 @@ public class PostController {
 
     // 나누기 수정
     @PostMapping("/edit/{postId}")
-    public ResponseEntity<Result<PostResponseDto>> updatePost(@PathVariable Long postId,
-        @ModelAttribute @Valid PostUpdateRequestDto postUpdateRequestDto) {
-        postService.updatePost(postId, postUpdateRequestDto);
+    public ResponseEntity<Result<PostResponseDto>> updatePost(@CurrentUser User user,
+        @PathVariable Long postId, @ModelAttribute @Valid PostUpdateRequestDto postUpdateRequestDto) {
+        postService.updatePost(user, postId, postUpdateRequestDto);
         PostResponseDto data = PostResponseDto.builder()
             .id(postId)
             .build();
@@ -9,6 +9,9 @@ import lombok.NoArgsConstructor;
 import javax.persistence.*;
 
 @Entity
+@Table(indexes = {
+    @Index(name = "idx_chat_join_user_post", columnList = "user_id, post_id"),
+    @Index(name = "idx_chat_join_post_user", columnList = "post_id, user_id")})
 @Getter
 @Builder
 @NoArgsConstructor
@@ -23,7 +26,7 @@ public class ChatJoin {
     @JoinColumn(name = "post_id")
     private ChatRoom chatRoom;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
     private User user;
 
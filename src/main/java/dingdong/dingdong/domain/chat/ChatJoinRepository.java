@@ -3,8 +3,12 @@ package dingdong.dingdong.domain.chat;
 import dingdong.dingdong.domain.user.User;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface ChatJoinRepository extends JpaRepository<ChatJoin, Long> {
 
@@ -16,6 +20,20 @@ public interface ChatJoinRepository extends JpaRepository<ChatJoin, Long> {
 
     boolean existsByChatRoomAndUser(ChatRoom chatRoom, User user);
 
-    @Query(value = "select distinct user_id from chat_join where post_id in (select post_id from chat_join where user_id = :userId)", nativeQuery = true)
-    List<Long> existsUserByUser(Long userId);
+    @Query("select j.user.id from ChatJoin j where j.chatRoom.id = :roomId")
+    List<Long> findUserIdsByChatRoomId(Long roomId);
+
+    // 두 회원이 함께 참여한 채팅방 (chat_join 의 (user_id, post_id), (post_id, user_id) 인덱스 사용)
+    @Query("select j.chatRoom.id from ChatJoin j, ChatJoin o "
+        + "where j.user.id = :userId and o.chatRoom = j.chatRoom and o.user.id = :otherId")
+    List<Long> findCoParticipantRoomIds(Long userId, Long otherId, Pageable pageable);
+
+    // 두 회원이 같은 채팅방에 참여한 적이 있는지 확인 (모두 세지 않고 처음 찾은 한 건에서 멈춤)
+    default boolean existsCoParticipant(Long userId, Long otherId) {
+        return !findCoParticipantRoomIds(userId, otherId, PageRequest.of(0, 1)).isEmpty();
+    }
+
+    @Modifying
+    @Query("delete from ChatJoin j where j.chatRoom.id = :roomId")
+    int deleteByChatRoomId(@Param("roomId") Long roomId);
 }
@@ -3,11 +3,14 @@ package dingdong.dingdong.domain.chat;
 import dingdong.dingdong.domain.user.User;
 import java.time.LocalDateTime;
 import javax.persistence.Entity;
+import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
+import javax.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -18,6 +21,7 @@ import lombok.NoArgsConstructor;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
+@Table(indexes = @Index(name = "idx_chat_message_room_seq", columnList = "room_id, seq"))
 public class ChatMessage {
 
     @Id
@@ -28,7 +32,7 @@ public class ChatMessage {
     @JoinColumn(name = "room_id")
     private ChatRoom chatRoom;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
     private User sender;
 
@@ -36,4 +40,10 @@ public class ChatMessage {
     private String message;
     private LocalDateTime sendTime;
 
+    // 채팅방 내 메시지 순번
+    private Long seq;
+
+    // 클라이언트가 생성한 메시지 id (재전송 중복 제거용)
+    private String clientMessageId;
+
 }
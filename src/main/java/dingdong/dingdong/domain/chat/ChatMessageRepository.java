@@ -3,8 +3,21 @@ package dingdong.dingdong.domain.chat;
 import dingdong.dingdong.domain.user.User;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long> {
 
     List<ChatMessage> findAllByChatRoom(ChatRoom chatRoom);
+
+    List<ChatMessage> findAllByChatRoomIdAndSeqGreaterThanOrderBySeq(Long roomId, Long seq);
+
+    @Query("select max(m.seq) from ChatMessage m where m.chatRoom.id = :roomId")
+    Long findMaxSeqByChatRoomId(Long roomId);
+
+    // 채팅방 메시지를 최대 limit 개 삭제 (큰 채팅방은 나누어 삭제하여 잠금 시간을 짧게 유지)
+    @Modifying
+    @Query(value = "delete from chat_message where room_id = :roomId limit :limit", nativeQuery = true)
+    int deleteChunkByChatRoomId(@Param("roomId") Long roomId, @Param("limit") int limit);
 }
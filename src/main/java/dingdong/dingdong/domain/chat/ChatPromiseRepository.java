@@ -4,6 +4,7 @@ import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface ChatPromiseRepository extends JpaRepository<ChatPromise, Long> {
 
@@ -11,6 +12,11 @@ public interface ChatPromiseRepository extends JpaRepository<ChatPromise, Long>
 
     boolean existsByChatRoomId(Long id);
 
+    // 채팅 약속 id 는 채팅방 id 와 같음
+    @Modifying
+    @Query("delete from ChatPromise p where p.id = :roomId")
+    int deleteByChatRoomId(@Param("roomId") Long roomId);
+
     @Modifying
     @Query(value = "update chat_promise set type = 1 where promise_end_time <= now() AND type = 0 ", nativeQuery = true)
     void updateByLocalDateTime();
@@ -4,10 +4,17 @@ import dingdong.dingdong.domain.user.User;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.List;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface ChatPromiseVoteRepository extends JpaRepository<ChatPromiseVote, Long> {
 
     List<ChatPromiseVote> findAllByChatRoom(ChatRoom chatRoom);
 
     boolean existsByChatRoomAndUser(ChatRoom chatRoom, User user);
+
+    @Modifying
+    @Query("delete from ChatPromiseVote v where v.chatRoom.id = :roomId")
+    int deleteByChatRoomId(@Param("roomId") Long roomId);
 }
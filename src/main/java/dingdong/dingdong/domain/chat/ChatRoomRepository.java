@@ -3,8 +3,22 @@ package dingdong.dingdong.domain.chat;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.Optional;
+import javax.persistence.LockModeType;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long> {
 
     Optional<ChatRoom> findByPostId(Long postId);
+
+    // 채팅방 잠금 (삭제하는 동안 새 메시지가 저장되지 않도록 함)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select r from ChatRoom r where r.id = :id")
+    Optional<ChatRoom> findByIdForUpdate(@Param("id") Long id);
+
+    @Modifying
+    @Query("delete from ChatRoom r where r.id = :id")
+    int deleteInBulkById(@Param("id") Long id);
 }
@@ -17,6 +17,12 @@ public class RedisChatMessage implements Serializable {
     private String profileImageUrl;
     private MessageType type;
     private String message;
+    private String clientMessageId;
+    private Long seq;
+
+    public void setSeq(Long seq) {
+        this.seq = seq;
+    }
 
     public void setSender(String sender) {
         this.sender = sender;
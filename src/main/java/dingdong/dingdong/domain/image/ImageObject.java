@@ -0,0 +1,52 @@
+package dingdong.dingdong.domain.image;
+
+import dingdong.dingdong.domain.BaseTimeEntity;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * S3 에 저장된 변환 이미지 (원본 SHA-256 + 크기별)
+ * 같은 원본을 다시 올리면 기존 객체를 재사용하고 참조 수만 늘린다.
+ * 객체마다 key 가 다르므로 (images/{hash}/{variant}-{uuid}.jpg) 삭제된 객체의 key 는 다시 사용되지 않는다.
+ * 같은 원본이 동시에 처음 업로드되면 객체가 두 개 생길 수 있고, 각각 참조 수를 따로 관리한다.
+ */
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_image_object_key", columnNames = "object_key"),
+    indexes = @Index(name = "idx_image_object_hash_variant", columnList = "hash, variant"))
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImageObject extends BaseTimeEntity {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "image_object_id", nullable = false)
+    private Long id;
+
+    // 원본 이미지의 SHA-256 (hex)
+    @Column(nullable = false, length = 64)
+    private String hash;
+
+    @Column(nullable = false, length = 20)
+    private String variant;
+
+    @Column(name = "object_key", nullable = false)
+    private String objectKey;
+
+    // 객체 크기 (byte)
+    private Long size;
+
+    // 이 객체를 사용하는 프로필, 나누기 이미지 수
+    @Column(nullable = false)
+    private Long refCount;
+}
@@ -0,0 +1,36 @@
+package dingdong.dingdong.domain.image;
+
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface ImageObjectRepository extends JpaRepository<ImageObject, Long> {
+
+    boolean existsByObjectKey(String objectKey);
+
+    // 주어진 key 중 아직 색인에 있는 key
+    @Query("select i.objectKey from ImageObject i where i.objectKey in :objectKeys")
+    List<String> findObjectKeysIn(@Param("objectKeys") Collection<String> objectKeys);
+
+    List<ImageObject> findByHashAndVariant(String hash, String variant);
+
+    @Query("select i.size from ImageObject i where i.objectKey = :objectKey")
+    Long findSizeByObjectKey(@Param("objectKey") String objectKey);
+
+    // 참조 수 증가 (동시에 실행되어도 누락되지 않도록 DB 에서 증가, 삭제 중인 객체는 제외)
+    @Modifying
+    @Query("update ImageObject i set i.refCount = i.refCount + 1 where i.id = :id and i.refCount > 0")
+    int increaseRefCount(@Param("id") Long id);
+
+    @Modifying
+    @Query("update ImageObject i set i.refCount = i.refCount - 1 where i.objectKey = :objectKey and i.refCount > 0")
+    int decreaseRefCount(@Param("objectKey") String objectKey);
+
+    // 참조가 없는 이미지 삭제 (그 사이에 다시 참조된 경우 삭제되지 않음)
+    @Modifying
+    @Query("delete from ImageObject i where i.objectKey = :objectKey and i.refCount = 0")
+    int deleteUnreferenced(@Param("objectKey") String objectKey);
+}
@@ -0,0 +1,40 @@
+package dingdong.dingdong.domain.image;
+
+import java.time.LocalDateTime;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 삭제 대기 중인 S3 객체
+ * 더 이상 사용하지 않는 이미지의 key 를 기록해 두고 ImageGarbageCollector 가 모아서 삭제한다.
+ */
+@Entity
+@Table(indexes = @Index(name = "idx_image_tombstone_created_at", columnList = "created_at"))
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImageTombstone {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "image_tombstone_id", nullable = false)
+    private Long id;
+
+    @Column(name = "object_key", nullable = false)
+    private String objectKey;
+
+    // 객체 크기 (이전 방식으로 업로드된 이미지는 알 수 없음)
+    private Long size;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
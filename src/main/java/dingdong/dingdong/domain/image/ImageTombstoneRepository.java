@@ -0,0 +1,15 @@
+package dingdong.dingdong.domain.image;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface ImageTombstoneRepository extends JpaRepository<ImageTombstone, Long> {
+
+    // 기준 시각 이전에 기록된 삭제 대기 객체 (오래된 순)
+    @Query("select t from ImageTombstone t where t.createdAt <= :cutoff order by t.id")
+    List<ImageTombstone> findExpired(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+}
@@ -63,6 +63,9 @@ public class Post extends BaseTimeEntity {
     @Column(columnDefinition = "varchar(255) default 'https://dingdongbucket.s3.ap-northeast-2.amazonaws.com/static/default_post.png'")
     private String imageUrl3;
 
+    // 첫 번째 이미지의 목록용 썸네일 (없으면 imageUrl1 사용)
+    private String thumbnailUrl;
+
     @Column(columnDefinition = "Boolean default false")
     private Boolean done;
 
@@ -105,10 +108,11 @@ public class Post extends BaseTimeEntity {
     public void setPeople(int people){ this.people = people; }
     public void setBio(String bio){ this.bio = bio; }
     public void setLocal(String location){ this.location = location; }
-    public void setImageUrl(String imageUrl1, String imageUrl2, String imageUrl3){
+    public void setImageUrl(String imageUrl1, String imageUrl2, String imageUrl3, String thumbnailUrl){
         this.imageUrl1 = imageUrl1;
         this.imageUrl2 = imageUrl2;
         this.imageUrl3 = imageUrl3;
+        this.thumbnailUrl = thumbnailUrl;
     }
 
     @OneToMany(mappedBy = "post", fetch = FetchType.LAZY, cascade = CascadeType.ALL)
@@ -1,16 +1,28 @@
 package dingdong.dingdong.domain.post;
 
 import dingdong.dingdong.dto.post.PostGetResponseDto;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
 public interface PostRepository extends JpaRepository<Post, Long> {
 
+    // 엔티티를 읽지 않고 삭제 (영속성 컨텍스트에 남은 나누기, 채팅방은 비움)
+    @Modifying(clearAutomatically = true)
+    @Query("delete from Post p where p.id = :id")
+    int deleteInBulkById(@Param("id") Long id);
+
+    // 주어진 이미지 주소 중 나누기에서 사용 중인 주소 ({imageUrl1, imageUrl2, imageUrl3})
+    @Query("select p.imageUrl1, p.imageUrl2, p.imageUrl3 from Post p "
+        + "where p.imageUrl1 in :urls or p.imageUrl2 in :urls or p.imageUrl3 in :urls")
+    List<Object[]> findImageUrlsIn(@Param("urls") Collection<String> urls);
+
     // 홈화면 최신순 정렬
     @Query(value = "select * from post where post.local_id = :localId ORDER BY post.created_date DESC",
         countQuery = "select count(*) from post",
@@ -1,7 +1,11 @@
 package dingdong.dingdong.domain.user;
 
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 public interface BlackListRepository extends JpaRepository<BlackList, String> {
 
+    @Query("select b.phone from BlackList b")
+    List<String> findAllPhones();
 }
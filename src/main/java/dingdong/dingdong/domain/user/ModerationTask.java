@@ -0,0 +1,80 @@
+package dingdong.dingdong.domain.user;
+
+import java.time.LocalDateTime;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
+
+/**
+ * 처리 대기 중인 정지, 블랙리스트 작업 (outbox)
+ * 신고와 같은 트랜잭션에서 저장되고, 처리가 끝나면 같은 트랜잭션에서 삭제된다.
+ * 비동기 처리가 실패하거나 서버가 내려가 처리하지 못한 작업은 ModerationRetryJob 이 다시 처리한다.
+ * 재처리가 계속 실패한 작업은 DEAD 로 변경하여 더 이상 처리하지 않고 남겨둔다. (수동 확인용)
+ */
+@Entity
+@Table(indexes = @Index(name = "idx_moderation_task_status_created_at",
+    columnList = "status, created_at"))
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ModerationTask {
+
+    public enum Action {
+        STOP,
+        BLACKLIST
+    }
+
+    public enum Status {
+        PENDING,
+        DEAD
+    }
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "moderation_task_id", nullable = false)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Action action;
+
+    // 작업을 만든 시점의 신고 당한 횟수
+    private Long reportCount;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Enumerated(EnumType.STRING)
+    @ColumnDefault("'PENDING'")
+    @Column(nullable = false)
+    @Builder.Default
+    private Status status = Status.PENDING;
+
+    // 재처리 실패 횟수
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer attempts = 0;
+
+    // 처리 실패 기록 (maxAttempts 번 실패하면 DEAD)
+    public void fail(int maxAttempts) {
+        this.attempts = this.attempts + 1;
+        if (this.attempts >= maxAttempts) {
+            this.status = Status.DEAD;
+        }
+    }
+}
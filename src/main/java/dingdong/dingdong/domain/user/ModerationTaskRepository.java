@@ -0,0 +1,25 @@
+package dingdong.dingdong.domain.user;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import javax.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface ModerationTaskRepository extends JpaRepository<ModerationTask, Long> {
+
+    // 작업 잠금 (비동기 처리와 재처리가 같은 작업을 동시에 처리하지 않도록 함)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select t from ModerationTask t where t.id = :id")
+    Optional<ModerationTask> findByIdForUpdate(@Param("id") Long id);
+
+    // 기준 시각 이전에 저장되었지만 아직 처리되지 않은 작업 (오래된 순, DEAD 제외)
+    @Query("select t.id from ModerationTask t where t.status = :status and t.createdAt <= :cutoff "
+        + "order by t.id")
+    List<Long> findIdsByStatus(@Param("status") ModerationTask.Status status,
+        @Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+}
@@ -8,6 +8,8 @@ import javax.persistence.JoinColumn;
 import javax.persistence.MapsId;
 import javax.persistence.OneToOne;
 import javax.persistence.PrePersist;
+import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -15,12 +17,17 @@ import lombok.NoArgsConstructor;
 import org.hibernate.annotations.ColumnDefault;
 
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = Profile.NICKNAME_CONSTRAINT, columnNames = "nickname"))
 @Getter
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class Profile {
 
+    // 탈퇴한 회원의 표시용 닉네임 (닉네임은 비워서 다른 회원이 사용할 수 있게 함)
+    public static final String LEAVE_NICKNAME = "leave";
+    public static final String NICKNAME_CONSTRAINT = "uk_profile_nickname";
+
     @Id
     private Long id;
 
@@ -34,23 +41,40 @@ public class Profile {
     @ColumnDefault("'https://dingdongbucket.s3.ap-northeast-2.amazonaws.com/static/default_profile.png'")
     private String profileImageUrl;
 
+    // 작은 프로필 이미지 (채팅, 채팅방 사용자 목록), 없으면 profileImageUrl 사용
+    private String profileImageSmallUrl;
+
     @ColumnDefault("0")
     private Long good;
 
     @ColumnDefault("0")
     private Long bad;
 
+    // 신고 당한 횟수
+    @ColumnDefault("0")
+    private Long reportCount;
+
     @PrePersist
     public void prePersist() {
         this.good = this.good == null ? 0 : this.good;
         this.bad = this.bad == null ? 0 : this.bad;
+        this.reportCount = this.reportCount == null ? 0 : this.reportCount;
         this.profileImageUrl = this.profileImageUrl == null
             ? "https://dingdongbucket.s3.ap-northeast-2.amazonaws.com/static/default_profile.png"
             : this.profileImageUrl;
     }
 
-    public void setProfileImageUrl(String path) {
-        this.profileImageUrl = path;
+    public void setProfileImage(String url, String smallUrl) {
+        this.profileImageUrl = url;
+        this.profileImageSmallUrl = smallUrl;
+    }
+
+    // 탈퇴한 회원은 "leave" 로 표시
+    public String getNickname() {
+        if (nickname == null && user != null && user.getAuthority() == Role.UNSUB) {
+            return LEAVE_NICKNAME;
+        }
+        return nickname;
     }
 
     public void setNickname(String nickname) {
@@ -64,6 +88,7 @@ public class Profile {
 
     public void setUnsubscribe() {
         this.profileImageUrl = "https://dingdongbucket.s3.ap-northeast-2.amazonaws.com/static/default_profile.png";
-        this.nickname = "leave";
+        this.profileImageSmallUrl = null;
+        this.nickname = null;
     }
 }
@@ -1,12 +1,43 @@
 package dingdong.dingdong.domain.user;
 
-import org.springframework.data.jpa.repository.JpaRepository;
-
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface ProfileRepository extends JpaRepository<Profile, Long> {
 
     boolean existsByNickname(String nickname);
 
+    // 주어진 이미지 주소 중 프로필에서 사용 중인 주소
+    @Query("select p.profileImageUrl from Profile p where p.profileImageUrl in :urls")
+    List<String> findProfileImageUrlsIn(@Param("urls") Collection<String> urls);
+
     Optional<Profile> findByUserId(Long userId);
+
+    // 추천 수 증가 (다른 평가와 동시에 실행되어도 누락되지 않도록 DB 에서 증가)
+    @Modifying
+    @Query("update Profile p set p.good = p.good + 1 where p.id = :id")
+    int increaseGood(@Param("id") Long id);
+
+    // 비추천 수 증가
+    @Modifying
+    @Query("update Profile p set p.bad = p.bad + 1 where p.id = :id")
+    int increaseBad(@Param("id") Long id);
+
+    // 신고 당한 횟수 증가 (커밋 전까지 행 잠금이 유지되어 같은 회원에 대한 신고는 순서대로 처리됨)
+    @Modifying
+    @Query("update Profile p set p.reportCount = coalesce(p.reportCount, 0) + 1 where p.id = :id")
+    int increaseReportCount(@Param("id") Long id);
+
+    @Query("select p.reportCount from Profile p where p.id = :id")
+    Long findReportCountById(@Param("id") Long id);
+
+    // 닉네임 목록 (id 순으로 나누어 조회)
+    @Query("select p.id, p.nickname from Profile p where p.id > :lastId and p.nickname is not null order by p.id")
+    List<Object[]> findNicknamesAfter(@Param("lastId") Long lastId, Pageable pageable);
 }
@@ -9,6 +9,8 @@ import lombok.NoArgsConstructor;
 import javax.persistence.*;
 
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_rating_sender_receiver", columnNames = {"sender", "receiver"}),
+    indexes = @Index(name = "idx_rating_receiver_type", columnList = "receiver, type"))
 @Getter
 @Builder
 @NoArgsConstructor
@@ -9,5 +9,7 @@ public interface RatingRepository extends JpaRepository<Rating, Long> {
 
     Optional<Rating> findBySenderAndReceiver(User sender, User receiver);
 
+    boolean existsBySenderAndReceiver(User sender, User receiver);
+
     Long countByReceiverAndType(User receiver, RatingType type);
 }
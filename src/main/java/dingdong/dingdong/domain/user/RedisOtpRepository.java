@@ -0,0 +1,126 @@
+package dingdong.dingdong.domain.user;
+
+import java.nio.charset.StandardCharsets;
+import java.security.InvalidKeyException;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 휴대폰 인증 번호 저장소 (Redis)
+ * 인증 번호는 HMAC-SHA256 값으로 저장하고, 확인/시도 횟수 증가/쿨타임 설정은 Lua 스크립트로 한 번에 처리한다.
+ * 인증 번호는 5분 동안 유효하고, 시도 횟수를 초과하면 5분 동안 인증할 수 없다.
+ */
+@Repository
+public class RedisOtpRepository {
+
+    public static final long VERIFIED = 1;
+    public static final long NOT_FOUND = 0;
+    public static final long MISMATCH = -1;
+    public static final long ATTEMPT_LIMIT = -2;
+    public static final long COOL_TIME = -3;
+    public static final long TIME_OUT = -4;
+
+    private static final Duration VALID_TIME = Duration.ofMinutes(5);
+    private static final Duration COOL_TIME_DURATION = Duration.ofMinutes(5);
+    // 시간 초과와 없는 인증 번호를 구분하기 위해 유효 시간보다 길게 보관
+    private static final Duration TTL = VALID_TIME.multipliedBy(2);
+    private static final int MAX_ATTEMPT_COUNT = 5;
+
+    // 새 인증 번호 저장 (시도 횟수 초기화, 쿨타임은 유지)
+    private static final RedisScript<Long> ISSUE = new DefaultRedisScript<>(
+        "redis.call('DEL', KEYS[1]) "
+            + "redis.call('HSET', KEYS[1], 'h', ARGV[1], 't', ARGV[2], 'a', 0) "
+            + "redis.call('PEXPIRE', KEYS[1], ARGV[3]) "
+            + "return 1", Long.class);
+
+    // {결과, 시도 횟수}
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> VERIFY = new DefaultRedisScript<>(
+        "if redis.call('EXISTS', KEYS[2]) == 1 then return {-3, 0} end "
+            + "local v = redis.call('HMGET', KEYS[1], 'h', 't', 'a') "
+            + "if not v[1] then return {0, 0} end "
+            + "if tonumber(ARGV[2]) - tonumber(v[2]) > tonumber(ARGV[3]) then "
+            + "  return {-4, tonumber(v[3])} "
+            + "end "
+            + "if v[1] == ARGV[1] then "
+            + "  redis.call('DEL', KEYS[1]) "
+            + "  return {1, tonumber(v[3])} "
+            + "end "
+            + "local n = redis.call('HINCRBY', KEYS[1], 'a', 1) "
+            + "if n > tonumber(ARGV[4]) then "
+            + "  redis.call('DEL', KEYS[1]) "
+            + "  redis.call('SET', KEYS[2], '1', 'PX', ARGV[5]) "
+            + "  return {-2, n} "
+            + "end "
+            + "return {-1, n}", List.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final SecretKeySpec secretKey;
+
+    public RedisOtpRepository(StringRedisTemplate stringRedisTemplate,
+        @Value("${otp.secret:${jwt.secret}}") String secret) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.secretKey = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256");
+    }
+
+    public void save(String phone, String authNumber) {
+        stringRedisTemplate.execute(ISSUE, List.of(otpKey(phone)), hash(phone, authNumber),
+            String.valueOf(System.currentTimeMillis()), String.valueOf(TTL.toMillis()));
+    }
+
+    /**
+     * 인증 번호 확인 (일치하면 삭제)
+     */
+    @SuppressWarnings("unchecked")
+    public Result verify(String phone, String authNumber) {
+        List<Long> result = stringRedisTemplate.execute(VERIFY,
+            List.of(otpKey(phone), coolTimeKey(phone)),
+            hash(phone, authNumber), String.valueOf(System.currentTimeMillis()),
+            String.valueOf(VALID_TIME.toMillis()), String.valueOf(MAX_ATTEMPT_COUNT),
+            String.valueOf(COOL_TIME_DURATION.toMillis()));
+        if (result == null || result.size() < 2) {
+            return new Result(NOT_FOUND, 0);
+        }
+        return new Result(result.get(0), result.get(1).intValue());
+    }
+
+    // 같은 사용자의 키는 같은 slot 에 저장되도록 hash tag 사용
+    private static String otpKey(String phone) {
+        return "otp:{" + phone + "}";
+    }
+
+    private static String coolTimeKey(String phone) {
+        return "otp:cool:{" + phone + "}";
+    }
+
+    // 짧은 인증 번호이므로 전화번호와 함께 서버 비밀 키로 HMAC (Redis 유출 시 역산 방지)
+    private String hash(String phone, String authNumber) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(secretKey);
+            byte[] digest = mac.doFinal((phone + ":" + authNumber).getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException | InvalidKeyException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class Result {
+
+        private final long status;
+        private final int attemptCount;
+    }
+}
@@ -0,0 +1,95 @@
+package dingdong.dingdong.domain.user;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Refresh Token 저장소 (Redis)
+ * 토큰 원문 대신 SHA-256 값을 저장하고, 재발급에 사용된 이전 토큰 값을 따로 보관하여 재사용을 감지한다.
+ */
+@RequiredArgsConstructor
+@Repository
+public class RedisRefreshTokenRepository {
+
+    // Refresh Token 유효 기간과 동일 (7일)
+    public static final Duration TTL = Duration.ofDays(7);
+
+    public static final long ROTATED = 1;
+    public static final long NOT_FOUND = 0;
+    public static final long REUSED = -1;
+    public static final long MISMATCH = -2;
+
+    // 현재 토큰과 같으면 교체, 이미 사용된 토큰이면 현재 토큰까지 삭제 (재사용 감지)
+    private static final RedisScript<Long> ROTATE = new DefaultRedisScript<>(
+        "local cur = redis.call('GET', KEYS[1]) "
+            + "if not cur then return 0 end "
+            + "if cur == ARGV[1] then "
+            + "  redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3]) "
+            + "  redis.call('SADD', KEYS[2], ARGV[1]) "
+            + "  redis.call('PEXPIRE', KEYS[2], ARGV[3]) "
+            + "  return 1 "
+            + "end "
+            + "if redis.call('SISMEMBER', KEYS[2], ARGV[1]) == 1 then "
+            + "  redis.call('DEL', KEYS[1]) "
+            + "  return -1 "
+            + "end "
+            + "return -2", Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public void save(String phone, String token) {
+        stringRedisTemplate.opsForValue().set(tokenKey(phone), hash(token), TTL);
+    }
+
+    // 저장된 토큰이 없을 때만 저장 (이전 MySQL 저장소에서 옮겨올 때 사용)
+    public void saveIfAbsent(String phone, String token) {
+        stringRedisTemplate.opsForValue().setIfAbsent(tokenKey(phone), hash(token), TTL);
+    }
+
+    public boolean existsByPhone(String phone) {
+        return Boolean.TRUE.equals(stringRedisTemplate.hasKey(tokenKey(phone)));
+    }
+
+    /**
+     * 이전 토큰을 새 토큰으로 교체
+     * @return ROTATED, NOT_FOUND, REUSED, MISMATCH
+     */
+    public long rotate(String phone, String oldToken, String newToken) {
+        Long result = stringRedisTemplate.execute(ROTATE,
+            List.of(tokenKey(phone), usedKey(phone)),
+            hash(oldToken), hash(newToken), String.valueOf(TTL.toMillis()));
+        return result == null ? NOT_FOUND : result;
+    }
+
+    public boolean delete(String phone) {
+        return Boolean.TRUE.equals(stringRedisTemplate.delete(tokenKey(phone)));
+    }
+
+    // 같은 사용자의 키는 같은 slot 에 저장되도록 hash tag 사용
+    private static String tokenKey(String phone) {
+        return "refresh:{" + phone + "}";
+    }
+
+    private static String usedKey(String phone) {
+        return "refresh:used:{" + phone + "}";
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                .digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -8,6 +8,7 @@ import lombok.NoArgsConstructor;
 import javax.persistence.Entity;
 import javax.persistence.Id;
 
+// Refresh Token 은 RedisRefreshTokenRepository 에 저장 (이 테이블은 전환 기간 동안 읽기용으로만 사용)
 @Entity
 @Getter
 @Builder
@@ -7,6 +7,7 @@ import javax.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_report_sender_receiver", columnNames = {"sender", "receiver"}))
 @Getter
 @Builder
 @NoArgsConstructor
@@ -11,9 +11,12 @@ public class UserAccount extends User {
 
     private Auth auth;
 
-    public UserAccount(Auth auth, String authority) {
+    private Long userId;
+
+    public UserAccount(Auth auth, Long userId, String authority) {
         super(auth.getPhone(), auth.getAuthNumber(),
             List.of(new SimpleGrantedAuthority(authority)));
         this.auth = auth;
+        this.userId = userId;
     }
 }
@@ -0,0 +1,30 @@
+package dingdong.dingdong.domain.user;
+
+import java.util.Collection;
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+@Getter
+public class UserPrincipal extends User {
+
+    // 회원 id (JWT uid 클레임)
+    private final Long id;
+
+    // 토큰 id (JWT jti 클레임)
+    private final String tokenId;
+
+    // 토큰 발급, 만료 시각 (ms)
+    private final long issuedAt;
+    private final long expiresAt;
+
+    public UserPrincipal(Long id, String phone,
+        Collection<? extends GrantedAuthority> authorities, String tokenId, long issuedAt,
+        long expiresAt) {
+        super(phone, "", authorities);
+        this.id = id;
+        this.tokenId = tokenId;
+        this.issuedAt = issuedAt;
+        this.expiresAt = expiresAt;
+    }
+}
@@ -1,8 +1,9 @@
 package dingdong.dingdong.domain.user;
 
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface UserRepository extends JpaRepository<User, Long> {
 
@@ -10,11 +11,6 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     User findByPhone(String phone);
 
-    @Modifying
-    @Query(value = "update user set phone = null, modified_date = now() where deleted_date + INTERVAL 12 DAY <= now()", nativeQuery = true)
-    void deleteUnsubUser();
-
-    @Modifying
-    @Query(value = "update user set authority = 1, modified_date = now() where authority = 2 and modified_date + INTERVAL 14 DAY <= now()", nativeQuery = true)
-    void derestrictStoppedUser();
+    @Query("select u.phone from User u where u.authority = :authority and u.phone is not null")
+    List<String> findPhonesByAuthority(@Param("authority") Role authority);
 }
@@ -1,6 +1,5 @@
 package dingdong.dingdong.dto.auth;
 
-import dingdong.dingdong.domain.user.Auth;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -14,9 +13,9 @@ public class AuthResponseDto {
 
     private Integer attemptCount;
 
-    public static AuthResponseDto of(Auth auth) {
+    public static AuthResponseDto of(Integer attemptCount) {
         return AuthResponseDto.builder()
-            .attemptCount(auth.getAttemptCount())
+            .attemptCount(attemptCount)
             .build();
     }
 }
@@ -2,6 +2,7 @@ package dingdong.dingdong.dto.chat;
 
 import dingdong.dingdong.domain.chat.ChatMessage;
 import dingdong.dingdong.domain.chat.MessageType;
+import dingdong.dingdong.service.profile.CachedProfile;
 import java.time.LocalDateTime;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -28,17 +29,19 @@ public class ChatMessageResponseDto {
 
     private LocalDateTime sendTime;
 
-    public static ChatMessageResponseDto from(ChatMessage chatMessage) {
+    private Long seq;
+
+    public static ChatMessageResponseDto from(ChatMessage chatMessage, CachedProfile sender) {
+        Long senderId = chatMessage.getSender().getId();
         return ChatMessageResponseDto.builder()
-            .userId(chatMessage.getSender().getId())
-            .nickname(chatMessage.getSender().getProfile().getNickname())
-            .profileImageUrl(chatMessage.getSender().getProfile().getProfileImageUrl())
-            .isOwner(
-                chatMessage.getChatRoom().getPost().getUser().getId() == chatMessage.getSender()
-                    .getId())
+            .userId(senderId)
+            .nickname(sender == null ? null : sender.getNickname())
+            .profileImageUrl(sender == null ? null : sender.getProfileImageSmallUrl())
+            .isOwner(chatMessage.getChatRoom().getPost().getUser().getId().equals(senderId))
             .type(chatMessage.getType())
             .message(chatMessage.getMessage())
             .sendTime(chatMessage.getSendTime())
+            .seq(chatMessage.getSeq())
             .build();
     }
 }
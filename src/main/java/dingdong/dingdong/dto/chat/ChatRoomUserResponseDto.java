@@ -1,7 +1,7 @@
 package dingdong.dingdong.dto.chat;
 
 import dingdong.dingdong.domain.chat.ChatRoom;
-import dingdong.dingdong.domain.user.User;
+import dingdong.dingdong.service.profile.CachedProfile;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -21,12 +21,13 @@ public class ChatRoomUserResponseDto {
 
     private Boolean isOwner;
 
-    public static ChatRoomUserResponseDto from(ChatRoom chatRoom, User user) {
+    public static ChatRoomUserResponseDto from(ChatRoom chatRoom, Long userId,
+        CachedProfile profile) {
         return ChatRoomUserResponseDto.builder()
-            .userId(user.getId())
-            .nickname(user.getProfile().getNickname())
-            .profileImageUrl(user.getProfile().getProfileImageUrl())
-            .isOwner(chatRoom.getPost().getUser().getId() == user.getId())
+            .userId(userId)
+            .nickname(profile == null ? null : profile.getNickname())
+            .profileImageUrl(profile == null ? null : profile.getProfileImageSmallUrl())
+            .isOwner(chatRoom.getPost().getUser().getId().equals(userId))
             .build();
     }
 }
@@ -0,0 +1,19 @@
+package dingdong.dingdong.dto.image;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImageUploadRequestDto {
+
+    // image/jpeg, image/png
+    private String contentType;
+
+    // 업로드할 파일 크기 (byte)
+    private Long size;
+}
@@ -0,0 +1,22 @@
+package dingdong.dingdong.dto.image;
+
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImageUploadResponseDto {
+
+    // 나누기, 프로필 저장 시 전달할 key
+    private String key;
+
+    // Content-Type, Content-Length 헤더와 함께 PUT 으로 업로드할 주소
+    private String uploadUrl;
+
+    private LocalDateTime expiredAt;
+}
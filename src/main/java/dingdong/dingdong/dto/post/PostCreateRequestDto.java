@@ -31,6 +31,9 @@ public class PostCreateRequestDto {
     @JsonIgnore
     private List<MultipartFile> postImages;
 
+    // S3 에 직접 업로드한 이미지 key (POST /api/v1/image/upload-url)
+    private List<String> postImageKeys;
+
 
 
 }
@@ -2,6 +2,7 @@ package dingdong.dingdong.dto.post;
 
 import dingdong.dingdong.domain.post.Post;
 import dingdong.dingdong.domain.post.Tag;
+import dingdong.dingdong.service.profile.CachedProfile;
 import lombok.*;
 
 import java.time.LocalDateTime;
@@ -52,7 +53,7 @@ public class PostDetailResponseDto {
 
     private List<String> tags;
 
-    public static PostDetailResponseDto from(Post post, List<Tag> tags) {
+    public static PostDetailResponseDto from(Post post, List<Tag> tags, CachedProfile writer) {
         return PostDetailResponseDto.builder()
             .category(post.getCategory().getName())
             .title(post.getTitle())
@@ -68,10 +69,10 @@ public class PostDetailResponseDto {
             .done(post.getDone())
             .location(post.getLocation())
             .userId(post.getUser().getId())
-            .nickname(post.getUser().getProfile().getNickname())
-            .profileImageUrl(post.getUser().getProfile().getProfileImageUrl())
-            .good(post.getUser().getProfile().getGood())
-            .bad(post.getUser().getProfile().getBad())
+            .nickname(writer.getNickname())
+            .profileImageUrl(writer.getProfileImageUrl())
+            .good(writer.getGood())
+            .bad(writer.getBad())
             .tags(tags.stream().map(t -> "#" + t.getName()).collect(Collectors.toList()))
             .build();
     }
@@ -46,7 +46,7 @@ public class PostGetResponseDto {
             .bio(post.getBio())
             .location(post.getLocation())
             .done(post.getDone())
-            .imageUrl1(post.getImageUrl1())
+            .imageUrl1(post.getThumbnailUrl() != null ? post.getThumbnailUrl() : post.getImageUrl1())
             .done(post.getDone())
             .createdDate(post.getCreatedDate())
             .build();
@@ -29,4 +29,7 @@ public class PostUpdateRequestDto {
 
     @JsonIgnore
     private List<MultipartFile> postImages;
+
+    // S3 에 직접 업로드한 이미지 key (POST /api/v1/image/upload-url)
+    private List<String> postImageKeys;
 }
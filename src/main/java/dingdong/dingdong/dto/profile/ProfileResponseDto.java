@@ -1,6 +1,6 @@
 package dingdong.dingdong.dto.profile;
 
-import dingdong.dingdong.domain.user.Profile;
+import dingdong.dingdong.service.profile.CachedProfile;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -18,9 +18,9 @@ public class ProfileResponseDto {
 
     private String profileImageUrl;
 
-    public static ProfileResponseDto from(Profile profile) {
+    public static ProfileResponseDto from(CachedProfile profile) {
         return ProfileResponseDto.builder()
-            .userId(profile.getId())
+            .userId(profile.getUserId())
             .nickname(profile.getNickname())
             .profileImageUrl(profile.getProfileImageUrl())
             .build();
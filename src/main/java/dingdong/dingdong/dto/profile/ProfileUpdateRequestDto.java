@@ -15,5 +15,7 @@ import org.springframework.web.multipart.MultipartFile;
 public class ProfileUpdateRequestDto {
 
     private MultipartFile profileImage;
+    // S3 에 직접 업로드한 이미지 key (POST /api/v1/image/upload-url)
+    private String profileImageKey;
     private String nickname;
 }
@@ -1,6 +1,6 @@
 package dingdong.dingdong.dto.rating;
 
-import dingdong.dingdong.domain.user.Profile;
+import dingdong.dingdong.service.profile.CachedProfile;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -18,7 +18,7 @@ public class RatingResponseDto {
 
     private Long total;
 
-    public static RatingResponseDto from(Profile profile) {
+    public static RatingResponseDto from(CachedProfile profile) {
         return RatingResponseDto.builder()
             .good(profile.getGood())
             .bad(profile.getBad())
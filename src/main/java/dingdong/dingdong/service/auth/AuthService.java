@@ -1,22 +1,20 @@
 package dingdong.dingdong.service.auth;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import dingdong.dingdong.config.TokenProvider;
 import dingdong.dingdong.domain.user.Auth;
 import dingdong.dingdong.domain.user.AuthRepository;
-import dingdong.dingdong.domain.user.BlackListRepository;
 import dingdong.dingdong.domain.user.Local;
 import dingdong.dingdong.domain.user.LocalRepository;
 import dingdong.dingdong.domain.user.Profile;
 import dingdong.dingdong.domain.user.ProfileRepository;
-import dingdong.dingdong.domain.user.RefreshToken;
+import dingdong.dingdong.domain.user.RedisOtpRepository;
+import dingdong.dingdong.domain.user.RedisRefreshTokenRepository;
 import dingdong.dingdong.domain.user.RefreshTokenRepository;
 import dingdong.dingdong.domain.user.Role;
 import dingdong.dingdong.domain.user.User;
 import dingdong.dingdong.domain.user.UserAccount;
+import dingdong.dingdong.domain.user.UserPrincipal;
 import dingdong.dingdong.domain.user.UserRepository;
-import dingdong.dingdong.dto.auth.ApplicationNaverSENS;
 import dingdong.dingdong.dto.auth.AuthRequestDto;
 import dingdong.dingdong.dto.auth.AuthResponseDto;
 import dingdong.dingdong.dto.auth.LocalRequestDto;
@@ -24,44 +22,36 @@ import dingdong.dingdong.dto.auth.LocalResponseDto;
 import dingdong.dingdong.dto.auth.MessageRequestDto;
 import dingdong.dingdong.dto.auth.MessageResponseDto;
 import dingdong.dingdong.dto.auth.NicknameRequestDto;
-import dingdong.dingdong.dto.auth.SendSmsMessage;
-import dingdong.dingdong.dto.auth.SendSmsRequestDto;
 import dingdong.dingdong.dto.auth.SendSmsResponseDto;
 import dingdong.dingdong.dto.auth.TokenDto;
 import dingdong.dingdong.dto.auth.TokenRequestDto;
+import dingdong.dingdong.service.image.ImageService;
+import dingdong.dingdong.service.profile.ProfileCache;
+import dingdong.dingdong.service.ratelimit.RateLimitPolicy;
+import dingdong.dingdong.service.ratelimit.RateLimiter;
+import dingdong.dingdong.service.sms.SmsBatchDispatcher;
+import dingdong.dingdong.service.sms.SmsGateway;
 import dingdong.dingdong.util.SecurityUtil;
 import dingdong.dingdong.util.exception.AuthenticationException;
 import dingdong.dingdong.util.exception.DuplicateException;
 import dingdong.dingdong.util.exception.ForbiddenException;
 import dingdong.dingdong.util.exception.JwtAuthException;
+import dingdong.dingdong.util.exception.LimitException;
 import dingdong.dingdong.util.exception.ResourceNotFoundException;
 import dingdong.dingdong.util.exception.ResultCode;
-import java.net.URI;
-import java.net.URISyntaxException;
-import java.nio.charset.StandardCharsets;
-import java.security.InvalidKeyException;
-import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
-import java.sql.Timestamp;
 import java.time.Duration;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.Random;
+import java.util.UUID;
 import java.util.stream.Collectors;
-import javax.crypto.Mac;
-import javax.crypto.spec.SecretKeySpec;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.tomcat.util.codec.binary.Base64;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.config.annotation.authentication.builders.AuthenticationManagerBuilder;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
@@ -69,27 +59,44 @@ import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.RestTemplate;
 
 @Slf4j
 @RequiredArgsConstructor
 @Service
 public class AuthService implements UserDetailsService {
 
-    private final ApplicationNaverSENS applicationNaverSENS;
+    // getInstanceStrong 은 엔트로피가 부족하면 블로킹되므로 공유 인스턴스 사용
+    private static final SecureRandom RANDOM = new SecureRandom();
 
     private final UserRepository userRepository;
     private final AuthRepository authRepository;
     private final ProfileRepository profileRepository;
-    private final BlackListRepository blackListRepository;
     private final LocalRepository localRepository;
     private final RefreshTokenRepository refreshTokenRepository;
-    private final AuthenticationManagerBuilder authenticationManagerBuilder;
+    private final RedisRefreshTokenRepository redisRefreshTokenRepository;
+    private final RedisOtpRepository redisOtpRepository;
     private final TokenProvider tokenProvider;
     private final PasswordEncoder passwordEncoder;
+    private final CurrentUserCache currentUserCache;
+    private final TokenRevocationList tokenRevocationList;
+    private final PhoneFilter phoneFilter;
+    private final NicknameIndex nicknameIndex;
+    private final ProfileCache profileCache;
+    private final ImageService imageService;
+    private final SmsGateway smsGateway;
+    private final SmsBatchDispatcher smsBatchDispatcher;
+    private final RateLimiter rateLimiter;
 
     // 로그인한 유저 정보 반환 to @CurrentUser
+    // JWT 에 회원 id 가 있으면 캐시에서 조회하고, 없거나 캐시에서 찾지 못하면 DB 조회
     public User getUserInfo() {
+        Long userId = SecurityUtil.getUserId();
+        if (userId != null) {
+            User user = currentUserCache.get(userId);
+            if (user != null) {
+                return user;
+            }
+        }
         return userRepository.findByPhone(SecurityUtil.getUserName());
     }
 
@@ -102,52 +109,50 @@ public class AuthService implements UserDetailsService {
         if (auth == null || user == null) {
             throw new UsernameNotFoundException(phone);
         }
-        return new UserAccount(auth, user.getAuthority().name());
+        return new UserAccount(auth, user.getId(), user.getAuthority().name());
     }
 
-    // 로그인
-    @Transactional
-    public TokenDto login(AuthRequestDto authRequestDto) {
-        // 1. Login ID/PW 를 기반으로 AuthenticationToken 생성
-        UsernamePasswordAuthenticationToken authenticationToken = authRequestDto.toAuthentication();
-
-        // 2. 검증 (사용자 비밀번호 체크) 이 이루어지는 부분
-        //    authenticate 메서드가 실행이 될 때 loadUserByUsername 메서드가 실행됨
-        Authentication authentication = authenticationManagerBuilder.getObject()
-            .authenticate(authenticationToken);
+    // 로그인 (인증 번호 확인 후 비밀번호 확인 없이 바로 토큰 발급)
+    private TokenDto login(User user) {
+        List<SimpleGrantedAuthority> authorities = List
+            .of(new SimpleGrantedAuthority(user.getAuthority().name()));
+        UserPrincipal principal = new UserPrincipal(user.getId(), user.getPhone(), authorities,
+            null, 0, 0);
+        Authentication authentication = new UsernamePasswordAuthenticationToken(principal, "",
+            authorities);
 
-        // 3. 인증 정보를 기반으로 JWT 토큰 생성
+        // JWT 토큰 생성
         TokenDto tokenDto = tokenProvider.generateTokenDto(authentication);
 
-        // 4. RefreshToken 저장
-        RefreshToken refreshToken = RefreshToken.builder()
-            .phone(authentication.getName())
-            .value(tokenDto.getRefreshToken())
-            .build();
-
-        refreshTokenRepository.save(refreshToken);
+        // RefreshToken 저장 (Redis, 7일 후 만료)
+        redisRefreshTokenRepository.save(user.getPhone(), tokenDto.getRefreshToken());
 
-        SecurityContextHolder.getContext().setAuthentication(authenticationToken);
-
-        // 5. 토큰 발급
         return tokenDto;
     }
 
     // 로그아웃
     @Transactional
     public void logout(User user) {
-        //refresh token 삭제
-        RefreshToken targetRefreshToken = refreshTokenRepository.findById(user.getPhone())
-            .orElseThrow(() -> new ResourceNotFoundException(ResultCode.USER_NOT_FOUND));
-        refreshTokenRepository.delete(targetRefreshToken);
-        //access token
+        //refresh token 삭제 (전환 기간 동안은 MySQL 에 남아있는 토큰도 삭제)
+        boolean deleted = redisRefreshTokenRepository.delete(user.getPhone());
+        if (refreshTokenRepository.existsById(user.getPhone())) {
+            refreshTokenRepository.deleteById(user.getPhone());
+            deleted = true;
+        }
+        if (!deleted) {
+            throw new ResourceNotFoundException(ResultCode.USER_NOT_FOUND);
+        }
+        //access token 폐기 (만료 시각까지)
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null) {
+            tokenRevocationList.revokeToken(authentication);
+        }
     }
 
     // 회원 가입
-    @Transactional
-    public TokenDto signup(AuthRequestDto authRequestDto) {
+    private TokenDto signup(String phone) {
         User user = User.builder()
-            .phone(authRequestDto.getPhone())
+            .phone(phone)
             .authority(Role.REGULAR)
             .build();
         Profile profile = Profile.builder()
@@ -157,7 +162,7 @@ public class AuthService implements UserDetailsService {
         userRepository.save(user);
         profileRepository.save(profile);
 
-        return login(authRequestDto);
+        return login(user);
     }
 
     // 토큰 재발급
@@ -172,48 +177,59 @@ public class AuthService implements UserDetailsService {
         Authentication authentication = tokenProvider
             .getAuthentication(tokenRequestDto.getAccessToken());
 
-        // 3. 저장소에서 Member ID 를 기반으로 Refresh Token 값 가져옴
-        RefreshToken refreshToken = refreshTokenRepository.findById(authentication.getName())
-            .orElseThrow(() -> new JwtAuthException(ResultCode.REFRESH_TOKEN_NOT_FOUND));
-
-        // 4. Refresh Token 일치하는지 검사
-        if (!refreshToken.getValue().equals(tokenRequestDto.getRefreshToken())) {
-            throw new JwtAuthException(ResultCode.MISMATCH_REFRESH_TOKEN);
+        // 3. 전환 기간 동안 MySQL 에만 있는 Refresh Token 은 Redis 로 옮김
+        String phone = authentication.getName();
+        if (!redisRefreshTokenRepository.existsByPhone(phone)) {
+            refreshTokenRepository.findById(phone).ifPresent(refreshToken -> {
+                redisRefreshTokenRepository.saveIfAbsent(phone, refreshToken.getValue());
+                refreshTokenRepository.delete(refreshToken);
+            });
         }
 
-        // 5. 새로운 토큰 생성
+        // 4. 새로운 토큰 생성
         TokenDto tokenDto = tokenProvider.generateTokenDto(authentication);
 
-        // 6. 저장소 정보 업데이트
-        RefreshToken newRefreshToken = refreshToken.updateValue(tokenDto.getRefreshToken());
-        refreshTokenRepository.save(newRefreshToken);
+        // 5. 저장된 Refresh Token 과 일치하면 새 토큰으로 교체 (원자적으로 비교 후 교체)
+        long result = redisRefreshTokenRepository
+            .rotate(phone, tokenRequestDto.getRefreshToken(), tokenDto.getRefreshToken());
+        if (result == RedisRefreshTokenRepository.NOT_FOUND) {
+            throw new JwtAuthException(ResultCode.REFRESH_TOKEN_NOT_FOUND);
+        }
+        if (result == RedisRefreshTokenRepository.REUSED) {
+            // 이미 사용된 토큰이 다시 들어오면 탈취로 보고 현재 토큰도 폐기 (재로그인 필요)
+            log.warn("Refresh Token 재사용 감지 : {}", phone);
+            throw new JwtAuthException(ResultCode.REUSED_REFRESH_TOKEN);
+        }
+        if (result == RedisRefreshTokenRepository.MISMATCH) {
+            throw new JwtAuthException(ResultCode.MISMATCH_REFRESH_TOKEN);
+        }
 
         // 토큰 발급
         return tokenDto;
     }
 
-    // 블랙리스트 확인
-    @Transactional(readOnly = true)
+    // 블랙리스트 확인 (메모리의 블랙리스트로 확인)
     public void checkBlackList(String phone) {
-        if (blackListRepository.existsById(phone)) {
+        if (phoneFilter.isBlackListed(phone)) {
             throw new ForbiddenException(ResultCode.AUTH_FAIL_FORBIDDEN);
         }
     }
 
-    // 탈퇴한 회원 확인
+    // 탈퇴한 회원 확인 (Bloom Filter 에 걸린 경우에만 DB 조회)
     @Transactional(readOnly = true)
     public void checkUnsub(String phone) {
-        if (userRepository.existsByPhone(phone)) {
-            if (userRepository.findByPhone(phone).getAuthority() == Role.UNSUB) {
-                throw new ForbiddenException(ResultCode.AUTH_FAIL_UNSUB);
-            }
+        if (!phoneFilter.mightBeUnsubscribed(phone)) {
+            return;
+        }
+        User user = userRepository.findByPhone(phone);
+        if (user != null && user.getAuthority() == Role.UNSUB) {
+            throw new ForbiddenException(ResultCode.AUTH_FAIL_UNSUB);
         }
     }
 
-    // 닉네임 중복 확인
-    @Transactional(readOnly = true)
+    // 닉네임 중복 확인 (DB 조회 없이 닉네임 목록으로 확인)
     public void checkNickname(String nickname) {
-        if (profileRepository.existsByNickname(nickname)) {
+        if (!nicknameIndex.isAvailable(nickname)) {
             throw new DuplicateException(ResultCode.NICKNAME_DUPLICATION);
         }
     }
@@ -221,15 +237,22 @@ public class AuthService implements UserDetailsService {
     // 닉네임 설정
     @Transactional
     public void setNickname(User user, NicknameRequestDto nicknameRequestDto) {
-        if (user.getProfile().getNickname() != null && user.getProfile().getNickname()
-            .equals(nicknameRequestDto.getNickname())) {
+        String previous = user.getProfile().getNickname();
+        if (previous != null && previous.equals(nicknameRequestDto.getNickname())) {
             return;
         }
-        checkNickname(nicknameRequestDto.getNickname());
         Profile profile = profileRepository.findById(user.getId())
             .orElseThrow(() -> new ResourceNotFoundException(ResultCode.PROFILE_NOT_FOUND));
+        // 닉네임 선점 후 저장 (동시에 같은 닉네임을 저장하면 unique 제약 조건으로 실패)
+        nicknameIndex.reserve(nicknameRequestDto.getNickname(), previous);
         profile.setNickname(nicknameRequestDto.getNickname());
-        profileRepository.save(profile);
+        try {
+            profileRepository.saveAndFlush(profile);
+        } catch (DataIntegrityViolationException e) {
+            throw new DuplicateException(ResultCode.NICKNAME_DUPLICATION);
+        }
+        currentUserCache.invalidate(user.getId());
+        profileCache.invalidate(user.getId());
     }
 
     // 동네 목록 조회
@@ -246,16 +269,47 @@ public class AuthService implements UserDetailsService {
             .orElseThrow(() -> new ResourceNotFoundException(ResultCode.LOCAL_NOT_FOUND));
         Local local2 = localRepository.findById(localRequestDto.getLocal2())
             .orElseThrow(() -> new ResourceNotFoundException(ResultCode.LOCAL_NOT_FOUND));
-        user.setLocal(local1, local2);
-        userRepository.save(user);
+        // @CurrentUser 는 캐시의 복사본이므로 영속 상태의 회원을 수정
+        User managed = userRepository.findById(user.getId())
+            .orElseThrow(() -> new ResourceNotFoundException(ResultCode.USER_NOT_FOUND));
+        managed.setLocal(local1, local2);
+        currentUserCache.invalidate(user.getId());
     }
 
     // 휴대폰 인증 번호 확인
     @Transactional(noRollbackFor = {AuthenticationException.class, UsernameNotFoundException.class})
     public Map<AuthType, TokenDto> auth(AuthRequestDto authRequestDto) {
-        checkBlackList(authRequestDto.getPhone());
-        checkUnsub(authRequestDto.getPhone());
+        String phone = authRequestDto.getPhone();
+        checkBlackList(phone);
+        checkUnsub(phone);
+
+        // 인증 번호 확인, 시도 횟수 증가, 쿨타임 설정을 Redis 에서 한 번에 처리
+        RedisOtpRepository.Result result = redisOtpRepository
+            .verify(phone, authRequestDto.getAuthNumber());
+        if (result.getStatus() == RedisOtpRepository.NOT_FOUND) {
+            // 전환 기간 동안 Auth 테이블에만 있는 인증 정보 확인 (테스트 전화번호 포함)
+            checkLegacyAuth(authRequestDto);
+        } else if (result.getStatus() == RedisOtpRepository.COOL_TIME) {
+            throw new AuthenticationException(ResultCode.AUTH_COOL_TIME_LIMIT);
+        } else if (result.getStatus() == RedisOtpRepository.TIME_OUT) {
+            throw new AuthenticationException(ResultCode.AUTH_TIME_OUT);
+        } else if (result.getStatus() == RedisOtpRepository.ATTEMPT_LIMIT) {
+            throw new AuthenticationException(ResultCode.AUTH_ATTEMPT_COUNT_LIMIT);
+        } else if (result.getStatus() == RedisOtpRepository.MISMATCH) {
+            throw new AuthenticationException(ResultCode.AUTH_FAIL,
+                AuthResponseDto.of(result.getAttemptCount()));
+        }
+
+        User user = userRepository.findByPhone(phone);
+        if (user != null) {
+            return Map.of(AuthType.LOGIN, login(user));
+        } else {
+            return Map.of(AuthType.SIGNUP, signup(phone));
+        }
+    }
 
+    // Auth 테이블의 인증 정보 확인 (Redis 로 옮기기 전에 발급된 인증 번호)
+    private void checkLegacyAuth(AuthRequestDto authRequestDto) {
         Auth auth = authRepository.findByPhone(authRequestDto.getPhone())
             .orElseThrow(() -> new ResourceNotFoundException(ResultCode.AUTH_NOT_FOUND));
 
@@ -272,9 +326,7 @@ public class AuthService implements UserDetailsService {
 
         // 인증 번호가 옳지 않을 경우
         // 인증 시도 횟수가 초과되었을 경우
-        String encAuthNumber = auth.getAuthNumber();
-        String authNumber = authRequestDto.getAuthNumber();
-        if (!passwordEncoder.matches(authNumber, encAuthNumber)) {
+        if (!passwordEncoder.matches(authRequestDto.getAuthNumber(), auth.getAuthNumber())) {
             auth.plusAttemptCount();
 
             // 인증 시도 제한 횟수
@@ -291,13 +343,8 @@ public class AuthService implements UserDetailsService {
             }
             authRepository.save(auth);
 
-            throw new AuthenticationException(ResultCode.AUTH_FAIL, AuthResponseDto.of(auth));
-        }
-
-        if (userRepository.existsByPhone(authRequestDto.getPhone())) {
-            return Map.of(AuthType.LOGIN, login(authRequestDto));
-        } else {
-            return Map.of(AuthType.SIGNUP, signup(authRequestDto));
+            throw new AuthenticationException(ResultCode.AUTH_FAIL,
+                AuthResponseDto.of(auth.getAttemptCount()));
         }
     }
 
@@ -314,7 +361,8 @@ public class AuthService implements UserDetailsService {
     }
 
     // 휴대폰 인증 번호 전송
-    @Transactional
+    // 인증 번호는 Redis 에 저장하고, 문자는 묶음 전송 (요청 스레드에서 SENS 응답을 기다리지 않음)
+    @Transactional(readOnly = true)
     public MessageResponseDto sendSms(MessageRequestDto messageRequestDto) {
         // 테스트 전화번호 제외하도록 추가(테스트 기간 이후 삭제 예정)
         if (checkTest(messageRequestDto.getTo())) {
@@ -330,137 +378,68 @@ public class AuthService implements UserDetailsService {
 
         checkBlackList(messageRequestDto.getTo());
         checkUnsub(messageRequestDto.getTo());
-        try {
-            Long time = Timestamp.valueOf(LocalDateTime.now()).getTime();
-            String code = makeRandom();
-            String content = String.format("[띵-동] 인증번호 [%s] *타인에게 노출하지 마세요.", code);
-            SendSmsMessage sendSmsMessage = SendSmsMessage.builder()
-                .to(messageRequestDto.getTo())
-                .content(content)
-                .build();
-            List<SendSmsMessage> messages = new ArrayList<>();
-
-            // 보내는 사람에게 내용을 보냄
-            messages.add(sendSmsMessage);
-
-            // 전체 json에 대해 메시지를 만든다.
-            SendSmsRequestDto sendSmsRequestDto = SendSmsRequestDto.builder()
-                .type("SMS")
-                .contentType("COMM")
-                .countryCode("82")
-                .from(applicationNaverSENS.getSendFrom())
-                .content("Default message")
-                .messages(messages)
-                .build();
 
-            // 쌓아온 바디를 json 형태로 변환시켜준다.
-            ObjectMapper objectMapper = new ObjectMapper();
-            String jsonBody = objectMapper.writeValueAsString(sendSmsRequestDto);
-
-            // 헤더에서 여러 설정값들을 잡아준다.
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            headers.set("x-ncp-apigw-timestamp", time.toString());
-            headers.set("x-ncp-iam-access-key", applicationNaverSENS.getAccessKey());
-
-            // 제일 중요한 signature 서명하기.
-            String sign = makeSignature(time);
-            headers.set("x-ncp-apigw-signature-v2", sign);
-
-            // 위에서 조립한 jsonBody와 헤더를 조립한다.
-            HttpEntity<String> body = new HttpEntity<>(jsonBody, headers);
-
-            // restTemplate로 post 요청을 보낸다. 성공하면 202 코드가 반환된다.
-            RestTemplate restTemplate = new RestTemplate();
-            restTemplate.setRequestFactory(new HttpComponentsClientHttpRequestFactory());
-            SendSmsResponseDto sendSmsResponseDto = restTemplate.postForObject(new URI(
-                "https://sens.apigw.ntruss.com/sms/v2/services/" + applicationNaverSENS
-                    .getServiceId()
-                    + "/messages"), body, SendSmsResponseDto.class);
-
-            if (sendSmsResponseDto.getStatusCode().equals("202")) {
-                if (authRepository.existsByPhone(messageRequestDto.getTo())) {
-                    Auth auth = authRepository.findByPhone(messageRequestDto.getTo()).orElseThrow(
-                        () -> new ResourceNotFoundException(ResultCode.AUTH_NOT_FOUND));
-                    auth.reauth(passwordEncoder.encode(code), sendSmsResponseDto.getRequestId(),
-                        sendSmsResponseDto.getRequestTime());
-                    authRepository.save(auth);
-                } else {
-                    Auth auth = Auth.builder()
-                        .phone(messageRequestDto.getTo())
-                        .authNumber(passwordEncoder.encode(code))
-                        .requestId(sendSmsResponseDto.getRequestId())
-                        .requestTime(sendSmsResponseDto.getRequestTime())
-                        .build();
-                    authRepository.save(auth);
-                }
-            }
-
-            return MessageResponseDto.from(sendSmsResponseDto);
-        } catch (JsonProcessingException | URISyntaxException | NullPointerException e) {
-            e.printStackTrace();
-            return null;
+        // 전화번호별 전송 제한
+        if (!rateLimiter.tryAcquire(RateLimitPolicy.SEND_SMS_PHONE, messageRequestDto.getTo())) {
+            throw new LimitException(ResultCode.TOO_MANY_REQUESTS);
         }
-    }
 
-    public String makeSignature(Long time) {
-        try {
-            String space = " ";
-            String newLine = "\n";
-            String method = "POST";
-            String url = "/sms/v2/services/" + applicationNaverSENS.getServiceId() + "/messages";
-            String timestamp = time.toString();
-            String accessKey = applicationNaverSENS.getAccessKey();
-            String secretKey = applicationNaverSENS.getSecretKey();
-
-            String message = new StringBuilder()
-                .append(method)
-                .append(space)
-                .append(url)
-                .append(newLine)
-                .append(timestamp)
-                .append(newLine)
-                .append(accessKey)
-                .toString();
-
-            SecretKeySpec signingKey = new SecretKeySpec(secretKey.getBytes(StandardCharsets.UTF_8),
-                "HmacSHA256");
-            Mac mac = Mac.getInstance("HmacSHA256");
-            mac.init(signingKey);
-
-            byte[] rawHmac = mac.doFinal(message.getBytes(StandardCharsets.UTF_8));
-
-            return Base64.encodeBase64String(rawHmac);
-        } catch (NoSuchAlgorithmException | InvalidKeyException e) {
-            e.printStackTrace();
-            return null;
+        // SENS 장애로 서킷이 열려 있으면 인증 정보를 갱신하지 않고 바로 실패
+        if (!smsGateway.isAvailable()) {
+            throw new LimitException(ResultCode.SEND_SMS_UNAVAILABLE);
         }
+
+        String code = makeRandom();
+        String requestId = UUID.randomUUID().toString();
+        LocalDateTime requestTime = LocalDateTime.now();
+        redisOtpRepository.save(messageRequestDto.getTo(), code);
+
+        String content = String.format("[띵-동] 인증번호 [%s] *타인에게 노출하지 마세요.", code);
+        String to = messageRequestDto.getTo();
+        smsBatchDispatcher.submit(to, content).whenComplete((response, e) -> {
+            // SENS 는 묶음 요청마다 requestId 를 발급하므로 응답의 requestId 와 함께 기록
+            if (e != null) {
+                log.warn("인증 번호 전송 실패 : {} ({})", to, requestId);
+            } else {
+                log.debug("인증 번호 전송 : {} ({}, SENS {})", to, requestId,
+                    response.getRequestId());
+            }
+        });
+
+        return MessageResponseDto.builder()
+            .requestId(requestId)
+            .requestTime(requestTime)
+            .build();
     }
 
     public String makeRandom() {
-        try {
-            Random rand = SecureRandom.getInstanceStrong();
-            StringBuilder code = new StringBuilder();
-
-            for (int i = 0; i < 6; i++) {
-                // 0~9까지 난수 생성
-                String num = Integer.toString(rand.nextInt(10));
-                code.append(num);
-            }
+        StringBuilder code = new StringBuilder();
 
-            return code.toString();
-        } catch (NoSuchAlgorithmException e) {
-            e.printStackTrace();
-            return null;
+        for (int i = 0; i < 6; i++) {
+            // 0~9까지 난수 생성
+            code.append(RANDOM.nextInt(10));
         }
+
+        return code.toString();
     }
 
     // 회원 탈퇴
     @Transactional
-    public void unsubscribeUser(User user) {
+    public void unsubscribeUser(User current) {
+        // @CurrentUser 는 캐시의 복사본이므로 영속 상태의 회원을 수정
+        User user = userRepository.findById(current.getId())
+            .orElseThrow(() -> new ResourceNotFoundException(ResultCode.USER_NOT_FOUND));
+        String nickname = user.getProfile().getNickname();
+        imageService.release(user.getProfile().getProfileImageUrl(),
+            user.getProfile().getProfileImageSmallUrl());
         user.setUnsubscribe();
         user.getProfile().setUnsubscribe();
-        userRepository.save(user);
-        profileRepository.save(user.getProfile());
+        currentUserCache.invalidate(user.getId());
+        profileCache.invalidate(user.getId());
+        tokenRevocationList.revokeUser(user.getId());
+        phoneFilter.addUnsubscribed(user.getPhone());
+        if (nickname != null) {
+            nicknameIndex.release(nickname);
+        }
     }
 }
@@ -0,0 +1,138 @@
+package dingdong.dingdong.service.auth;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import dingdong.dingdong.domain.user.Profile;
+import dingdong.dingdong.domain.user.User;
+import dingdong.dingdong.util.TransactionUtil;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로그인한 회원(@CurrentUser) 캐시
+ * 요청마다 회원을 조회하지 않도록 회원 id 로 User(프로필, 동네 포함)를 보관한다.
+ * 별도의 EntityManager 로 조회하여 요청의 영속성 컨텍스트와 분리된(detached) 상태로 보관하고,
+ * 요청마다 복사본을 반환하여 한 요청에서 수정한 값이 다른 요청에 보이지 않게 한다.
+ * 회원 정보를 수정하는 곳에서는 복사본 대신 영속 상태의 회원을 다시 조회해서 사용한다.
+ * 프로필/동네/탈퇴/정지 변경 시 트랜잭션이 끝난 후 (롤백 포함) 삭제하며 다른 서버에는 Redis 로 무효화 메시지를 보낸다.
+ */
+@Slf4j
+@Component
+public class CurrentUserCache {
+
+    public static final ChannelTopic TOPIC = new ChannelTopic("CURRENT_USER");
+    private static final String ALL = "*";
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    // 무효화 메시지 발신 서버 구분용
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Cache<Long, User> users;
+
+    public CurrentUserCache(EntityManagerFactory entityManagerFactory,
+        StringRedisTemplate stringRedisTemplate,
+        @Value("${user.cache.max-size:10000}") long maxSize,
+        @Value("${user.cache.ttl-minutes:10}") long ttlMinutes) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.users = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(ttlMinutes, TimeUnit.MINUTES)
+            .build();
+    }
+
+    // 회원 조회 (없으면 DB 에서 조회 후 보관, 보관한 회원의 복사본 반환)
+    public User get(Long userId) {
+        User user = users.get(userId, this::load);
+        return user == null ? null : copy(user);
+    }
+
+    // 회원 정보 변경 (트랜잭션이 끝난 후 삭제)
+    public void invalidate(Long userId) {
+        TransactionUtil.afterCompletion(() -> {
+            users.invalidate(userId);
+            publish(userId.toString());
+        });
+    }
+
+    // 여러 회원이 한 번에 변경된 경우 (트랜잭션이 끝난 후 전체 삭제)
+    public void invalidateAll() {
+        TransactionUtil.afterCompletion(() -> {
+            users.invalidateAll();
+            publish(ALL);
+        });
+    }
+
+    /**
+     * 다른 서버에서 발행한 무효화 메시지 처리 ("{nodeId}:{userId}" 또는 "{nodeId}:*")
+     */
+    public void onInvalidate(String message) {
+        int index = message.lastIndexOf(':');
+        if (index < 0 || nodeId.equals(message.substring(0, index))) {
+            return;
+        }
+        String target = message.substring(index + 1);
+        if (ALL.equals(target)) {
+            users.invalidateAll();
+            return;
+        }
+        try {
+            users.invalidate(Long.parseLong(target));
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 회원 무효화 메시지 : {}", message);
+        }
+    }
+
+    private User load(Long userId) {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            // local1, local2, profile 은 EAGER 로 함께 조회됨
+            return entityManager.find(User.class, userId);
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    // 동네(Local)는 수정하지 않으므로 그대로 공유
+    private static User copy(User cached) {
+        User user = User.builder()
+            .id(cached.getId())
+            .phone(cached.getPhone())
+            .localDate(cached.getLocalDate())
+            .deletedDate(cached.getDeletedDate())
+            .authority(cached.getAuthority())
+            .local1(cached.getLocal1())
+            .local2(cached.getLocal2())
+            .build();
+        Profile profile = cached.getProfile();
+        if (profile != null) {
+            user.setProfile(Profile.builder()
+                .id(profile.getId())
+                .user(user)
+                .nickname(profile.getNickname())
+                .profileImageUrl(profile.getProfileImageUrl())
+                .profileImageSmallUrl(profile.getProfileImageSmallUrl())
+                .good(profile.getGood())
+                .bad(profile.getBad())
+                .reportCount(profile.getReportCount())
+                .build());
+        }
+        return user;
+    }
+
+    private void publish(String target) {
+        try {
+            stringRedisTemplate.convertAndSend(TOPIC.getTopic(), nodeId + ":" + target);
+        } catch (Exception e) {
+            log.error("Exception {}", e);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package dingdong.dingdong.service.auth;
+
+import dingdong.dingdong.domain.user.Profile;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import javax.annotation.PostConstruct;
+import javax.persistence.EntityManagerFactory;
+import javax.sql.DataSource;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Component;
+
+/**
+ * profile.nickname unique 제약 조건 확인
+ * 닉네임 중복은 최종적으로 제약 조건으로 막으므로, 제약 조건이 없으면 서버를 시작하지 않는다.
+ * 기존 DB 는 db/migration/profile_nickname_unique.sql 로 데이터를 정리하고 제약 조건을 만든다.
+ */
+@Component
+public class NicknameConstraintCheck {
+
+    private final DataSource dataSource;
+
+    // JPA 가 스키마를 만든 후 확인하도록 EntityManagerFactory 를 주입받음
+    public NicknameConstraintCheck(DataSource dataSource,
+        EntityManagerFactory entityManagerFactory) {
+        this.dataSource = dataSource;
+    }
+
+    @PostConstruct
+    public void check() throws MetaDataAccessException {
+        if (!hasConstraint()) {
+            throw new IllegalStateException(Profile.NICKNAME_CONSTRAINT
+                + " 제약 조건이 없습니다. db/migration/profile_nickname_unique.sql 을 먼저 실행하세요.");
+        }
+    }
+
+    private boolean hasConstraint() throws MetaDataAccessException {
+        return JdbcUtils.extractDatabaseMetaData(dataSource, (DatabaseMetaData metaData) -> {
+            String catalog = metaData.getConnection().getCatalog();
+            for (String table : new String[]{"profile", "PROFILE"}) {
+                try (ResultSet indexes = metaData.getIndexInfo(catalog, null, table, true, false)) {
+                    while (indexes.next()) {
+                        // H2 는 제약 조건 이름 뒤에 _INDEX_n 을 붙여 인덱스를 만듦
+                        String name = indexes.getString("INDEX_NAME");
+                        if (name != null && name.toLowerCase()
+                            .startsWith(Profile.NICKNAME_CONSTRAINT)) {
+                            return true;
+                        }
+                    }
+                }
+            }
+            return false;
+        });
+    }
+}
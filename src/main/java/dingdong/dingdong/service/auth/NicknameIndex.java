@@ -0,0 +1,150 @@
+package dingdong.dingdong.service.auth;
+
+import dingdong.dingdong.domain.user.Profile;
+import dingdong.dingdong.domain.user.ProfileRepository;
+import dingdong.dingdong.util.TransactionUtil;
+import dingdong.dingdong.util.exception.DuplicateException;
+import dingdong.dingdong.util.exception.ResultCode;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import javax.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용 중인 닉네임 목록 (Redis Set)
+ * 닉네임 변경 시 SADD 로 먼저 선점하고, 커밋되면 이전 닉네임을, 롤백되면 선점한 닉네임을 해제한다.
+ * 최종 중복 확인은 profile.nickname 의 unique 제약 조건으로 한다. (NicknameConstraintCheck)
+ */
+@Slf4j
+@Component
+public class NicknameIndex {
+
+    private static final String KEY = "nickname:index";
+    private static final String LOADED_KEY = "nickname:index:loaded";
+    private static final String LOCK_KEY = "nickname:index:lock";
+    // 불러오는 동안 해제된 닉네임 (불러온 후 다시 확인)
+    private static final String RELEASED_KEY = "nickname:index:released";
+    private static final int LOAD_SIZE = 1000;
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ProfileRepository profileRepository;
+
+    // 기존 닉네임을 모두 불러오기 전에는 DB 로 확인
+    private volatile boolean loaded;
+
+    // 제약 조건을 확인한 후 닉네임 목록을 불러오도록 주입받음
+    public NicknameIndex(StringRedisTemplate stringRedisTemplate,
+        ProfileRepository profileRepository, NicknameConstraintCheck nicknameConstraintCheck) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.profileRepository = profileRepository;
+    }
+
+    @PostConstruct
+    public void init() {
+        try {
+            load();
+        } catch (Exception e) {
+            log.error("Exception {}", e);
+        }
+    }
+
+    // 사용 가능한 닉네임인지 확인
+    public boolean isAvailable(String nickname) {
+        if (Profile.LEAVE_NICKNAME.equals(nickname)) {
+            return false;
+        }
+        if (!isLoaded()) {
+            return !profileRepository.existsByNickname(nickname);
+        }
+        return !Boolean.TRUE.equals(stringRedisTemplate.opsForSet().isMember(KEY, nickname));
+    }
+
+    /**
+     * 닉네임 선점 (이미 사용 중이면 DuplicateException)
+     * 커밋되면 이전 닉네임 해제, 롤백되면 선점한 닉네임 해제
+     */
+    public void reserve(String nickname, String previous) {
+        if (Profile.LEAVE_NICKNAME.equals(nickname)) {
+            throw new DuplicateException(ResultCode.NICKNAME_DUPLICATION);
+        }
+        // 목록을 모두 불러오기 전에는 목록에 없는 기존 닉네임이 있을 수 있으므로 DB 로도 확인
+        if (!isLoaded() && profileRepository.existsByNickname(nickname)) {
+            throw new DuplicateException(ResultCode.NICKNAME_DUPLICATION);
+        }
+        Long added = stringRedisTemplate.opsForSet().add(KEY, nickname);
+        if (added == null || added == 0) {
+            throw new DuplicateException(ResultCode.NICKNAME_DUPLICATION);
+        }
+        TransactionUtil.afterRollback(() -> stringRedisTemplate.opsForSet().remove(KEY, nickname));
+        if (previous != null) {
+            release(previous);
+        }
+    }
+
+    /**
+     * 닉네임 해제 (커밋 후 반영)
+     * 목록을 불러오는 중이면 이미 읽은 닉네임을 해제 후 다시 추가할 수 있으므로, 해제한 닉네임을 함께 기록한다.
+     */
+    public void release(String nickname) {
+        TransactionUtil.afterCommit(() -> {
+            if (!isLoaded()) {
+                stringRedisTemplate.opsForSet().add(RELEASED_KEY, nickname);
+            }
+            stringRedisTemplate.opsForSet().remove(KEY, nickname);
+        });
+    }
+
+    private boolean isLoaded() {
+        if (!loaded) {
+            loaded = Boolean.TRUE.equals(stringRedisTemplate.hasKey(LOADED_KEY));
+        }
+        return loaded;
+    }
+
+    // 기존 닉네임을 Redis 로 불러옴 (한 서버만 실행)
+    private void load() {
+        if (isLoaded() || !Boolean.TRUE.equals(stringRedisTemplate.opsForValue()
+            .setIfAbsent(LOCK_KEY, "1", Duration.ofMinutes(10)))) {
+            return;
+        }
+        try {
+            long lastId = 0L;
+            long count = 0;
+            List<Object[]> rows;
+            do {
+                rows = profileRepository.findNicknamesAfter(lastId, PageRequest.of(0, LOAD_SIZE));
+                if (rows.isEmpty()) {
+                    break;
+                }
+                String[] nicknames = rows.stream().map(row -> (String) row[1])
+                    .toArray(String[]::new);
+                stringRedisTemplate.opsForSet().add(KEY, nicknames);
+                lastId = (Long) rows.get(rows.size() - 1)[0];
+                count += rows.size();
+            } while (rows.size() == LOAD_SIZE);
+            removeReleased();
+            stringRedisTemplate.opsForValue().set(LOADED_KEY, "1");
+            loaded = true;
+            log.info("닉네임 목록 불러오기 : {}", count);
+        } finally {
+            stringRedisTemplate.delete(LOCK_KEY);
+        }
+    }
+
+    // 불러오는 동안 해제된 닉네임 중 사용하지 않는 닉네임을 다시 삭제
+    private void removeReleased() {
+        Set<String> released = stringRedisTemplate.opsForSet().members(RELEASED_KEY);
+        if (released != null) {
+            for (String nickname : released) {
+                if (!profileRepository.existsByNickname(nickname)) {
+                    stringRedisTemplate.opsForSet().remove(KEY, nickname);
+                }
+            }
+        }
+        stringRedisTemplate.delete(RELEASED_KEY);
+    }
+}
@@ -0,0 +1,129 @@
+package dingdong.dingdong.service.auth;
+
+import dingdong.dingdong.domain.user.BlackListRepository;
+import dingdong.dingdong.domain.user.Role;
+import dingdong.dingdong.domain.user.UserRepository;
+import dingdong.dingdong.util.BloomFilter;
+import dingdong.dingdong.util.Rebuildable;
+import dingdong.dingdong.util.TransactionUtil;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 가입 제한 전화번호 필터
+ * 블랙리스트는 정확한 Set, 탈퇴 회원 전화번호는 Bloom Filter 로 메모리에 보관하여
+ * 대부분의 요청(해당 없음)은 DB 를 조회하지 않는다. Bloom Filter 에 걸린 경우에만 DB 로 확인한다.
+ * 변경은 커밋 후 Redis 로 다른 서버에 전달하고, 주기적으로 DB 에서 다시 만든다.
+ */
+@Slf4j
+@Component
+public class PhoneFilter {
+
+    public static final ChannelTopic TOPIC = new ChannelTopic("PHONE_FILTER");
+
+    private static final String BLACK_LIST = "b:";
+    private static final String UNSUB = "u:";
+
+    private final BlackListRepository blackListRepository;
+    private final UserRepository userRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final Rebuildable<Set<String>> blackList;
+    private final Rebuildable<BloomFilter> unsubscribed;
+    // DB 에서 불러오기 전에는 DB 로 확인
+    private volatile boolean loaded;
+
+    public PhoneFilter(BlackListRepository blackListRepository, UserRepository userRepository,
+        StringRedisTemplate stringRedisTemplate,
+        @Value("${phone.filter.expected-insertions:100000}") long expectedInsertions,
+        @Value("${phone.filter.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.blackListRepository = blackListRepository;
+        this.userRepository = userRepository;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.blackList = new Rebuildable<>(ConcurrentHashMap::newKeySet, Set::add);
+        this.unsubscribed = new Rebuildable<>(
+            () -> new BloomFilter(expectedInsertions, falsePositiveRate), BloomFilter::put);
+    }
+
+    @PostConstruct
+    public void init() {
+        rebuild();
+    }
+
+    // 블랙리스트 전화번호인지 확인
+    public boolean isBlackListed(String phone) {
+        if (!loaded) {
+            return blackListRepository.existsById(phone);
+        }
+        return blackList.get().contains(phone);
+    }
+
+    // 탈퇴 회원 전화번호일 수 있는지 확인 (false 면 확실히 아님)
+    public boolean mightBeUnsubscribed(String phone) {
+        return !loaded || unsubscribed.get().mightContain(phone);
+    }
+
+    // 블랙리스트 등록 (커밋 후 반영)
+    public void addBlackList(String phone) {
+        TransactionUtil.afterCommit(() -> publish(BLACK_LIST + phone));
+    }
+
+    // 회원 탈퇴 (커밋 후 반영)
+    public void addUnsubscribed(String phone) {
+        TransactionUtil.afterCommit(() -> publish(UNSUB + phone));
+    }
+
+    /**
+     * 다른 서버(자신 포함)에서 발행한 변경 메시지 처리 ("b:{phone}", "u:{phone}")
+     */
+    public void onInvalidate(String message) {
+        apply(message);
+    }
+
+    // 블랙리스트 해제, 탈퇴 회원 정보 삭제를 반영하기 위해 DB 에서 다시 만듦
+    @Scheduled(fixedDelayString = "${phone.filter.rebuild-interval-ms:600000}",
+        initialDelayString = "${phone.filter.rebuild-interval-ms:600000}")
+    public void rebuild() {
+        try {
+            // DB 조회도 다시 만드는 중에 실행해야 조회 직후 추가된 변경이 누락되지 않음
+            blackList.rebuild(rebuilt -> rebuilt.addAll(blackListRepository.findAllPhones()));
+            List<String> phones = new ArrayList<>();
+            unsubscribed.rebuild(rebuilt -> {
+                phones.addAll(userRepository.findPhonesByAuthority(Role.UNSUB));
+                phones.forEach(rebuilt::put);
+            });
+            loaded = true;
+            log.info("가입 제한 전화번호 필터 : 블랙리스트 {}, 탈퇴 {}", blackList.get().size(),
+                phones.size());
+        } catch (Exception e) {
+            log.error("Exception {}", e);
+        }
+    }
+
+    private void apply(String entry) {
+        if (entry.startsWith(BLACK_LIST)) {
+            blackList.add(entry.substring(BLACK_LIST.length()));
+        } else if (entry.startsWith(UNSUB)) {
+            unsubscribed.add(entry.substring(UNSUB.length()));
+        }
+    }
+
+    private void publish(String entry) {
+        // 자신의 필터에는 바로 반영하고 다른 서버에는 메시지로 전달
+        apply(entry);
+        try {
+            stringRedisTemplate.convertAndSend(TOPIC.getTopic(), entry);
+        } catch (Exception e) {
+            // 전달 실패 시 다른 서버는 다음 재생성 때 반영
+            log.error("Exception {}", e);
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package dingdong.dingdong.service.auth;
+
+import dingdong.dingdong.config.TokenProvider;
+import dingdong.dingdong.domain.user.UserPrincipal;
+import dingdong.dingdong.util.BloomFilter;
+import dingdong.dingdong.util.Rebuildable;
+import dingdong.dingdong.util.TransactionUtil;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import javax.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+/**
+ * Access Token 폐기 목록
+ * 폐기된 토큰(t:{jti})과 회원(u:{uid}, 해당 시각 이전 발급 토큰 전체)을 Redis 에 저장하고,
+ * 각 서버는 메모리의 Bloom Filter 로 먼저 확인하여 걸린 경우에만 Redis 를 조회한다.
+ * 다른 서버에는 Redis 로 폐기 메시지를 보내고, 만료된 항목을 정리하기 위해 주기적으로 다시 만든다.
+ */
+@Slf4j
+@Component
+public class TokenRevocationList {
+
+    public static final ChannelTopic TOPIC = new ChannelTopic("TOKEN_REVOKED");
+
+    private static final String KEY_PREFIX = "revoked:";
+    private static final String TOKEN = "t:";
+    private static final String USER = "u:";
+    // 회원 단위 폐기는 Access Token 유효 기간 동안만 유지
+    private static final Duration USER_REVOKE_TTL = Duration
+        .ofMillis(TokenProvider.ACCESS_TOKEN_EXPIRE_TIME);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final Rebuildable<BloomFilter> bloomFilter;
+
+    public TokenRevocationList(StringRedisTemplate stringRedisTemplate,
+        @Value("${jwt.revocation.expected-insertions:100000}") long expectedInsertions,
+        @Value("${jwt.revocation.false-positive-rate:0.001}") double falsePositiveRate) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.bloomFilter = new Rebuildable<>(
+            () -> new BloomFilter(expectedInsertions, falsePositiveRate), BloomFilter::put);
+    }
+
+    @PostConstruct
+    public void init() {
+        rebuild();
+    }
+
+    // 폐기된 토큰인지 확인 (Bloom Filter 에 걸린 경우에만 Redis 조회)
+    public boolean isRevoked(Authentication authentication) {
+        if (!(authentication.getPrincipal() instanceof UserPrincipal)) {
+            return false;
+        }
+        UserPrincipal principal = (UserPrincipal) authentication.getPrincipal();
+        BloomFilter filter = bloomFilter.get();
+
+        String tokenId = principal.getTokenId();
+        if (tokenId != null && filter.mightContain(TOKEN + tokenId)
+            && Boolean.TRUE.equals(stringRedisTemplate.hasKey(KEY_PREFIX + TOKEN + tokenId))) {
+            return true;
+        }
+
+        Long userId = principal.getId();
+        if (userId != null && filter.mightContain(USER + userId)) {
+            String revokedAt = stringRedisTemplate.opsForValue().get(KEY_PREFIX + USER + userId);
+            return revokedAt != null && principal.getIssuedAt() <= Long.parseLong(revokedAt);
+        }
+        return false;
+    }
+
+    // 토큰 폐기 (로그아웃), 토큰 만료 시각까지 유지
+    public void revokeToken(Authentication authentication) {
+        if (!(authentication.getPrincipal() instanceof UserPrincipal)) {
+            return;
+        }
+        UserPrincipal principal = (UserPrincipal) authentication.getPrincipal();
+        long remaining = principal.getExpiresAt() - System.currentTimeMillis();
+        if (principal.getTokenId() == null || remaining <= 0) {
+            return;
+        }
+        String entry = TOKEN + principal.getTokenId();
+        stringRedisTemplate.opsForValue()
+            .set(KEY_PREFIX + entry, "1", Duration.ofMillis(remaining));
+        publish(entry);
+    }
+
+    // 회원의 현재 시각 이전 발급 토큰 모두 폐기 (정지, 블랙리스트, 탈퇴) - 커밋 후 반영
+    public void revokeUser(Long userId) {
+        TransactionUtil.afterCommit(() -> {
+            String entry = USER + userId;
+            stringRedisTemplate.opsForValue().set(KEY_PREFIX + entry,
+                String.valueOf(System.currentTimeMillis()), USER_REVOKE_TTL);
+            publish(entry);
+        });
+    }
+
+    /**
+     * 다른 서버(자신 포함)에서 발행한 폐기 메시지 처리
+     */
+    public void onRevoked(String entry) {
+        put(entry);
+    }
+
+    // 만료된 항목을 제거하기 위해 Redis 의 폐기 목록으로 Bloom Filter 를 다시 만듦
+    @Scheduled(fixedDelayString = "${jwt.revocation.rebuild-interval-ms:600000}",
+        initialDelayString = "${jwt.revocation.rebuild-interval-ms:600000}")
+    public void rebuild() {
+        try {
+            bloomFilter.rebuild(rebuilt -> stringRedisTemplate.execute(
+                (RedisCallback<Void>) connection -> {
+                    ScanOptions options = ScanOptions.scanOptions().match(KEY_PREFIX + "*")
+                        .count(1000).build();
+                    try (Cursor<byte[]> cursor = connection.scan(options)) {
+                        while (cursor.hasNext()) {
+                            String key = new String(cursor.next(), StandardCharsets.UTF_8);
+                            rebuilt.put(key.substring(KEY_PREFIX.length()));
+                        }
+                    }
+                    return null;
+                }));
+        } catch (Exception e) {
+            log.error("Exception {}", e);
+        }
+    }
+
+    private void put(String entry) {
+        bloomFilter.add(entry);
+    }
+
+    private void publish(String entry) {
+        // 자신의 필터에는 바로 반영하고 다른 서버에는 메시지로 전달
+        put(entry);
+        stringRedisTemplate.convertAndSend(TOPIC.getTopic(), entry);
+    }
+}
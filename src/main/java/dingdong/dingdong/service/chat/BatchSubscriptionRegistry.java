@@ -0,0 +1,53 @@
+package dingdong.dingdong.service.chat;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이 서버에 연결된 묶음 수신 구독(/topic/chat/room/{id}/batch) 현황
+ * StompHandler 가 SUBSCRIBE, UNSUBSCRIBE, DISCONNECT 를 반영하고,
+ * ChatMessageCoalescer 는 묶음 구독자가 있는 채팅방의 메시지만 모은다.
+ */
+@Component
+public class BatchSubscriptionRegistry {
+
+    // 세션별 묶음 구독 (subscriptionId → roomId)
+    private final Map<String, Map<String, Long>> sessions = new ConcurrentHashMap<>();
+    // 채팅방별 묶음 구독 수
+    private final Map<Long, Integer> rooms = new ConcurrentHashMap<>();
+
+    public void subscribe(String sessionId, String subscriptionId, Long roomId) {
+        Map<String, Long> subscriptions = sessions
+            .computeIfAbsent(sessionId, id -> new ConcurrentHashMap<>());
+        if (subscriptions.putIfAbsent(subscriptionId, roomId) == null) {
+            rooms.merge(roomId, 1, Integer::sum);
+        }
+    }
+
+    public void unsubscribe(String sessionId, String subscriptionId) {
+        Map<String, Long> subscriptions = sessions.get(sessionId);
+        if (subscriptions == null) {
+            return;
+        }
+        Long roomId = subscriptions.remove(subscriptionId);
+        if (roomId != null) {
+            decrease(roomId);
+        }
+    }
+
+    public void disconnect(String sessionId) {
+        Map<String, Long> subscriptions = sessions.remove(sessionId);
+        if (subscriptions != null) {
+            subscriptions.values().forEach(this::decrease);
+        }
+    }
+
+    public boolean hasSubscribers(Long roomId) {
+        return rooms.containsKey(roomId);
+    }
+
+    private void decrease(Long roomId) {
+        rooms.computeIfPresent(roomId, (id, count) -> count > 1 ? count - 1 : null);
+    }
+}
@@ -0,0 +1,127 @@
+package dingdong.dingdong.service.chat;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import dingdong.dingdong.domain.chat.ChatJoinRepository;
+import dingdong.dingdong.util.TransactionUtil;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅방 참여자 캐시
+ * 채팅방별 참여 회원 id 를 정렬된 long[] 로 보관하고, 변경 시 배열을 새로 만들어 교체한다. (copy-on-write)
+ * 참여/퇴장/삭제는 트랜잭션 커밋 후 반영하고, 다른 서버에는 Redis 로 무효화 메시지를 보낸다.
+ */
+@Slf4j
+@Component
+public class ChatJoinCache {
+
+    public static final ChannelTopic TOPIC = new ChannelTopic("CHAT_JOIN");
+
+    private final ChatJoinRepository chatJoinRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    // 무효화 메시지 발신 서버 구분용
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Cache<Long, long[]> rooms;
+
+    public ChatJoinCache(ChatJoinRepository chatJoinRepository,
+        StringRedisTemplate stringRedisTemplate,
+        @Value("${chat.join-cache.max-rooms:50000}") long maxRooms) {
+        this.chatJoinRepository = chatJoinRepository;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.rooms = Caffeine.newBuilder()
+            .maximumSize(maxRooms)
+            .expireAfterWrite(1, TimeUnit.HOURS)
+            .build();
+    }
+
+    // 채팅방 참여 여부 확인
+    public boolean isMember(Long roomId, Long userId) {
+        long[] members = rooms.get(roomId, this::load);
+        return Arrays.binarySearch(members, userId) >= 0;
+    }
+
+    // 채팅방 참여 (커밋 후 반영)
+    public void add(Long roomId, Long userId) {
+        TransactionUtil.afterCommit(() -> {
+            rooms.asMap().computeIfPresent(roomId, (id, members) -> insert(members, userId));
+            publish(roomId);
+        });
+    }
+
+    // 채팅방 퇴장 (커밋 후 반영)
+    public void remove(Long roomId, Long userId) {
+        TransactionUtil.afterCommit(() -> {
+            rooms.asMap().computeIfPresent(roomId, (id, members) -> delete(members, userId));
+            publish(roomId);
+        });
+    }
+
+    // 채팅방 삭제 (커밋 후 반영)
+    public void evict(Long roomId) {
+        TransactionUtil.afterCommit(() -> {
+            rooms.invalidate(roomId);
+            publish(roomId);
+        });
+    }
+
+    /**
+     * 다른 서버에서 발행한 무효화 메시지 처리 ("{nodeId}:{roomId}")
+     */
+    public void onInvalidate(String message) {
+        int index = message.lastIndexOf(':');
+        if (index < 0 || nodeId.equals(message.substring(0, index))) {
+            return;
+        }
+        try {
+            rooms.invalidate(Long.parseLong(message.substring(index + 1)));
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 채팅방 무효화 메시지 : {}", message);
+        }
+    }
+
+    private long[] load(Long roomId) {
+        List<Long> userIds = chatJoinRepository.findUserIdsByChatRoomId(roomId);
+        return userIds.stream().mapToLong(Long::longValue).sorted().distinct().toArray();
+    }
+
+    private void publish(Long roomId) {
+        try {
+            stringRedisTemplate.convertAndSend(TOPIC.getTopic(), nodeId + ":" + roomId);
+        } catch (Exception e) {
+            log.error("Exception {}", e);
+        }
+    }
+
+    private static long[] insert(long[] members, long userId) {
+        int index = Arrays.binarySearch(members, userId);
+        if (index >= 0) {
+            return members;
+        }
+        int position = -index - 1;
+        long[] result = new long[members.length + 1];
+        System.arraycopy(members, 0, result, 0, position);
+        result[position] = userId;
+        System.arraycopy(members, position, result, position + 1, members.length - position);
+        return result;
+    }
+
+    private static long[] delete(long[] members, long userId) {
+        int index = Arrays.binarySearch(members, userId);
+        if (index < 0) {
+            return members;
+        }
+        long[] result = new long[members.length - 1];
+        System.arraycopy(members, 0, result, 0, index);
+        System.arraycopy(members, index + 1, result, index, members.length - index - 1);
+        return result;
+    }
+}
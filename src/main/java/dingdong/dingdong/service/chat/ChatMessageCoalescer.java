@@ -0,0 +1,155 @@
+package dingdong.dingdong.service.chat;
+
+import dingdong.dingdong.domain.chat.RedisChatMessage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅방 메시지 발송
+ * 일반 구독자에게는 메시지를 바로 보내고, 묶음 수신을 요청한 구독자(/topic/chat/room/{id}/batch)에게는
+ * 짧은 시간 동안 들어온 메시지를 배열 하나로 묶어서 보낸다.
+ * 묶는 시간은 채팅방의 메시지 간격에 따라 조절된다. (한산한 방은 바로 전송)
+ * 이 서버에 묶음 구독자가 없는 채팅방은 메시지를 모으지 않는다.
+ */
+@Slf4j
+@Component
+public class ChatMessageCoalescer {
+
+    public static final String ROOM_DESTINATION = "/topic/chat/room/";
+    public static final String BATCH_SUFFIX = "/batch";
+
+    // 메시지 간격 평균의 가중치
+    private static final double EWMA_WEIGHT = 0.2;
+    // 오래 사용되지 않은 채팅방 버퍼 정리 기준
+    private static final long IDLE_NANOS = TimeUnit.MINUTES.toNanos(5);
+
+    private final SimpMessageSendingOperations messagingTemplate;
+    private final BatchSubscriptionRegistry batchSubscriptionRegistry;
+    private final long maxWindowNanos;
+    private final long busyIntervalNanos;
+    private final int maxBatchSize;
+
+    private final Map<Long, RoomBuffer> buffers = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler = Executors
+        .newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "chat-coalescer");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+    public ChatMessageCoalescer(SimpMessageSendingOperations messagingTemplate,
+        BatchSubscriptionRegistry batchSubscriptionRegistry,
+        @Value("${chat.coalesce.max-window-ms:20}") long maxWindowMillis,
+        @Value("${chat.coalesce.busy-interval-ms:50}") long busyIntervalMillis,
+        @Value("${chat.coalesce.max-batch-size:100}") int maxBatchSize) {
+        this.messagingTemplate = messagingTemplate;
+        this.batchSubscriptionRegistry = batchSubscriptionRegistry;
+        this.maxWindowNanos = TimeUnit.MILLISECONDS.toNanos(maxWindowMillis);
+        this.busyIntervalNanos = TimeUnit.MILLISECONDS.toNanos(busyIntervalMillis);
+        this.maxBatchSize = maxBatchSize;
+        scheduler.scheduleWithFixedDelay(this::evictIdle, 1, 1, TimeUnit.MINUTES);
+    }
+
+    /**
+     * 채팅방 구독자에게 메시지 발송
+     */
+    public void publish(Long roomId, RedisChatMessage message) {
+        messagingTemplate.convertAndSend(ROOM_DESTINATION + roomId, message);
+        if (!batchSubscriptionRegistry.hasSubscribers(roomId)) {
+            return;
+        }
+
+        RoomBuffer buffer = buffers.computeIfAbsent(roomId, id -> new RoomBuffer());
+        long window;
+        synchronized (buffer) {
+            long now = System.nanoTime();
+            buffer.observe(now);
+            buffer.pending.add(message);
+            if (buffer.scheduled) {
+                if (buffer.pending.size() < maxBatchSize) {
+                    return;
+                }
+                window = 0;
+            } else {
+                window = buffer.window();
+                buffer.scheduled = window > 0;
+            }
+        }
+
+        if (window == 0) {
+            flush(roomId, buffer);
+        } else {
+            scheduler.schedule(() -> flush(roomId, buffer), window, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void flush(Long roomId, RoomBuffer buffer) {
+        List<RedisChatMessage> batch;
+        synchronized (buffer) {
+            buffer.scheduled = false;
+            if (buffer.pending.isEmpty()) {
+                return;
+            }
+            batch = buffer.pending;
+            buffer.pending = new ArrayList<>();
+        }
+        try {
+            messagingTemplate.convertAndSend(ROOM_DESTINATION + roomId + BATCH_SUFFIX, batch);
+        } catch (Exception e) {
+            log.error("Exception {}", e);
+        }
+    }
+
+    private void evictIdle() {
+        long now = System.nanoTime();
+        buffers.entrySet().removeIf(entry -> {
+            RoomBuffer buffer = entry.getValue();
+            synchronized (buffer) {
+                return !buffer.scheduled && buffer.pending.isEmpty()
+                    && now - buffer.lastArrival > IDLE_NANOS;
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdown();
+        buffers.forEach(this::flush);
+    }
+
+    private class RoomBuffer {
+
+        private List<RedisChatMessage> pending = new ArrayList<>();
+        private boolean scheduled;
+        private long lastArrival;
+        private double interval = Double.MAX_VALUE;
+
+        private void observe(long now) {
+            if (lastArrival != 0) {
+                long gap = now - lastArrival;
+                interval = interval == Double.MAX_VALUE ? gap
+                    : EWMA_WEIGHT * gap + (1 - EWMA_WEIGHT) * interval;
+            }
+            lastArrival = now;
+        }
+
+        // 메시지 간격이 짧을수록 오래 묶는다 (최대 maxWindow)
+        private long window() {
+            if (interval >= busyIntervalNanos) {
+                return 0;
+            }
+            double busyness = 1 - interval / busyIntervalNanos;
+            return (long) (maxWindowNanos * busyness);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package dingdong.dingdong.service.chat;
+
+import dingdong.dingdong.domain.chat.ChatMessageRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 채팅방 메시지 일괄 삭제
+ * 메시지가 많은 채팅방도 chunk 크기만큼 나누어 삭제한다. 트랜잭션 밖에서 호출하면 chunk 마다 별도 트랜잭션으로
+ * 커밋하여 잠금을 짧게 유지하고, 트랜잭션 안에서 호출하면 그 트랜잭션에 참여한다.
+ */
+@Component
+public class ChatMessagePurger {
+
+    private final ChatMessageRepository chatMessageRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public ChatMessagePurger(ChatMessageRepository chatMessageRepository,
+        PlatformTransactionManager transactionManager,
+        @Value("${chat.purge.chunk-size:1000}") int chunkSize) {
+        this.chatMessageRepository = chatMessageRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * 채팅방의 메시지 삭제
+     * @return 삭제한 메시지 수
+     */
+    public long purge(Long roomId) {
+        long total = 0;
+        int deleted;
+        do {
+            deleted = transactionTemplate.execute(
+                status -> chatMessageRepository.deleteChunkByChatRoomId(roomId, chunkSize));
+            total += deleted;
+        } while (deleted == chunkSize);
+        return total;
+    }
+}
@@ -0,0 +1,93 @@
+package dingdong.dingdong.service.chat;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import dingdong.dingdong.domain.chat.ChatMessageRepository;
+import java.time.Duration;
+import java.util.Collections;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+/**
+ * 채팅 메시지 중복 제거 및 채팅방별 순번(seq) 발급
+ * 순번은 Redis INCR 로 발급하며, Redis 에 값이 없으면 DB 의 마지막 순번부터 이어서 발급한다.
+ */
+@Component
+public class ChatMessageSequencer {
+
+    private static final String SEQ_KEY = "chat:seq:";
+    private static final String DEDUP_KEY = "chat:dedup:";
+
+    // 현재 값이 DB 의 마지막 순번보다 작으면 올린 후 INCR
+    private static final RedisScript<Long> SEED_AND_INCR = new DefaultRedisScript<>(
+        "local cur = tonumber(redis.call('GET', KEYS[1]) or '0') "
+            + "if cur < tonumber(ARGV[1]) then redis.call('SET', KEYS[1], ARGV[1]) end "
+            + "return redis.call('INCR', KEYS[1])", Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ChatMessageRepository chatMessageRepository;
+    private final Duration dedupTtl;
+
+    // 이 서버에서 DB 순번과 맞춰본 채팅방 (개수 제한, 밀려난 채팅방은 다시 맞춰봄)
+    private final Cache<Long, Boolean> seededRooms;
+
+    public ChatMessageSequencer(StringRedisTemplate stringRedisTemplate,
+        ChatMessageRepository chatMessageRepository,
+        @Value("${chat.dedup.ttl-seconds:600}") long dedupTtlSeconds,
+        @Value("${chat.seq.max-seeded-rooms:50000}") long maxSeededRooms) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.chatMessageRepository = chatMessageRepository;
+        this.dedupTtl = Duration.ofSeconds(dedupTtlSeconds);
+        this.seededRooms = Caffeine.newBuilder()
+            .maximumSize(maxSeededRooms)
+            .build();
+    }
+
+    /**
+     * 처음 받은 메시지인지 확인 (클라이언트 재전송 중복 제거)
+     */
+    public boolean isFirstDelivery(Long roomId, String sender, String clientMessageId) {
+        if (!StringUtils.hasText(clientMessageId)) {
+            return true;
+        }
+        Boolean first = stringRedisTemplate.opsForValue()
+            .setIfAbsent(DEDUP_KEY + roomId + ":" + sender + ":" + clientMessageId, "1", dedupTtl);
+        return !Boolean.FALSE.equals(first);
+    }
+
+    /**
+     * 채팅방의 다음 순번 발급
+     */
+    public long next(Long roomId) {
+        String key = SEQ_KEY + roomId;
+        if (seededRooms.getIfPresent(roomId) == null) {
+            // 맞춰보기에 성공한 후에만 기록 (실패하면 다음 메시지에서 다시 시도)
+            long seq = seed(key, lastSeq(roomId));
+            seededRooms.put(roomId, Boolean.TRUE);
+            return seq;
+        }
+        long seq = stringRedisTemplate.opsForValue().increment(key);
+        // Redis 값이 사라진 경우 DB 의 마지막 순번부터 다시 발급
+        if (seq == 1L) {
+            long last = lastSeq(roomId);
+            if (last > 0) {
+                return seed(key, last);
+            }
+        }
+        return seq;
+    }
+
+    private long lastSeq(Long roomId) {
+        Long last = chatMessageRepository.findMaxSeqByChatRoomId(roomId);
+        return last == null ? 0L : last;
+    }
+
+    private long seed(String key, long last) {
+        return stringRedisTemplate.execute(SEED_AND_INCR, Collections.singletonList(key),
+            String.valueOf(last));
+    }
+}
@@ -0,0 +1,19 @@
+package dingdong.dingdong.service.chat;
+
+import lombok.RequiredArgsConstructor;
+import org.quartz.DisallowConcurrentExecution;
+import org.quartz.JobExecutionContext;
+import org.springframework.scheduling.quartz.QuartzJobBean;
+
+// 마감 시간이 지난 약속 종료 처리 (클러스터 전체에서 한 서버만 실행)
+@RequiredArgsConstructor
+@DisallowConcurrentExecution
+public class ChatPromiseEndJob extends QuartzJobBean {
+
+    private final ChatService chatService;
+
+    @Override
+    protected void executeInternal(JobExecutionContext context) {
+        chatService.checkEndTime();
+    }
+}
@@ -5,15 +5,17 @@ import dingdong.dingdong.domain.post.Post;
 import dingdong.dingdong.domain.user.User;
 import dingdong.dingdong.domain.user.UserRepository;
 import dingdong.dingdong.dto.chat.*;
+import dingdong.dingdong.service.profile.CachedProfile;
+import dingdong.dingdong.service.profile.ProfileCache;
 import dingdong.dingdong.util.exception.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -27,6 +29,9 @@ public class ChatService {
     private final ChatPromiseVoteRepository chatPromiseVoteRepository;
     private final ChatMessageRepository chatMessageRepository;
     private final ChatSubscriber chatSubscriber;
+    private final ChatJoinCache chatJoinCache;
+    private final ChatMessageSequencer chatMessageSequencer;
+    private final ProfileCache profileCache;
 
     private final UserRepository userRepository;
     private static final Long ADMINID = 1L;
@@ -45,6 +50,7 @@ public class ChatService {
 
         chatRoomRepository.save(chatRoom);
         chatJoinRepository.save(chatJoin);
+        chatJoinCache.add(chatRoom.getId(), post.getUser().getId());
 
         chatRoom.getPost().plusUserCount();
     }
@@ -63,13 +69,11 @@ public class ChatService {
     // 채팅방 정보 조회
     @Transactional(readOnly = true)
     public ChatRoomResponseDto findRoomById(User user, Long id) {
+        checkMember(user, id);
+
         ChatRoom chatRoom = chatRoomRepository.findByPostId(id)
             .orElseThrow(() -> new ResourceNotFoundException(ResultCode.CHAT_ROOM_NOT_FOUND));
 
-        if (!chatJoinRepository.existsByChatRoomAndUser(chatRoom, user)) {
-            throw new ResourceNotFoundException(ResultCode.CHAT_JOIN_NOT_FOUND);
-        }
-
         return ChatRoomResponseDto.from(chatRoom, user);
     }
 
@@ -81,7 +85,7 @@ public class ChatService {
         ChatPromise chatPromise = chatPromiseRepository.findByChatRoomId(chatRoom.getId())
             .orElse(null);
 
-        if (chatJoinRepository.existsByChatRoomAndUser(chatRoom, user)) {
+        if (chatJoinCache.isMember(chatRoom.getId(), user.getId())) {
             throw new DuplicateException(ResultCode.CHAT_ROOM_DUPLICATION);
         }
         if (chatRoom.getPost().getDone()) {
@@ -99,6 +103,7 @@ public class ChatService {
             .user(user)
             .build();
         chatJoinRepository.save(chatJoin);
+        chatJoinCache.add(chatRoom.getId(), user.getId());
 
         chatRoom.getPost().plusUserCount();
 
@@ -108,6 +113,7 @@ public class ChatService {
 
         RedisChatMessage redisChatMessage = RedisChatMessage.builder()
             .roomId(chatRoom.getId())
+            .seq(chatMessageSequencer.next(chatRoom.getId()))
             .sender(admin.getId().toString())
             .profileImageUrl(admin.getProfile().getProfileImageUrl())
             .type(MessageType.ENTER)
@@ -122,6 +128,7 @@ public class ChatService {
             .type(redisChatMessage.getType())
             .message(redisChatMessage.getMessage())
             .sendTime(LocalDateTime.now())
+            .seq(redisChatMessage.getSeq())
             .build();
         chatMessageRepository.save(chatMessage);
 
@@ -147,6 +154,7 @@ public class ChatService {
         }
 
         chatJoinRepository.delete(chatJoin);
+        chatJoinCache.remove(chatRoom.getId(), user.getId());
 
         chatRoom.getPost().minusUserCount();
 
@@ -156,6 +164,7 @@ public class ChatService {
             user.getProfile().getNickname() + ChatMessageValue.QUIT_MESSAGE.getMessage();
         RedisChatMessage redisChatMessage = RedisChatMessage.builder()
             .roomId(chatRoom.getId())
+            .seq(chatMessageSequencer.next(chatRoom.getId()))
             .sender(admin.getId().toString())
             .profileImageUrl(admin.getProfile().getProfileImageUrl())
             .type(MessageType.QUIT)
@@ -170,6 +179,7 @@ public class ChatService {
             .type(redisChatMessage.getType())
             .message(redisChatMessage.getMessage())
             .sendTime(LocalDateTime.now())
+            .seq(redisChatMessage.getSeq())
             .build();
         chatMessageRepository.save(chatMessage);
 
@@ -180,46 +190,50 @@ public class ChatService {
     // 채팅방 사용자 목록 조회
     @Transactional(readOnly = true)
     public List<ChatRoomUserResponseDto> findUsers(User user, Long id) {
+        checkMember(user, id);
+
         ChatRoom chatRoom = chatRoomRepository.findByPostId(id)
             .orElseThrow(() -> new ResourceNotFoundException(ResultCode.CHAT_ROOM_NOT_FOUND));
 
-        if (!chatJoinRepository.existsByChatRoomAndUser(chatRoom, user)) {
-            throw new ResourceNotFoundException(ResultCode.CHAT_JOIN_NOT_FOUND);
-        }
-
-        List<ChatJoin> chatJoins = chatJoinRepository.findAllByChatRoom(chatRoom);
-        List<User> users = chatJoins.stream().map(ChatJoin::getUser).collect(Collectors.toList());
+        // 참여자 id 만 조회하고 프로필은 프로필 캐시에서 한 번에 조회
+        List<Long> userIds = chatJoinRepository.findUserIdsByChatRoomId(chatRoom.getId());
+        Map<Long, CachedProfile> profiles = profileCache.getAll(userIds);
 
-        return users.stream().map(u -> ChatRoomUserResponseDto.from(chatRoom, u))
+        return userIds.stream()
+            .map(userId -> ChatRoomUserResponseDto.from(chatRoom, userId, profiles.get(userId)))
             .collect(Collectors.toList());
     }
 
-    // 채팅 메세지 조회
+    // 채팅 메세지 조회 (after 가 있으면 해당 순번 이후의 메세지만 조회)
     @Transactional(readOnly = true)
-    public List<ChatMessageResponseDto> findChatMessages(User user, Long id) {
-        ChatRoom chatRoom = chatRoomRepository.findByPostId(id)
-            .orElseThrow(() -> new ResourceNotFoundException(ResultCode.CHAT_ROOM_NOT_FOUND));
+    public List<ChatMessageResponseDto> findChatMessages(User user, Long id, Long after) {
+        checkMember(user, id);
 
-        if (!chatJoinRepository.existsByChatRoomAndUser(chatRoom, user)) {
-            throw new ResourceNotFoundException(ResultCode.CHAT_JOIN_NOT_FOUND);
+        List<ChatMessage> messages;
+        if (after != null) {
+            messages = chatMessageRepository
+                .findAllByChatRoomIdAndSeqGreaterThanOrderBySeq(id, after);
+        } else {
+            ChatRoom chatRoom = chatRoomRepository.findByPostId(id)
+                .orElseThrow(() -> new ResourceNotFoundException(ResultCode.CHAT_ROOM_NOT_FOUND));
+            messages = chatRoom.getMessages();
         }
 
-        List<ChatMessage> messages = chatRoom.getMessages();
-
-        return messages.stream().map(ChatMessageResponseDto::from).collect(Collectors.toList());
+        // 보낸 사람은 id 만 사용하고 (LAZY) 프로필은 프로필 캐시에서 한 번에 조회
+        Map<Long, CachedProfile> profiles = profileCache.getAll(messages.stream()
+            .map(message -> message.getSender().getId()).collect(Collectors.toSet()));
+        return messages.stream()
+            .map(message -> ChatMessageResponseDto.from(message,
+                profiles.get(message.getSender().getId())))
+            .collect(Collectors.toList());
     }
 
     // 채팅 약속 조회
     @Transactional(readOnly = true)
     public ChatPromiseResponseDto findByPostId(User user, Long id) {
-        ChatRoom chatRoom = chatRoomRepository.findByPostId(id)
-            .orElseThrow(() -> new ResourceNotFoundException(ResultCode.CHAT_ROOM_NOT_FOUND));
-
-        if (!chatJoinRepository.existsByChatRoomAndUser(chatRoom, user)) {
-            throw new ResourceNotFoundException(ResultCode.CHAT_JOIN_NOT_FOUND);
-        }
+        checkMember(user, id);
 
-        ChatPromise chatPromise = chatPromiseRepository.findByChatRoomId(chatRoom.getId())
+        ChatPromise chatPromise = chatPromiseRepository.findByChatRoomId(id)
             .orElseThrow(() -> new ResourceNotFoundException(ResultCode.CHAT_PROMISE_NOT_FOUND));
 
         return ChatPromiseResponseDto.from(chatPromise);
@@ -269,6 +283,7 @@ public class ChatService {
             + ChatMessageValue.PROMISE_UPDATE_MESSAGE.getMessage();
         RedisChatMessage redisChatMessage = RedisChatMessage.builder()
             .roomId(chatRoom.getId())
+            .seq(chatMessageSequencer.next(chatRoom.getId()))
             .sender(admin.getId().toString())
             .profileImageUrl(admin.getProfile().getProfileImageUrl())
             .type(MessageType.PROMISE_AGAIN)
@@ -283,6 +298,7 @@ public class ChatService {
             .type(redisChatMessage.getType())
             .message(redisChatMessage.getMessage())
             .sendTime(LocalDateTime.now())
+            .seq(redisChatMessage.getSeq())
             .build();
         chatMessageRepository.save(chatMessage);
 
@@ -334,6 +350,7 @@ public class ChatService {
                 + ChatMessageValue.PROMISE_CREATE_MESSAGE.getMessage();
         RedisChatMessage redisChatMessage = RedisChatMessage.builder()
             .roomId(chatRoom.getId())
+            .seq(chatMessageSequencer.next(chatRoom.getId()))
             .sender(admin.getId().toString())
             .profileImageUrl(admin.getProfile().getProfileImageUrl())
             .type(MessageType.PROMISE)
@@ -348,6 +365,7 @@ public class ChatService {
             .type(redisChatMessage.getType())
             .message(redisChatMessage.getMessage())
             .sendTime(LocalDateTime.now())
+            .seq(redisChatMessage.getSeq())
             .build();
         chatMessageRepository.save(chatMessage);
 
@@ -363,7 +381,7 @@ public class ChatService {
         ChatPromise chatPromise = chatPromiseRepository.findByChatRoomId(chatRoom.getId())
             .orElseThrow(() -> new ResourceNotFoundException(ResultCode.CHAT_PROMISE_NOT_FOUND));
 
-        if (!chatJoinRepository.existsByChatRoomAndUser(chatRoom, user)) {
+        if (!chatJoinCache.isMember(chatRoom.getId(), user.getId())) {
             throw new ResourceNotFoundException(ResultCode.CHAT_JOIN_NOT_FOUND);
         }
         if (chatPromise.getType() != PromiseType.PROGRESS) {
@@ -388,6 +406,7 @@ public class ChatService {
                         + ChatMessageValue.PROMISE_CONFIRMED_MESSAGE.getMessage();
                 RedisChatMessage redisChatMessage = RedisChatMessage.builder()
                     .roomId(chatRoom.getId())
+                    .seq(chatMessageSequencer.next(chatRoom.getId()))
                     .sender(admin.getId().toString())
                     .profileImageUrl(admin.getProfile().getProfileImageUrl())
                     .type(MessageType.PROMISE_CONFIRMED)
@@ -402,6 +421,7 @@ public class ChatService {
                     .type(redisChatMessage.getType())
                     .message(redisChatMessage.getMessage())
                     .sendTime(LocalDateTime.now())
+                    .seq(redisChatMessage.getSeq())
                     .build();
                 chatMessageRepository.save(chatMessage);
 
@@ -421,7 +441,7 @@ public class ChatService {
         ChatPromise chatPromise = chatPromiseRepository.findByChatRoomId(chatRoom.getId())
             .orElseThrow(() -> new ResourceNotFoundException(ResultCode.CHAT_PROMISE_NOT_FOUND));
 
-        if (!chatJoinRepository.existsByChatRoomAndUser(chatRoom, user)) {
+        if (!chatJoinCache.isMember(chatRoom.getId(), user.getId())) {
             throw new ResourceNotFoundException(ResultCode.CHAT_JOIN_NOT_FOUND);
         }
         if (chatRoom.getPost().getUser().getId() != user.getId()) {
@@ -442,9 +462,19 @@ public class ChatService {
 
     }
 
-    // 일정시간마다 Scheduling 작동.
+    // 채팅방 참여 여부 확인 (참여자 캐시 사용, 실패한 경우에만 채팅방 존재 여부 조회)
+    private void checkMember(User user, Long id) {
+        if (chatJoinCache.isMember(id, user.getId())) {
+            return;
+        }
+        if (!chatRoomRepository.existsById(id)) {
+            throw new ResourceNotFoundException(ResultCode.CHAT_ROOM_NOT_FOUND);
+        }
+        throw new ResourceNotFoundException(ResultCode.CHAT_JOIN_NOT_FOUND);
+    }
+
+    // 약속 마감 시간 확인 (ChatPromiseEndJob 에서 1시간마다 작동)
     @Transactional
-    @Scheduled(fixedDelay = 60000 * 60) // 1시간마다 작동
     public void checkEndTime() {
         chatPromiseRepository.updateByLocalDateTime();
     }
@@ -8,7 +8,6 @@ import dingdong.dingdong.util.exception.ResourceNotFoundException;
 import dingdong.dingdong.util.exception.ResultCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.messaging.simp.SimpMessageSendingOperations;
 import org.springframework.stereotype.Service;
 
 @Slf4j
@@ -16,7 +15,7 @@ import org.springframework.stereotype.Service;
 @Service
 public class ChatSubscriber {
 
-    private final SimpMessageSendingOperations messagingTemplate;
+    private final ChatMessageCoalescer chatMessageCoalescer;
 
     private final ChatRoomRepository chatRoomRepository;
     private final UserRepository userRepository;
@@ -37,8 +36,7 @@ public class ChatSubscriber {
             redisChatMessage.setUserMessage(nickname, profileImageUrl);
 
             // 채팅방을 구독한 클라이언트에게 메시지 발송
-            messagingTemplate.convertAndSend("/topic/chat/room/" + redisChatMessage.getRoomId(),
-                redisChatMessage);
+            chatMessageCoalescer.publish(redisChatMessage.getRoomId(), redisChatMessage);
 
         } catch (Exception e) {
             log.error("Exception {}", e);
@@ -10,7 +10,6 @@ import dingdong.dingdong.util.exception.ResultCode;
 import java.time.LocalDateTime;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.messaging.simp.SimpMessageSendingOperations;
 import org.springframework.stereotype.Service;
 
 @Slf4j
@@ -19,7 +18,7 @@ import org.springframework.stereotype.Service;
 public class RedisSubscriber {
 
     private final ObjectMapper objectMapper;
-    private final SimpMessageSendingOperations messagingTemplate;
+    private final ChatMessageCoalescer chatMessageCoalescer;
 
     private final ChatRoomRepository chatRoomRepository;
     private final ChatMessageRepository chatMessageRepository;
@@ -57,8 +56,7 @@ public class RedisSubscriber {
             }
 
             // 채팅방을 구독한 클라이언트에게 메시지 발송
-            messagingTemplate.convertAndSend("/topic/chat/room/" + redisChatMessage.getRoomId(),
-                redisChatMessage);
+            chatMessageCoalescer.publish(redisChatMessage.getRoomId(), redisChatMessage);
 
             // 메시지 DB에 저장하기 위해 객체 생성
             ChatMessage chatMessage = ChatMessage.builder()
@@ -67,6 +65,8 @@ public class RedisSubscriber {
                 .type(redisChatMessage.getType())
                 .message(redisChatMessage.getMessage())
                 .sendTime(LocalDateTime.now())
+                .seq(redisChatMessage.getSeq())
+                .clientMessageId(redisChatMessage.getClientMessageId())
                 .build();
             chatMessageRepository.save(chatMessage);
 
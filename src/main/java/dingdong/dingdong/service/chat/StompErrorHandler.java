@@ -0,0 +1,55 @@
+package dingdong.dingdong.service.chat;
+
+import dingdong.dingdong.util.exception.JwtAuthException;
+import dingdong.dingdong.util.exception.LimitException;
+import dingdong.dingdong.util.exception.ResultCode;
+import java.nio.charset.StandardCharsets;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.StompSubProtocolErrorHandler;
+
+/**
+ * STOMP 메시지 처리 중 발생한 예외를 ERROR 프레임으로 응답
+ * 요청 제한 초과(LimitException), 인증 실패(JwtAuthException)는 ResultCode 를 message 헤더에 담고,
+ * 클라이언트가 receipt 헤더를 보냈으면 receipt-id 로 어떤 메시지가 거절되었는지 알려준다.
+ */
+@Component
+public class StompErrorHandler extends StompSubProtocolErrorHandler {
+
+    @Override
+    public Message<byte[]> handleClientMessageProcessingError(Message<byte[]> clientMessage,
+        Throwable ex) {
+        ResultCode resultCode = findResultCode(ex);
+        if (resultCode == null) {
+            return super.handleClientMessageProcessingError(clientMessage, ex);
+        }
+
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.ERROR);
+        accessor.setMessage(resultCode.name());
+        if (clientMessage != null) {
+            String receipt = StompHeaderAccessor.wrap(clientMessage).getReceipt();
+            if (receipt != null) {
+                accessor.setReceiptId(receipt);
+            }
+        }
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(
+            resultCode.getDetail().getBytes(StandardCharsets.UTF_8),
+            accessor.getMessageHeaders());
+    }
+
+    private static ResultCode findResultCode(Throwable ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof LimitException) {
+                return ((LimitException) cause).getResultCode();
+            }
+            if (cause instanceof JwtAuthException) {
+                return ((JwtAuthException) cause).getResultCode();
+            }
+        }
+        return null;
+    }
+}
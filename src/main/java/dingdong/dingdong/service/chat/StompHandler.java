@@ -1,12 +1,23 @@
 package dingdong.dingdong.service.chat;
 
 import dingdong.dingdong.config.TokenProvider;
+import dingdong.dingdong.service.auth.TokenRevocationList;
+import dingdong.dingdong.service.ratelimit.RateLimitPolicy;
+import dingdong.dingdong.service.ratelimit.RateLimiter;
+import dingdong.dingdong.util.exception.JwtAuthException;
+import dingdong.dingdong.util.exception.Result;
+import dingdong.dingdong.util.exception.ResultCode;
+import java.security.Principal;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
 import org.springframework.messaging.simp.stomp.StompCommand;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
@@ -14,20 +25,102 @@ import org.springframework.util.StringUtils;
 @Component
 public class StompHandler implements ChannelInterceptor {
 
+    // 묶음 수신을 지원하는 클라이언트가 SUBSCRIBE 시 보내는 헤더
+    public static final String BATCH_HEADER = "batch";
+    // 거절된 메시지를 알려주는 회원별 destination (/user/queue/errors 구독)
+    public static final String ERROR_DESTINATION = "/queue/errors";
+
     private final TokenProvider tokenProvider;
+    private final TokenRevocationList tokenRevocationList;
+    private final RateLimiter rateLimiter;
+    private final BatchSubscriptionRegistry batchSubscriptionRegistry;
+    // 브로커 설정이 이 interceptor 를 사용하므로 필요할 때 가져옴
+    private final ObjectProvider<SimpMessageSendingOperations> messagingTemplate;
 
     @Override
     public Message<?> preSend(Message<?> message, MessageChannel channel) {
 
         StompHeaderAccessor accessor = StompHeaderAccessor.wrap(message);
 
+        // 유효하지 않거나 폐기된 토큰이면 연결 거절 (StompErrorHandler 가 ERROR 프레임으로 응답)
         if (StompCommand.CONNECT.equals(accessor.getCommand())) {
-            String jwt = accessor.getFirstNativeHeader("Authorization").substring(7);
-            if (StringUtils.hasText(jwt) && tokenProvider.validateToken(jwt)) {
-                accessor.setUser(tokenProvider.getAuthentication(jwt));
+            accessor.setUser(authenticate(accessor.getFirstNativeHeader("Authorization")));
+        }
+
+        // 채팅 메시지 전송 제한 (회원별, 초과한 메시지만 버리고 연결은 유지)
+        if (StompCommand.SEND.equals(accessor.getCommand()) && !isAllowed(accessor)) {
+            reject(accessor, ResultCode.TOO_MANY_REQUESTS);
+            return null;
+        }
+
+        // 묶음 수신을 요청한 채팅방 구독은 묶음 전용 destination으로 변경하고 구독 현황에 기록
+        if (StompCommand.SUBSCRIBE.equals(accessor.getCommand())) {
+            String destination = accessor.getDestination();
+            boolean batch = Boolean.parseBoolean(accessor.getFirstNativeHeader(BATCH_HEADER));
+            if (destination != null
+                && destination.startsWith(ChatMessageCoalescer.ROOM_DESTINATION)
+                && !destination.endsWith(ChatMessageCoalescer.BATCH_SUFFIX) && batch) {
+                destination = destination + ChatMessageCoalescer.BATCH_SUFFIX;
+                accessor.setDestination(destination);
+                message = MessageBuilder.createMessage(message.getPayload(),
+                    accessor.getMessageHeaders());
+            }
+            Long roomId = batchRoomId(destination);
+            if (roomId != null) {
+                batchSubscriptionRegistry.subscribe(accessor.getSessionId(),
+                    accessor.getSubscriptionId(), roomId);
             }
         }
 
+        if (StompCommand.UNSUBSCRIBE.equals(accessor.getCommand())) {
+            batchSubscriptionRegistry.unsubscribe(accessor.getSessionId(),
+                accessor.getSubscriptionId());
+        }
+
+        if (StompCommand.DISCONNECT.equals(accessor.getCommand())) {
+            batchSubscriptionRegistry.disconnect(accessor.getSessionId());
+        }
+
         return message;
     }
+
+    // 묶음 구독 destination 의 채팅방 id (묶음 구독이 아니면 null)
+    private static Long batchRoomId(String destination) {
+        if (destination == null || !destination.startsWith(ChatMessageCoalescer.ROOM_DESTINATION)
+            || !destination.endsWith(ChatMessageCoalescer.BATCH_SUFFIX)) {
+            return null;
+        }
+        try {
+            return Long.parseLong(destination.substring(
+                ChatMessageCoalescer.ROOM_DESTINATION.length(),
+                destination.length() - ChatMessageCoalescer.BATCH_SUFFIX.length()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private Authentication authenticate(String header) {
+        String jwt = header != null && header.startsWith("Bearer ") ? header.substring(7) : null;
+        Authentication authentication =
+            StringUtils.hasText(jwt) ? tokenProvider.resolveAuthentication(jwt) : null;
+        if (authentication == null || tokenRevocationList.isRevoked(authentication)) {
+            throw new JwtAuthException(ResultCode.INVALID_AUTH_TOKEN);
+        }
+        return authentication;
+    }
+
+    // 거절한 메시지를 보낸 회원에게 알림 (ERROR 프레임은 연결을 끊으므로 사용하지 않음)
+    private void reject(StompHeaderAccessor accessor, ResultCode resultCode) {
+        Principal user = accessor.getUser();
+        if (user != null) {
+            messagingTemplate.getObject().convertAndSendToUser(user.getName(), ERROR_DESTINATION,
+                Result.of(resultCode));
+        }
+    }
+
+    private boolean isAllowed(StompHeaderAccessor accessor) {
+        Principal user = accessor.getUser();
+        String key = user != null ? user.getName() : accessor.getSessionId();
+        return key == null || rateLimiter.tryAcquire(RateLimitPolicy.CHAT_MESSAGE, key);
+    }
 }
@@ -0,0 +1,19 @@
+package dingdong.dingdong.service.image;
+
+import lombok.RequiredArgsConstructor;
+import org.quartz.DisallowConcurrentExecution;
+import org.quartz.JobExecutionContext;
+import org.springframework.scheduling.quartz.QuartzJobBean;
+
+// 사용하지 않는 S3 이미지 삭제 (클러스터 전체에서 한 서버만 실행)
+@RequiredArgsConstructor
+@DisallowConcurrentExecution
+public class ImageGarbageCollectJob extends QuartzJobBean {
+
+    private final ImageGarbageCollector imageGarbageCollector;
+
+    @Override
+    protected void executeInternal(JobExecutionContext context) {
+        imageGarbageCollector.collect();
+    }
+}
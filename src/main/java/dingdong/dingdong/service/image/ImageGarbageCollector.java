@@ -0,0 +1,155 @@
+package dingdong.dingdong.service.image;
+
+import dingdong.dingdong.domain.image.ImageObjectRepository;
+import dingdong.dingdong.domain.image.ImageTombstone;
+import dingdong.dingdong.domain.image.ImageTombstoneRepository;
+import dingdong.dingdong.domain.post.PostRepository;
+import dingdong.dingdong.domain.user.ProfileRepository;
+import dingdong.dingdong.service.s3.S3Uploader;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+/**
+ * 삭제 대기 목록의 S3 객체 정리
+ * 기록 후 유예 시간이 지난 객체를 모아 DeleteObjects 한 번으로 삭제하고, 아직 사용 중인 객체는 건너뛴다.
+ * images/ 객체는 색인에 남아 있으면, 이전 방식의 static/ 이미지는 나누기, 프로필에서 사용 중이면 사용 중으로 본다.
+ * 사용 중인지는 한 번에 가져온 객체 전체에 대해 key 목록으로 조회한다.
+ * 삭제에 실패한 객체는 목록에 남겨 다음 실행에서 다시 시도한다.
+ */
+@Slf4j
+@Component
+public class ImageGarbageCollector {
+
+    // S3 DeleteObjects 요청 한 번에 삭제할 수 있는 최대 객체 수
+    private static final int MAX_BATCH_SIZE = 1000;
+
+    private final ImageTombstoneRepository imageTombstoneRepository;
+    private final ImageObjectRepository imageObjectRepository;
+    private final PostRepository postRepository;
+    private final ProfileRepository profileRepository;
+    private final S3Uploader s3Uploader;
+    private final MeterRegistry meterRegistry;
+    private final Duration gracePeriod;
+    private final int batchSize;
+    private final int maxBatches;
+
+    public ImageGarbageCollector(ImageTombstoneRepository imageTombstoneRepository,
+        ImageObjectRepository imageObjectRepository, PostRepository postRepository,
+        ProfileRepository profileRepository, S3Uploader s3Uploader, MeterRegistry meterRegistry,
+        @Value("${image.gc.grace-minutes:10}") long graceMinutes,
+        @Value("${image.gc.batch-size:1000}") int batchSize,
+        @Value("${image.gc.max-batches:20}") int maxBatches) {
+        this.imageTombstoneRepository = imageTombstoneRepository;
+        this.imageObjectRepository = imageObjectRepository;
+        this.postRepository = postRepository;
+        this.profileRepository = profileRepository;
+        this.s3Uploader = s3Uploader;
+        this.meterRegistry = meterRegistry;
+        this.gracePeriod = Duration.ofMinutes(graceMinutes);
+        this.batchSize = Math.min(batchSize, MAX_BATCH_SIZE);
+        this.maxBatches = maxBatches;
+    }
+
+    /**
+     * 유예 시간이 지난 삭제 대기 객체 정리
+     * @return 삭제한 객체 수
+     */
+    public long collect() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(gracePeriod);
+        long reclaimed = 0;
+        for (int i = 0; i < maxBatches; i++) {
+            List<ImageTombstone> tombstones = imageTombstoneRepository
+                .findExpired(cutoff, PageRequest.of(0, batchSize));
+            if (tombstones.isEmpty()) {
+                break;
+            }
+
+            // 같은 key 가 여러 번 기록된 경우 한 번만 삭제
+            Map<String, Long> sizes = new LinkedHashMap<>();
+            tombstones.forEach(tombstone -> sizes.merge(tombstone.getObjectKey(),
+                tombstone.getSize() == null ? 0L : tombstone.getSize(), Math::max));
+
+            Set<String> referenced = findReferencedKeys(sizes.keySet());
+            List<String> keys = new ArrayList<>();
+            long skipped = 0;
+            for (String key : sizes.keySet()) {
+                if (referenced.contains(key)) {
+                    skipped++;
+                } else {
+                    keys.add(key);
+                }
+            }
+
+            Set<String> failed = s3Uploader.deleteObjects(keys);
+            long bytes = keys.stream().filter(key -> !failed.contains(key))
+                .mapToLong(sizes::get).sum();
+            long deleted = keys.size() - failed.size();
+
+            List<Long> done = tombstones.stream()
+                .filter(tombstone -> !failed.contains(tombstone.getObjectKey()))
+                .map(ImageTombstone::getId)
+                .collect(Collectors.toList());
+            imageTombstoneRepository.deleteAllByIdInBatch(done);
+
+            meterRegistry.counter("dingdong.image.gc.objects").increment(deleted);
+            meterRegistry.counter("dingdong.image.gc.bytes").increment(bytes);
+            meterRegistry.counter("dingdong.image.gc.skipped").increment(skipped);
+            meterRegistry.counter("dingdong.image.gc.failed").increment(failed.size());
+            reclaimed += deleted;
+
+            if (!failed.isEmpty()) {
+                log.warn("이미지 삭제 실패 {}건 (다음 실행에서 다시 시도)", failed.size());
+            }
+            // 남은 항목이 없거나 실패한 항목만 남은 경우
+            if (tombstones.size() < batchSize || done.isEmpty()) {
+                break;
+            }
+        }
+        return reclaimed;
+    }
+
+    // 삭제 대기 중 다시 사용된 객체의 key
+    private Set<String> findReferencedKeys(Collection<String> keys) {
+        List<String> indexed = new ArrayList<>();
+        Map<String, String> legacy = new HashMap<>();
+        for (String key : keys) {
+            if (key.startsWith("images/")) {
+                indexed.add(key);
+            } else if (key.startsWith("static/")) {
+                // 이전 방식의 이미지는 같은 파일 이름으로 덮어써졌을 수 있으므로 사용 중인 주소인지 확인
+                legacy.put(s3Uploader.getUrl(key), key);
+            }
+            // 그 밖에는 변환이 끝난 직접 업로드 원본
+        }
+
+        Set<String> referenced = new HashSet<>();
+        if (!indexed.isEmpty()) {
+            referenced.addAll(imageObjectRepository.findObjectKeysIn(indexed));
+        }
+        if (!legacy.isEmpty()) {
+            Set<String> used = new HashSet<>(
+                profileRepository.findProfileImageUrlsIn(legacy.keySet()));
+            for (Object[] urls : postRepository.findImageUrlsIn(legacy.keySet())) {
+                for (Object url : urls) {
+                    used.add((String) url);
+                }
+            }
+            used.stream().filter(legacy::containsKey).map(legacy::get).forEach(referenced::add);
+        }
+        return referenced;
+    }
+}
@@ -0,0 +1,82 @@
+package dingdong.dingdong.service.image;
+
+import dingdong.dingdong.domain.image.ImageObject;
+import dingdong.dingdong.domain.image.ImageObjectRepository;
+import dingdong.dingdong.domain.image.ImageTombstone;
+import dingdong.dingdong.domain.image.ImageTombstoneRepository;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 원본 SHA-256 → S3 객체 색인과 참조 수
+ * acquire, register 는 호출한 쪽의 트랜잭션에 참여하므로 요청 트랜잭션이 롤백되면 늘린 참조와 새로 등록한 객체도 함께 롤백된다.
+ * (새로 업로드한 S3 객체는 ImageService 가 롤백 후 삭제 대기 목록에 기록)
+ * release, releaseUnindexed 는 커밋, 롤백 후 콜백에서 호출되므로 항상 새 트랜잭션에서 실행한다.
+ * 참조가 없어진 객체는 바로 삭제하지 않고 삭제 대기 목록(ImageTombstone)에 기록한다.
+ */
+@RequiredArgsConstructor
+@Component
+public class ImageIndex {
+
+    private final ImageObjectRepository imageObjectRepository;
+    private final ImageTombstoneRepository imageTombstoneRepository;
+
+    // 이미 저장된 이미지면 참조 수를 늘리고 S3 key 반환 (없으면 null)
+    @Transactional
+    public String acquire(String hash, ImageVariant variant) {
+        for (ImageObject imageObject : imageObjectRepository
+            .findByHashAndVariant(hash, variant.name())) {
+            if (imageObjectRepository.increaseRefCount(imageObject.getId()) > 0) {
+                return imageObject.getObjectKey();
+            }
+        }
+        return null;
+    }
+
+    // 새로 업로드한 이미지 등록 (참조 수 1)
+    @Transactional
+    public void register(String hash, ImageVariant variant, String objectKey, long size) {
+        imageObjectRepository.save(ImageObject.builder()
+            .hash(hash)
+            .variant(variant.name())
+            .objectKey(objectKey)
+            .size(size)
+            .refCount(1L)
+            .build());
+    }
+
+    // 참조 수를 줄이고 더 이상 참조가 없으면 색인에서 지운 후 삭제 대기 목록에 기록
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void release(String objectKey) {
+        if (imageObjectRepository.decreaseRefCount(objectKey) == 0) {
+            return;
+        }
+        Long size = imageObjectRepository.findSizeByObjectKey(objectKey);
+        if (imageObjectRepository.deleteUnreferenced(objectKey) > 0) {
+            tombstone(objectKey, size);
+        }
+    }
+
+    // 색인에 없는 객체(이전 방식의 이미지, 롤백된 업로드)를 삭제 대기 목록에 기록
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void releaseUnindexed(String objectKey) {
+        tombstone(objectKey, null);
+    }
+
+    // 아직 색인에 있는 객체인지 확인
+    @Transactional(readOnly = true)
+    public boolean isReferenced(String objectKey) {
+        return imageObjectRepository.existsByObjectKey(objectKey);
+    }
+
+    private void tombstone(String objectKey, Long size) {
+        imageTombstoneRepository.save(ImageTombstone.builder()
+            .objectKey(objectKey)
+            .size(size)
+            .createdAt(LocalDateTime.now())
+            .build());
+    }
+}
@@ -0,0 +1,254 @@
+package dingdong.dingdong.service.image;
+
+import dingdong.dingdong.util.exception.LimitException;
+import dingdong.dingdong.util.exception.ResultCode;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이미지 디코딩, 크기 변환, JPEG 인코딩
+ * 휴대폰 사진은 회전하지 않고 EXIF Orientation 으로 방향만 기록하므로 디코딩 후 방향대로 돌린다.
+ */
+@Component
+public class ImageProcessor {
+
+    private static final int ORIENTATION_TAG = 0x0112;
+
+    private final long maxPixels;
+    private final float jpegQuality;
+
+    public ImageProcessor(@Value("${image.max-pixels:40000000}") long maxPixels,
+        @Value("${image.jpeg-quality:0.85}") float jpegQuality) {
+        this.maxPixels = maxPixels;
+        this.jpegQuality = jpegQuality;
+    }
+
+    /**
+     * 업로드된 이미지 디코딩 (이미지가 아니거나 너무 크면 LimitException)
+     * 전체를 읽기 전에 헤더의 크기를 먼저 확인한다.
+     */
+    public BufferedImage decode(byte[] bytes) {
+        try (ImageInputStream input = ImageIO
+            .createImageInputStream(new ByteArrayInputStream(bytes))) {
+            Iterator<ImageReader> readers = input == null ? null : ImageIO.getImageReaders(input);
+            if (readers == null || !readers.hasNext()) {
+                throw new LimitException(ResultCode.IMAGE_INVALID);
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                if ((long) reader.getWidth(0) * reader.getHeight(0) > maxPixels) {
+                    throw new LimitException(ResultCode.IMAGE_INVALID);
+                }
+                return orient(reader.read(0), orientation(bytes));
+            } finally {
+                reader.dispose();
+            }
+        } catch (IOException e) {
+            throw new LimitException(ResultCode.IMAGE_INVALID);
+        }
+    }
+
+    // 크기 변환 후 JPEG 로 인코딩
+    public byte[] render(BufferedImage source, ImageVariant variant) {
+        return encode(resize(source, variant));
+    }
+
+    BufferedImage resize(BufferedImage source, ImageVariant variant) {
+        int x = 0;
+        int y = 0;
+        int width = source.getWidth();
+        int height = source.getHeight();
+        if (variant.isSquare()) {
+            int side = Math.min(width, height);
+            x = (width - side) / 2;
+            y = (height - side) / 2;
+            width = side;
+            height = side;
+        }
+
+        double scale = Math.min(1.0, (double) variant.getSize() / Math.max(width, height));
+        int targetWidth = Math.max(1, (int) Math.round(width * scale));
+        int targetHeight = Math.max(1, (int) Math.round(height * scale));
+
+        // JPEG 는 투명도를 지원하지 않으므로 흰 배경의 RGB 이미지로 그림
+        BufferedImage target = new BufferedImage(targetWidth, targetHeight,
+            BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION,
+                RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING,
+                RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, targetWidth, targetHeight);
+            graphics.drawImage(source, 0, 0, targetWidth, targetHeight, x, y, x + width,
+                y + height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    // EXIF Orientation (1~8) 대로 회전, 반전
+    BufferedImage orient(BufferedImage source, int orientation) {
+        double width = source.getWidth();
+        double height = source.getHeight();
+        AffineTransform transform;
+        switch (orientation) {
+            case 2:
+                transform = new AffineTransform(-1, 0, 0, 1, width, 0);
+                break;
+            case 3:
+                transform = new AffineTransform(-1, 0, 0, -1, width, height);
+                break;
+            case 4:
+                transform = new AffineTransform(1, 0, 0, -1, 0, height);
+                break;
+            case 5:
+                transform = new AffineTransform(0, 1, 1, 0, 0, 0);
+                break;
+            case 6:
+                transform = new AffineTransform(0, 1, -1, 0, height, 0);
+                break;
+            case 7:
+                transform = new AffineTransform(0, -1, -1, 0, height, width);
+                break;
+            case 8:
+                transform = new AffineTransform(0, -1, 1, 0, 0, width);
+                break;
+            default:
+                return source;
+        }
+
+        // 5~8 은 가로, 세로가 바뀜
+        boolean swap = orientation >= 5;
+        BufferedImage target = new BufferedImage(
+            swap ? source.getHeight() : source.getWidth(),
+            swap ? source.getWidth() : source.getHeight(),
+            source.getColorModel().hasAlpha() ? BufferedImage.TYPE_INT_ARGB
+                : BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.drawImage(source, transform, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    /**
+     * JPEG 의 EXIF(APP1) 에서 Orientation 값을 읽음 (없거나 JPEG 가 아니면 1)
+     * 이미지 데이터(SOS) 이전의 marker segment 만 확인한다.
+     */
+    static int orientation(byte[] bytes) {
+        if (bytes.length < 4 || u8(bytes, 0) != 0xFF || u8(bytes, 1) != 0xD8) {
+            return 1;
+        }
+        int pos = 2;
+        while (pos + 4 <= bytes.length) {
+            if (u8(bytes, pos) != 0xFF) {
+                return 1;
+            }
+            int marker = u8(bytes, pos + 1);
+            if (marker == 0xFF) {
+                // 채움 바이트
+                pos++;
+                continue;
+            }
+            if (marker == 0xDA || marker == 0xD9) {
+                return 1;
+            }
+            int length = u16(bytes, pos + 2, false);
+            int start = pos + 4;
+            int end = pos + 2 + length;
+            if (length < 2 || end > bytes.length) {
+                return 1;
+            }
+            if (marker == 0xE1 && end - start > 14 && bytes[start] == 'E' && bytes[start + 1] == 'x'
+                && bytes[start + 2] == 'i' && bytes[start + 3] == 'f' && bytes[start + 4] == 0
+                && bytes[start + 5] == 0) {
+                return tiffOrientation(bytes, start + 6, end);
+            }
+            pos = end;
+        }
+        return 1;
+    }
+
+    // TIFF 헤더와 첫 번째 IFD 에서 Orientation 조회
+    private static int tiffOrientation(byte[] bytes, int tiff, int end) {
+        boolean little;
+        if (bytes[tiff] == 'I' && bytes[tiff + 1] == 'I') {
+            little = true;
+        } else if (bytes[tiff] == 'M' && bytes[tiff + 1] == 'M') {
+            little = false;
+        } else {
+            return 1;
+        }
+        long offset = u32(bytes, tiff + 4, little);
+        if (offset < 8 || tiff + offset + 2 > end) {
+            return 1;
+        }
+        int ifd = tiff + (int) offset;
+        int count = u16(bytes, ifd, little);
+        for (int i = 0; i < count; i++) {
+            int entry = ifd + 2 + i * 12;
+            if (entry + 12 > end) {
+                return 1;
+            }
+            if (u16(bytes, entry, little) == ORIENTATION_TAG) {
+                int value = u16(bytes, entry + 8, little);
+                return value >= 1 && value <= 8 ? value : 1;
+            }
+        }
+        return 1;
+    }
+
+    private static int u8(byte[] bytes, int pos) {
+        return bytes[pos] & 0xFF;
+    }
+
+    private static int u16(byte[] bytes, int pos, boolean little) {
+        return little ? u8(bytes, pos) | u8(bytes, pos + 1) << 8
+            : u8(bytes, pos) << 8 | u8(bytes, pos + 1);
+    }
+
+    private static long u32(byte[] bytes, int pos, boolean little) {
+        return little ? (long) u16(bytes, pos + 2, true) << 16 | u16(bytes, pos, true)
+            : (long) u16(bytes, pos, false) << 16 | u16(bytes, pos + 2, false);
+    }
+
+    private byte[] encode(BufferedImage image) {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(bytes)) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(jpegQuality);
+            writer.setOutput(output);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            writer.dispose();
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,378 @@
+package dingdong.dingdong.service.image;
+
+import com.amazonaws.services.s3.model.S3Object;
+import com.amazonaws.services.s3.model.S3ObjectInputStream;
+import dingdong.dingdong.dto.image.ImageUploadRequestDto;
+import dingdong.dingdong.dto.image.ImageUploadResponseDto;
+import dingdong.dingdong.service.s3.S3Uploader;
+import dingdong.dingdong.util.TransactionUtil;
+import dingdong.dingdong.util.exception.ForbiddenException;
+import dingdong.dingdong.util.exception.LimitException;
+import dingdong.dingdong.util.exception.ResourceNotFoundException;
+import dingdong.dingdong.util.exception.ResultCode;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URL;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * 업로드 이미지 처리
+ * 원본을 읽으면서 SHA-256 을 계산하고, 같은 원본으로 이미 만든 크기별 이미지가 있으면 재사용한다.
+ * 없는 크기만 imageExecutor 에서 원본을 한 번 디코딩하고 변환 후 images/{hash}/{variant}-{uuid}.jpg 에 업로드한다.
+ * (디코딩, 변환은 요청 스레드가 아닌 크기가 제한된 imageExecutor 에서만 실행됨)
+ * 사용하지 않게 된 이미지는 삭제 대기 목록에 기록하고 ImageGarbageCollector 가 삭제한다.
+ * 클라이언트는 발급받은 주소로 uploads/{userId}/{uuid} 에 원본을 직접 올리고, 나누기/프로필 저장 시 key 만 전달할 수 있다.
+ * 변환은 오래 걸릴 수 있으므로 호출하는 쪽은 DB 트랜잭션을 시작하기 전에 호출한다.
+ */
+@Slf4j
+@Service
+public class ImageService {
+
+    public static final String CONTENT_TYPE = "image/jpeg";
+
+    private static final String KEY_PREFIX = "images/";
+    // 이전 방식으로 업로드된 이미지 (static/default_* 는 모든 회원, 나누기가 함께 사용하는 기본 이미지)
+    private static final String LEGACY_PREFIX = "static/";
+    private static final String SHARED_PREFIX = "static/default_";
+    // 클라이언트가 직접 업로드한 원본
+    private static final String UPLOAD_PREFIX = "uploads/";
+    private static final Pattern UPLOAD_KEY = Pattern.compile(
+        "^uploads/(\\d+)/[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}$");
+    private static final Set<String> UPLOAD_CONTENT_TYPES = Set.of("image/jpeg", "image/png");
+
+    private final ImageProcessor imageProcessor;
+    private final ImageIndex imageIndex;
+    private final S3Uploader s3Uploader;
+    private final Executor imageExecutor;
+    private final long maxUploadBytes;
+    private final Duration uploadUrlTtl;
+
+    public ImageService(ImageProcessor imageProcessor, ImageIndex imageIndex,
+        S3Uploader s3Uploader, @Qualifier("imageExecutor") Executor imageExecutor,
+        @Value("${image.upload.max-bytes:10485760}") long maxUploadBytes,
+        @Value("${image.upload.url-ttl-seconds:600}") long uploadUrlTtlSeconds) {
+        this.imageProcessor = imageProcessor;
+        this.imageIndex = imageIndex;
+        this.s3Uploader = s3Uploader;
+        this.imageExecutor = imageExecutor;
+        this.maxUploadBytes = maxUploadBytes;
+        this.uploadUrlTtl = Duration.ofSeconds(uploadUrlTtlSeconds);
+    }
+
+    /**
+     * S3 직접 업로드 주소 발급 (형식과 크기가 서명에 포함됨)
+     */
+    public ImageUploadResponseDto createUploadUrl(Long userId,
+        ImageUploadRequestDto imageUploadRequestDto) {
+        String contentType = imageUploadRequestDto.getContentType();
+        Long size = imageUploadRequestDto.getSize();
+        if (contentType == null || !UPLOAD_CONTENT_TYPES.contains(contentType)
+            || size == null || size <= 0 || size > maxUploadBytes) {
+            throw new LimitException(ResultCode.IMAGE_INVALID);
+        }
+
+        String key = UPLOAD_PREFIX + userId + "/" + UUID.randomUUID();
+        Instant expiredAt = Instant.now().plus(uploadUrlTtl);
+        URL uploadUrl = s3Uploader.presignPut(key, contentType, size, Date.from(expiredAt));
+        return ImageUploadResponseDto.builder()
+            .key(key)
+            .uploadUrl(uploadUrl.toString())
+            .expiredAt(LocalDateTime.ofInstant(expiredAt, ZoneId.systemDefault()))
+            .build();
+    }
+
+    /**
+     * 클라이언트가 직접 업로드한 원본을 크기별로 변환 (upload 와 같은 처리)
+     * 원본을 읽는 것부터 imageExecutor 에서 실행하며, 변환이 끝난 원본은 커밋 후 삭제 대기 목록에 기록한다.
+     * @return 크기별 이미지 주소
+     */
+    public Map<ImageVariant, String> confirm(Long userId, String key, ImageVariant... variants) {
+        if (!isUploadKeyOf(userId, key)) {
+            throw new ForbiddenException(ResultCode.IMAGE_UPLOAD_FORBIDDEN);
+        }
+
+        Original original;
+        try {
+            original = CompletableFuture.supplyAsync(() -> readUpload(key), imageExecutor).join();
+        } catch (RejectedExecutionException e) {
+            throw new LimitException(ResultCode.IMAGE_PROCESSING_UNAVAILABLE);
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+        Map<ImageVariant, String> urls = upload(original, variants);
+        TransactionUtil.afterCommit(() -> release(key));
+        return urls;
+    }
+
+    // 직접 업로드한 원본 읽기 (최대 크기를 넘으면 읽지 않고 연결을 끊음)
+    private Original readUpload(String key) {
+        S3Object object = s3Uploader.getObject(key);
+        if (object == null) {
+            throw new ResourceNotFoundException(ResultCode.IMAGE_UPLOAD_NOT_FOUND);
+        }
+        try (S3ObjectInputStream input = object.getObjectContent()) {
+            if (object.getObjectMetadata().getContentLength() > maxUploadBytes) {
+                input.abort();
+                throw new LimitException(ResultCode.IMAGE_INVALID);
+            }
+            return read(input);
+        } catch (IOException e) {
+            throw new LimitException(ResultCode.IMAGE_INVALID);
+        }
+    }
+
+    /**
+     * 이미지를 크기별로 변환하여 업로드 (이미 저장된 이미지는 재사용)
+     * 색인은 진행 중인 트랜잭션에서 변경되므로 롤백되면 늘어난 참조도 함께 롤백되고,
+     * 새로 업로드한 객체는 롤백 후 삭제 대기 목록에 기록한다.
+     * 트랜잭션 밖에서 호출하면 색인 변경이 바로 커밋되므로 사용하지 못한 이미지는 호출하는 쪽에서 release 한다.
+     * @return 크기별 이미지 주소
+     */
+    public Map<ImageVariant, String> upload(MultipartFile file, ImageVariant... variants) {
+        try (InputStream input = file.getInputStream()) {
+            return upload(read(input), variants);
+        } catch (IOException e) {
+            throw new LimitException(ResultCode.IMAGE_INVALID);
+        }
+    }
+
+    // 원본을 읽으면서 SHA-256 계산
+    private static Original read(InputStream source) {
+        try (DigestInputStream input = new DigestInputStream(source, sha256())) {
+            byte[] bytes = input.readAllBytes();
+            return new Original(bytes, toHex(input.getMessageDigest().digest()));
+        } catch (IOException e) {
+            throw new LimitException(ResultCode.IMAGE_INVALID);
+        }
+    }
+
+    private Map<ImageVariant, String> upload(Original original, ImageVariant... variants) {
+        byte[] bytes = original.bytes;
+        String hash = original.hash;
+
+        Map<ImageVariant, String> urls = new EnumMap<>(ImageVariant.class);
+        // 이 요청에서 참조를 늘린 key (실패하면 해제)
+        List<String> acquired = new ArrayList<>();
+        try {
+            return uploadVariants(bytes, hash, variants, urls, acquired);
+        } catch (RuntimeException e) {
+            acquired.forEach(this::releaseAcquired);
+            throw e;
+        }
+    }
+
+    private Map<ImageVariant, String> uploadVariants(byte[] bytes, String hash,
+        ImageVariant[] variants, Map<ImageVariant, String> urls, List<String> acquired) {
+        Map<ImageVariant, String> missing = new EnumMap<>(ImageVariant.class);
+        for (ImageVariant variant : variants) {
+            String key = imageIndex.acquire(hash, variant);
+            if (key != null) {
+                acquired.add(key);
+                urls.put(variant, s3Uploader.getUrl(key));
+            } else {
+                missing.put(variant, newKey(hash, variant));
+            }
+        }
+        if (missing.isEmpty()) {
+            return urls;
+        }
+
+        // 디코딩 후 크기별 변환, 업로드를 나누어 실행
+        Map<ImageVariant, CompletableFuture<Long>> futures = new EnumMap<>(ImageVariant.class);
+        try {
+            CompletableFuture<BufferedImage> decoded = CompletableFuture
+                .supplyAsync(() -> imageProcessor.decode(bytes), imageExecutor);
+            missing.forEach((variant, key) -> futures.put(variant, decoded.thenApplyAsync(
+                image -> {
+                    byte[] rendered = imageProcessor.render(image, variant);
+                    s3Uploader.upload(rendered, key, CONTENT_TYPE);
+                    return (long) rendered.length;
+                }, imageExecutor)));
+        } catch (RejectedExecutionException e) {
+            // 처리 대기 중인 이미지가 너무 많은 경우
+            throw new LimitException(ResultCode.IMAGE_PROCESSING_UNAVAILABLE);
+        }
+
+        Map<ImageVariant, Long> sizes = new EnumMap<>(ImageVariant.class);
+        try {
+            futures.forEach((variant, future) -> sizes.put(variant, future.join()));
+        } catch (CompletionException e) {
+            // 일부 크기만 업로드된 경우 (업로드되지 않은 key 도 함께 기록되지만 삭제 시 무시됨)
+            CompletableFuture.allOf(futures.values().toArray(new CompletableFuture[0]))
+                .exceptionally(ex -> null).join();
+            missing.values().forEach(this::discard);
+            // 디코딩이 끝난 후 변환 작업이 거절된 경우
+            if (e.getCause() instanceof RejectedExecutionException) {
+                throw new LimitException(ResultCode.IMAGE_PROCESSING_UNAVAILABLE);
+            }
+            if (e.getCause() instanceof LimitException) {
+                throw (LimitException) e.getCause();
+            }
+            log.error("Exception {}", e);
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+
+        missing.forEach((variant, key) -> {
+            imageIndex.register(hash, variant, key, sizes.get(variant));
+            acquired.add(key);
+            // 롤백되면 색인에서도 없어지므로 업로드한 객체는 삭제 대기 목록에 기록
+            TransactionUtil.afterRollback(() -> releaseUnindexed(key));
+            urls.put(variant, s3Uploader.getUrl(key));
+        });
+        return urls;
+    }
+
+    /**
+     * 실패한 요청에서 늘린 참조 해제
+     * 트랜잭션 안에서는 롤백되면 늘린 참조도 함께 롤백되므로, 트랜잭션 밖에서 호출된 경우만 바로 해제한다.
+     */
+    private void releaseAcquired(String key) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        try {
+            imageIndex.release(key);
+        } catch (Exception e) {
+            log.error("Exception {}", e);
+        }
+    }
+
+    // 색인에 등록하지 못한 업로드 객체 정리 (트랜잭션이 있으면 롤백 후, 없으면 바로 기록)
+    private void discard(String key) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionUtil.afterRollback(() -> releaseUnindexed(key));
+        } else {
+            releaseUnindexed(key);
+        }
+    }
+
+    private void releaseUnindexed(String key) {
+        try {
+            imageIndex.releaseUnindexed(key);
+        } catch (Exception e) {
+            log.error("Exception {}", e);
+        }
+    }
+
+    /**
+     * 더 이상 사용하지 않는 이미지의 참조 해제 (커밋 후 반영)
+     * 참조가 모두 없어지거나 색인에 없는 이전 방식의 이미지는 삭제 대기 목록에 기록한다. 기본 이미지는 제외한다.
+     */
+    public void release(String... urls) {
+        for (String url : urls) {
+            String key = keyOf(url);
+            if (key != null) {
+                TransactionUtil.afterCommit(() -> release(key));
+            }
+        }
+    }
+
+    private void release(String key) {
+        try {
+            if (key.startsWith(KEY_PREFIX)) {
+                imageIndex.release(key);
+            } else {
+                imageIndex.releaseUnindexed(key);
+            }
+        } catch (Exception e) {
+            // 기록에 실패한 객체는 버킷에 남음
+            log.error("Exception {}", e);
+        }
+    }
+
+    // 발급한 형식(uploads/{userId}/{uuid})의 본인 업로드 key 인지 확인
+    static boolean isUploadKeyOf(Long userId, String key) {
+        if (key == null) {
+            return false;
+        }
+        Matcher matcher = UPLOAD_KEY.matcher(key);
+        return matcher.matches() && matcher.group(1).equals(String.valueOf(userId));
+    }
+
+    // 새 객체의 S3 key (삭제된 객체의 key 를 다시 사용하지 않도록 객체마다 다름)
+    static String newKey(String hash, ImageVariant variant) {
+        return KEY_PREFIX + hash + "/" + variant.getName() + "-" + UUID.randomUUID() + ".jpg";
+    }
+
+    // 이미지 주소에서 S3 key 추출 (업로드된 이미지가 아니거나 기본 이미지면 null)
+    static String keyOf(String url) {
+        if (url == null) {
+            return null;
+        }
+        try {
+            String path = URI.create(url).getPath();
+            if (path == null || path.isEmpty()) {
+                return null;
+            }
+            String key = path.substring(1);
+            if (key.startsWith(KEY_PREFIX)
+                || key.startsWith(LEGACY_PREFIX) && !key.startsWith(SHARED_PREFIX)) {
+                return key;
+            }
+            return null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static final class Original {
+
+        private final byte[] bytes;
+        private final String hash;
+
+        private Original(byte[] bytes, String hash) {
+            this.bytes = bytes;
+            this.hash = hash;
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String toHex(byte[] digest) {
+        StringBuilder hex = new StringBuilder(digest.length * 2);
+        for (byte b : digest) {
+            hex.append(Character.forDigit((b >> 4) & 0xF, 16))
+                .append(Character.forDigit(b & 0xF, 16));
+        }
+        return hex.toString();
+    }
+}
@@ -0,0 +1,26 @@
+package dingdong.dingdong.service.image;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 업로드 이미지를 변환하는 크기
+ * square 이면 가운데를 정사각형으로 잘라 size x size 로, 아니면 긴 변이 size 가 되도록 줄인다. (원본보다 키우지 않음)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ImageVariant {
+
+    // 채팅, 채팅방 사용자 목록의 프로필 이미지
+    AVATAR_SMALL("avatar-64", 64, true),
+    // 프로필 화면의 프로필 이미지
+    AVATAR("avatar-128", 128, true),
+    // 나누기 목록의 썸네일
+    THUMBNAIL("thumbnail", 320, false),
+    // 나누기 상세 이미지
+    DETAIL("detail", 1080, false);
+
+    private final String name;
+    private final int size;
+    private final boolean square;
+}
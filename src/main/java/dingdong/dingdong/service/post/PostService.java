@@ -6,11 +6,9 @@ import static dingdong.dingdong.util.exception.ResultCode.POST_DELETE_FAIL_DONE;
 import static dingdong.dingdong.util.exception.ResultCode.POST_NOT_FOUND;
 import static dingdong.dingdong.util.exception.ResultCode.USER_NOT_FOUND;
 
-import dingdong.dingdong.domain.chat.ChatJoin;
 import dingdong.dingdong.domain.chat.ChatJoinRepository;
-import dingdong.dingdong.domain.chat.ChatMessage;
-import dingdong.dingdong.domain.chat.ChatMessageRepository;
 import dingdong.dingdong.domain.chat.ChatPromiseRepository;
+import dingdong.dingdong.domain.chat.ChatPromiseVoteRepository;
 import dingdong.dingdong.domain.chat.ChatRoom;
 import dingdong.dingdong.domain.chat.ChatRoomRepository;
 import dingdong.dingdong.domain.chat.PromiseType;
@@ -29,20 +27,27 @@ import dingdong.dingdong.dto.post.PostCreateRequestDto;
 import dingdong.dingdong.dto.post.PostDetailResponseDto;
 import dingdong.dingdong.dto.post.PostGetResponseDto;
 import dingdong.dingdong.dto.post.PostUpdateRequestDto;
+import dingdong.dingdong.service.chat.ChatJoinCache;
+import dingdong.dingdong.service.chat.ChatMessagePurger;
 import dingdong.dingdong.service.chat.ChatService;
-import dingdong.dingdong.service.s3.S3Uploader;
+import dingdong.dingdong.service.image.ImageService;
+import dingdong.dingdong.service.image.ImageVariant;
+import dingdong.dingdong.service.profile.CachedProfile;
+import dingdong.dingdong.service.profile.ProfileCache;
 import dingdong.dingdong.util.exception.ForbiddenException;
 import dingdong.dingdong.util.exception.LimitException;
 import dingdong.dingdong.util.exception.ResourceNotFoundException;
 import dingdong.dingdong.util.exception.ResultCode;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 @RequiredArgsConstructor
@@ -54,14 +59,18 @@ public class PostService {
     private final TagRepository tagRepository;
     private final CategoryRepository categoryRepository;
     private final UserRepository userRepository;
-    private final S3Uploader s3Uploader;
+    private final ImageService imageService;
 
     private final ChatRoomRepository chatRoomRepository;
     private final ChatJoinRepository chatJoinRepository;
     private final ChatPromiseRepository chatPromiseRepository;
-    private final ChatMessageRepository chatMessageRepository;
+    private final ChatPromiseVoteRepository chatPromiseVoteRepository;
 
     private final ChatService chatService;
+    private final ChatJoinCache chatJoinCache;
+    private final ChatMessagePurger chatMessagePurger;
+    private final ProfileCache profileCache;
+    private final TransactionTemplate transactionTemplate;
 
     // 유저의 LOCAL 정보에 기반하여 나누기 불러오기 (정렬 기준: 최신순)(홈화면)(유저의 local 정보 기반)
     @Transactional(readOnly = true)
@@ -187,8 +196,12 @@ public class PostService {
         Post post = postRepository.findById(id)
             .orElseThrow(() -> new ResourceNotFoundException(POST_NOT_FOUND));
         List<Tag> tags = postTagRepository.findTagByPost(post);
+        CachedProfile writer = profileCache.get(post.getUser().getId());
+        if (writer == null) {
+            throw new ResourceNotFoundException(ResultCode.PROFILE_NOT_FOUND);
+        }
 
-        return PostDetailResponseDto.from(post, tags);
+        return PostDetailResponseDto.from(post, tags, writer);
     }
 
     // 유저의 판매내역 리스트 (GET: 유저별로 출력되는 나누기 피드)
@@ -336,14 +349,11 @@ public class PostService {
         return data;
     }
 
-    // 나누기 피드(post) 생성
-    @Transactional
+    /**
+     * 나누기 피드(post) 생성
+     * 이미지 변환은 DB 연결을 잡지 않도록 트랜잭션을 시작하기 전에 처리하고, 저장에 실패하면 새 이미지의 참조를 해제한다.
+     */
     public Long createPost(User user, Long localId, PostCreateRequestDto postCreateRequestDto) {
-
-        // CategoryId
-        Category category = categoryRepository.findById(postCreateRequestDto.getCategoryId())
-            .orElseThrow(() -> new ResourceNotFoundException(CATEGORY_NOT_FOUND));
-
         Local local;
         if (localId == 1L) {
             local = user.getLocal1();
@@ -354,13 +364,9 @@ public class PostService {
         }
 
         List<String> paths = new ArrayList<>();
-        // ImageList to S3
-        if (postCreateRequestDto.getPostImages() != null) {
-            List<MultipartFile> files = postCreateRequestDto.getPostImages();
-            for (MultipartFile file : files) {
-                paths.add(s3Uploader.upload(file, "static"));
-            }
-        }
+        // ImageList to S3 (상세 크기로 변환, 첫 번째 이미지는 목록용 썸네일도 생성)
+        String thumbnailUrl = uploadPostImages(user, postCreateRequestDto.getPostImages(),
+            postCreateRequestDto.getPostImageKeys(), paths);
         if (paths.size() < 3) {
             while (paths.size() < 3) {
                 paths.add(
@@ -368,6 +374,21 @@ public class PostService {
             }
         }
 
+        try {
+            return transactionTemplate.execute(status -> savePost(user, local,
+                postCreateRequestDto, paths, thumbnailUrl));
+        } catch (RuntimeException e) {
+            releaseImages(paths, thumbnailUrl);
+            throw e;
+        }
+    }
+
+    private Long savePost(User user, Local local, PostCreateRequestDto postCreateRequestDto,
+        List<String> paths, String thumbnailUrl) {
+        // CategoryId
+        Category category = categoryRepository.findById(postCreateRequestDto.getCategoryId())
+            .orElseThrow(() -> new ResourceNotFoundException(CATEGORY_NOT_FOUND));
+
         // 나눔 저장
         Post post = Post.builder()
             .title(postCreateRequestDto.getTitle())
@@ -380,6 +401,7 @@ public class PostService {
             .imageUrl1(paths.get(0))
             .imageUrl2(paths.get(1))
             .imageUrl3(paths.get(2))
+            .thumbnailUrl(thumbnailUrl)
             .local(local)
             .build();
         postRepository.save(post);
@@ -408,13 +430,38 @@ public class PostService {
         return post.getId();
     }
 
-    // 나누기 피드(post) 제거
-    @Transactional
+    /**
+     * 나누기 피드(post) 제거
+     * 메시지가 많은 채팅방도 잠금을 짧게 유지하도록 메시지를 먼저 chunk 단위 트랜잭션으로 나누어 삭제한 후,
+     * 채팅방을 잠그고 그 사이 저장된 메시지와 나머지를 한 트랜잭션으로 삭제한다.
+     */
     public void deletePost(User user, Long id) {
+        transactionTemplate.executeWithoutResult(status -> checkDeletable(user, id, false));
+        chatMessagePurger.purge(id);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Post post = checkDeletable(user, id, true);
+
+            // 엔티티를 읽지 않고 채팅방 단위로 한 번에 삭제 (메시지는 외래 키가 있으므로 채팅방보다 먼저 삭제)
+            chatMessagePurger.purge(id);
+            postTagRepository.deleteByPostId(id);
+            chatPromiseVoteRepository.deleteByChatRoomId(id);
+            chatPromiseRepository.deleteByChatRoomId(id);
+            chatJoinRepository.deleteByChatRoomId(id);
+            chatRoomRepository.deleteInBulkById(id);
+            postRepository.deleteInBulkById(id);
+            releaseImages(post);
+            chatJoinCache.evict(id);
+        });
+    }
+
+    // 삭제할 수 있는 나누기인지 확인 (lock 이면 채팅방을 잠금)
+    private Post checkDeletable(User user, Long id, boolean lock) {
         Post post = postRepository.findById(id)
             .orElseThrow(() -> new ResourceNotFoundException(POST_NOT_FOUND));
 
-        ChatRoom chatRoom = chatRoomRepository.findByPostId(id)
+        ChatRoom chatRoom = (lock ? chatRoomRepository.findByIdForUpdate(id)
+            : chatRoomRepository.findByPostId(id))
             .orElseThrow(() -> new ResourceNotFoundException(ResultCode.CHAT_ROOM_NOT_FOUND));
 
         if (post.getUser().getId() != user.getId()) {
@@ -430,21 +477,42 @@ public class PostService {
             && chatRoom.getChatPromise().getType() != PromiseType.CONFIRMED && !post.getDone()) {
             throw new LimitException(POST_DELETE_FAIL_DONE);
         }
+        return post;
+    }
 
+    /**
+     * 나누기 피드(post) 수정
+     * 이미지 변환은 DB 연결을 잡지 않도록 트랜잭션을 시작하기 전에 처리하고, 저장에 실패하면 새 이미지의 참조를 해제한다.
+     */
+    public void updatePost(User user, Long id, PostUpdateRequestDto postUpdateRequestDto) {
+        // ImageList to S3
+        List<String> paths = new ArrayList<>();
+        String thumbnailUrl = null;
+        if (postUpdateRequestDto.getPostImages() != null
+            || postUpdateRequestDto.getPostImageKeys() != null) {
+            // 이미지를 상세 크기로 변환하여 AWS S3에 업로드 (첫 번째 이미지는 목록용 썸네일도 생성)
+            thumbnailUrl = uploadPostImages(user, postUpdateRequestDto.getPostImages(),
+                postUpdateRequestDto.getPostImageKeys(), paths);
+            if (paths.size() < 3) {
+                while (paths.size() < 3) {
+                    paths.add(
+                        "https://dingdongbucket.s3.ap-northeast-2.amazonaws.com/static/default_post.png");
+                }
+            }
+        }
 
-        postTagRepository.deleteByPostId(id);
-        chatPromiseRepository.findByChatRoomId(id).ifPresent(chatPromise -> chatPromiseRepository.delete(chatPromise));
-        List<ChatJoin> chatJoins = chatJoinRepository.findAllByChatRoom(chatRoom);
-        chatJoins.stream().forEach(chatJoin -> chatJoinRepository.delete(chatJoin));
-        List<ChatMessage> chatMessages = chatMessageRepository.findAllByChatRoom(chatRoom);
-        chatMessages.stream().forEach(chatMessage -> chatMessageRepository.delete(chatMessage));
-        chatRoomRepository.delete(chatRoom);
-        postRepository.delete(post);
+        String thumbnail = thumbnailUrl;
+        try {
+            transactionTemplate.executeWithoutResult(
+                status -> savePost(id, postUpdateRequestDto, paths, thumbnail));
+        } catch (RuntimeException e) {
+            releaseImages(paths, thumbnail);
+            throw e;
+        }
     }
 
-    // 나누기 피드(post) 수정
-    @Transactional
-    public void updatePost(Long id, PostUpdateRequestDto postUpdateRequestDto) {
+    private void savePost(Long id, PostUpdateRequestDto postUpdateRequestDto, List<String> paths,
+        String thumbnailUrl) {
         Post post = postRepository.findById(id)
             .orElseThrow(() -> new ResourceNotFoundException(POST_NOT_FOUND));
 
@@ -469,21 +537,9 @@ public class PostService {
             post.setCategory(category);
         }
 
-        // ImageList to S3
-        List<String> paths = new ArrayList<>();
-        if (postUpdateRequestDto.getPostImages() != null) {
-            // 이미지를 AWS S3에 업로드
-            List<MultipartFile> files = postUpdateRequestDto.getPostImages();
-            for (MultipartFile file : files) {
-                paths.add(s3Uploader.upload(file, "static"));
-            }
-            if (paths.size() < 3) {
-                while (paths.size() < 3) {
-                    paths.add(
-                        "https://dingdongbucket.s3.ap-northeast-2.amazonaws.com/static/default_post.png");
-                }
-            }
-            post.setImageUrl(paths.get(0), paths.get(1), paths.get(2));
+        if (!paths.isEmpty()) {
+            releaseImages(post);
+            post.setImageUrl(paths.get(0), paths.get(1), paths.get(2), thumbnailUrl);
         }
 
         postRepository.save(post);
@@ -548,4 +604,61 @@ public class PostService {
         }
         return data;
     }
+
+    // 더 이상 사용하지 않는 게시글 이미지 참조 해제 (커밋 후 반영)
+    private void releaseImages(Post post) {
+        imageService.release(post.getImageUrl1(), post.getImageUrl2(), post.getImageUrl3(),
+            post.getThumbnailUrl());
+    }
+
+    // 저장하지 못한 새 게시글 이미지 참조 해제 (기본 이미지는 제외됨)
+    private void releaseImages(List<String> paths, String thumbnailUrl) {
+        List<String> urls = new ArrayList<>(paths);
+        urls.add(thumbnailUrl);
+        imageService.release(urls.toArray(new String[0]));
+    }
+
+    /**
+     * 게시글 이미지 업로드 (상세 크기, 첫 번째 이미지는 목록용 썸네일 포함)
+     * 직접 올린 파일과 S3 에 먼저 업로드한 이미지 key 를 순서대로 처리하여 paths 에 상세 이미지 주소를 추가한다.
+     * 중간에 실패하면 앞서 업로드한 이미지의 참조를 해제한다.
+     * @return 썸네일 주소 (이미지가 없으면 null)
+     */
+    private String uploadPostImages(User user, List<MultipartFile> files, List<String> keys,
+        List<String> paths) {
+        String thumbnailUrl = null;
+        try {
+            if (files != null) {
+                for (MultipartFile file : files) {
+                    Map<ImageVariant, String> urls = imageService.upload(file,
+                        postImageVariants(paths));
+                    thumbnailUrl = addPostImage(urls, paths, thumbnailUrl);
+                }
+            }
+            if (keys != null) {
+                for (String key : keys) {
+                    Map<ImageVariant, String> urls = imageService.confirm(user.getId(), key,
+                        postImageVariants(paths));
+                    thumbnailUrl = addPostImage(urls, paths, thumbnailUrl);
+                }
+            }
+        } catch (RuntimeException e) {
+            releaseImages(paths, thumbnailUrl);
+            throw e;
+        }
+        return thumbnailUrl;
+    }
+
+    private static ImageVariant[] postImageVariants(List<String> paths) {
+        if (paths.isEmpty()) {
+            return new ImageVariant[]{ImageVariant.DETAIL, ImageVariant.THUMBNAIL};
+        }
+        return new ImageVariant[]{ImageVariant.DETAIL};
+    }
+
+    private static String addPostImage(Map<ImageVariant, String> urls, List<String> paths,
+        String thumbnailUrl) {
+        paths.add(urls.get(ImageVariant.DETAIL));
+        return urls.getOrDefault(ImageVariant.THUMBNAIL, thumbnailUrl);
+    }
 }
@@ -0,0 +1,45 @@
+package dingdong.dingdong.service.profile;
+
+import dingdong.dingdong.domain.user.Profile;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 화면 표시용 프로필 (ProfileCache 에 보관, Redis 에는 JSON 으로 저장)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CachedProfile {
+
+    private Long userId;
+
+    private String nickname;
+
+    private String profileImageUrl;
+
+    // 작은 프로필 이미지 (없으면 profileImageUrl)
+    private String profileImageSmallUrl;
+
+    private Long good;
+
+    private Long bad;
+
+    public static CachedProfile from(Profile profile) {
+        return CachedProfile.builder()
+            .userId(profile.getId())
+            .nickname(profile.getNickname())
+            .profileImageUrl(profile.getProfileImageUrl())
+            .profileImageSmallUrl(profile.getProfileImageSmallUrl())
+            .good(profile.getGood())
+            .bad(profile.getBad())
+            .build();
+    }
+
+    public String getProfileImageSmallUrl() {
+        return profileImageSmallUrl != null ? profileImageSmallUrl : profileImageUrl;
+    }
+}
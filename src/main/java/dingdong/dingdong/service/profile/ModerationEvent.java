@@ -0,0 +1,15 @@
+package dingdong.dingdong.service.profile;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 신고 누적 횟수가 기준을 넘은 회원 (정지 또는 블랙리스트 등록 대상)
+ * 처리할 내용은 신고와 함께 저장된 ModerationTask 에 있다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class ModerationEvent {
+
+    private final Long taskId;
+}
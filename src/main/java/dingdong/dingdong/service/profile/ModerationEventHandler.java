@@ -0,0 +1,142 @@
+package dingdong.dingdong.service.profile;
+
+import dingdong.dingdong.domain.user.BlackList;
+import dingdong.dingdong.domain.user.BlackListRepository;
+import dingdong.dingdong.domain.user.ModerationTask;
+import dingdong.dingdong.domain.user.ModerationTaskRepository;
+import dingdong.dingdong.domain.user.RedisRefreshTokenRepository;
+import dingdong.dingdong.domain.user.RefreshTokenRepository;
+import dingdong.dingdong.domain.user.Role;
+import dingdong.dingdong.domain.user.User;
+import dingdong.dingdong.domain.user.UserRepository;
+import dingdong.dingdong.service.auth.CurrentUserCache;
+import dingdong.dingdong.service.auth.NicknameIndex;
+import dingdong.dingdong.service.auth.PhoneFilter;
+import dingdong.dingdong.service.auth.TokenRevocationList;
+import dingdong.dingdong.service.image.ImageService;
+import dingdong.dingdong.util.TransactionUtil;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 신고 누적에 따른 정지, 블랙리스트 처리
+ * 신고가 커밋된 후 별도 스레드의 새 트랜잭션에서 처리하므로 신고 요청은 신고 저장만 기다린다.
+ * 처리할 작업은 신고와 같은 트랜잭션에서 ModerationTask 로 저장되고, 처리와 함께 삭제된다.
+ * 비동기 처리가 실패하거나 유실된 작업은 ModerationRetryJob 이 다시 처리하고, max-attempts 번 실패하면 DEAD 로 남긴다.
+ * Redis 변경(Refresh Token 삭제, Access Token 폐기 등)은 커밋된 후 실행한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class ModerationEventHandler {
+
+    private final UserRepository userRepository;
+    private final ModerationTaskRepository moderationTaskRepository;
+    private final BlackListRepository blackListRepository;
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final RedisRefreshTokenRepository redisRefreshTokenRepository;
+    private final CurrentUserCache currentUserCache;
+    private final TokenRevocationList tokenRevocationList;
+    private final PhoneFilter phoneFilter;
+    private final NicknameIndex nicknameIndex;
+    private final ProfileCache profileCache;
+    private final ImageService imageService;
+
+    @Value("${moderation.retry.delay-seconds:60}")
+    private long retryDelaySeconds;
+
+    @Value("${moderation.retry.batch-size:100}")
+    private int retryBatchSize;
+
+    @Value("${moderation.retry.max-attempts:5}")
+    private int maxAttempts;
+
+    @Async("moderationExecutor")
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void handle(ModerationEvent event) {
+        process(event.getTaskId());
+    }
+
+    // 비동기 처리 시간을 지나도록 남아 있는 작업
+    @Transactional(readOnly = true)
+    public List<Long> findPendingTaskIds() {
+        LocalDateTime cutoff = LocalDateTime.now().minusSeconds(retryDelaySeconds);
+        return moderationTaskRepository.findIdsByStatus(ModerationTask.Status.PENDING, cutoff,
+            PageRequest.of(0, retryBatchSize));
+    }
+
+    // 작업 처리 실패 기록 (처리 트랜잭션은 롤백되므로 별도 트랜잭션에서 기록)
+    @Transactional
+    public void recordFailure(Long taskId, Exception e) {
+        ModerationTask task = moderationTaskRepository.findByIdForUpdate(taskId).orElse(null);
+        if (task == null) {
+            return;
+        }
+        task.fail(maxAttempts);
+        if (task.getStatus() == ModerationTask.Status.DEAD) {
+            log.error("신고 누적 처리 중단 : taskId={}, userId={}, action={}, attempts={}", taskId,
+                task.getUserId(), task.getAction(), task.getAttempts(), e);
+        } else {
+            log.warn("신고 누적 처리 실패 : taskId={}, attempts={}", taskId, task.getAttempts(), e);
+        }
+    }
+
+    // 작업 처리 (이미 처리되었거나 DEAD 인 작업이면 무시)
+    @Transactional
+    public void process(Long taskId) {
+        ModerationTask task = moderationTaskRepository.findByIdForUpdate(taskId).orElse(null);
+        if (task == null || task.getStatus() == ModerationTask.Status.DEAD) {
+            return;
+        }
+        moderationTaskRepository.delete(task);
+
+        User user = userRepository.findById(task.getUserId()).orElse(null);
+        // 이미 탈퇴한 회원은 처리하지 않음
+        if (user == null || user.getAuthority() == Role.UNSUB) {
+            return;
+        }
+
+        if (task.getAction() == ModerationTask.Action.BLACKLIST) {
+            String nickname = user.getProfile().getNickname();
+            imageService.release(user.getProfile().getProfileImageUrl(),
+                user.getProfile().getProfileImageSmallUrl());
+            user.setUnsubscribe();
+            user.getProfile().setUnsubscribe();
+            BlackList blackList = BlackList.builder()
+                .phone(user.getPhone())
+                .reason("신고 횟수 초과")
+                .createdAt(LocalDateTime.now())
+                .build();
+            blackListRepository.save(blackList);
+            phoneFilter.addBlackList(user.getPhone());
+            phoneFilter.addUnsubscribed(user.getPhone());
+            if (nickname != null) {
+                nicknameIndex.release(nickname);
+            }
+        } else {
+            user.setStopped();
+        }
+        userRepository.save(user);
+        currentUserCache.invalidate(user.getId());
+        profileCache.invalidate(user.getId());
+
+        // 로그아웃되게 하기
+        String phone = user.getPhone();
+        TransactionUtil.afterCommit(() -> redisRefreshTokenRepository.delete(phone));
+        refreshTokenRepository.findById(user.getPhone())
+            .ifPresent(refreshTokenRepository::delete);
+        tokenRevocationList.revokeUser(user.getId());
+        log.info("신고 누적 처리 : userId={}, action={}, reportCount={}", user.getId(),
+            task.getAction(), task.getReportCount());
+    }
+}
@@ -0,0 +1,39 @@
+package dingdong.dingdong.service.profile;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.quartz.DisallowConcurrentExecution;
+import org.quartz.JobExecutionContext;
+import org.springframework.scheduling.quartz.QuartzJobBean;
+
+// 처리되지 않은 정지, 블랙리스트 작업 재처리 (클러스터 전체에서 한 서버만 실행)
+@Slf4j
+@RequiredArgsConstructor
+@DisallowConcurrentExecution
+public class ModerationRetryJob extends QuartzJobBean {
+
+    private final ModerationEventHandler moderationEventHandler;
+
+    @Override
+    protected void executeInternal(JobExecutionContext context) {
+        List<Long> taskIds = moderationEventHandler.findPendingTaskIds();
+        for (Long taskId : taskIds) {
+            try {
+                moderationEventHandler.process(taskId);
+            } catch (RuntimeException e) {
+                // 남아 있는 작업은 다음 실행 때 다시 처리 (계속 실패하면 DEAD)
+                recordFailure(taskId, e);
+            }
+        }
+    }
+
+    private void recordFailure(Long taskId, RuntimeException e) {
+        try {
+            moderationEventHandler.recordFailure(taskId, e);
+        } catch (RuntimeException recordException) {
+            log.error("신고 누적 처리 실패 : taskId={}", taskId, e);
+            log.error("Exception {}", recordException);
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package dingdong.dingdong.service.profile;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import dingdong.dingdong.domain.user.ProfileRepository;
+import dingdong.dingdong.util.TransactionUtil;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.stereotype.Component;
+
+/**
+ * 프로필 캐시 (서버 메모리 -> Redis -> DB 순으로 조회)
+ * 게시글 상세, 채팅 메세지, 채팅방 사용자 목록에 표시되는 프로필을 회원 id 로 보관한다.
+ * 닉네임/이미지/평가/탈퇴 변경 시 커밋 후 Redis 값을 삭제하고, 다른 서버에는 Redis 로 무효화 메시지를 보낸다.
+ *
+ * DB 조회 중에 변경, 삭제가 일어나면 조회한 이전 값을 다시 저장하게 되므로
+ * 삭제할 때 회원별 버전(profile:version:{id})을 올리고, 조회 전에 읽은 버전이 그대로일 때만 Redis 에 저장한다.
+ * 서버 메모리에 넣은 뒤에도 버전을 다시 확인하여, 그사이 바뀌었으면 서버 메모리에서도 삭제한다.
+ */
+@Slf4j
+@Component
+public class ProfileCache {
+
+    public static final ChannelTopic TOPIC = new ChannelTopic("PROFILE");
+    private static final String KEY_PREFIX = "profile:";
+    private static final String VERSION_KEY_PREFIX = "profile:version:";
+
+    // 버전 증가 후 값 삭제 (버전은 조회 중인 요청보다 오래 남도록 값과 같은 시간 동안 보관)
+    private static final RedisScript<Long> INVALIDATE = new DefaultRedisScript<>(
+        "redis.call('INCR', KEYS[2]) "
+            + "redis.call('PEXPIRE', KEYS[2], ARGV[1]) "
+            + "return redis.call('DEL', KEYS[1])", Long.class);
+
+    // 조회 전에 읽은 버전과 같을 때만 저장 (버전이 없으면 빈 문자열로 비교)
+    private static final RedisScript<Long> WRITE_BACK = new DefaultRedisScript<>(
+        "local v = redis.call('GET', KEYS[2]) or '' "
+            + "if v ~= ARGV[2] then return 0 end "
+            + "redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[3]) "
+            + "return 1", Long.class);
+
+    private final ProfileRepository profileRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration redisTtl;
+
+    // 무효화 메시지 발신 서버 구분용
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Cache<Long, CachedProfile> profiles;
+
+    public ProfileCache(ProfileRepository profileRepository,
+        StringRedisTemplate stringRedisTemplate, ObjectMapper objectMapper,
+        @Value("${profile.cache.max-size:10000}") long maxSize,
+        @Value("${profile.cache.ttl-minutes:10}") long ttlMinutes,
+        @Value("${profile.cache.redis-ttl-minutes:10}") long redisTtlMinutes) {
+        this.profileRepository = profileRepository;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.redisTtl = Duration.ofMinutes(redisTtlMinutes);
+        this.profiles = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(ttlMinutes, TimeUnit.MINUTES)
+            .build();
+    }
+
+    // 프로필 조회 (없는 회원이면 null)
+    public CachedProfile get(Long userId) {
+        return getAll(List.of(userId)).get(userId);
+    }
+
+    // 여러 회원의 프로필을 한 번에 조회 (Redis, DB 모두 한 번씩만 조회)
+    public Map<Long, CachedProfile> getAll(Collection<Long> userIds) {
+        Set<Long> ids = new LinkedHashSet<>(userIds);
+        Map<Long, String> versions = new ConcurrentHashMap<>();
+        Map<Long, CachedProfile> result = profiles.getAll(ids, keys -> loadAll(keys, versions));
+        if (!versions.isEmpty()) {
+            // 조회 중에 변경된 프로필은 이번 요청에만 사용하고 서버 메모리에 남기지 않음
+            List<Long> loadedIds = new ArrayList<>(versions.keySet());
+            List<String> current = readRedis(loadedIds, VERSION_KEY_PREFIX);
+            for (int i = 0; current != null && i < loadedIds.size(); i++) {
+                if (!versions.get(loadedIds.get(i)).equals(versionOf(current.get(i)))) {
+                    profiles.invalidate(loadedIds.get(i));
+                }
+            }
+        }
+        return result;
+    }
+
+    // 프로필 변경 (커밋 후 삭제, 버전을 먼저 올린 뒤 서버 메모리에서 삭제)
+    public void invalidate(Long userId) {
+        TransactionUtil.afterCommit(() -> {
+            try {
+                stringRedisTemplate.execute(INVALIDATE,
+                    List.of(KEY_PREFIX + userId, VERSION_KEY_PREFIX + userId),
+                    String.valueOf(redisTtl.toMillis()));
+                stringRedisTemplate.convertAndSend(TOPIC.getTopic(), nodeId + ":" + userId);
+            } catch (Exception e) {
+                // 버전을 올리지 못하면 Redis 의 이전 값이 redis-ttl 이 지날 때까지 남음
+                log.error("Exception {}", e);
+            }
+            profiles.invalidate(userId);
+        });
+    }
+
+    /**
+     * 다른 서버에서 발행한 무효화 메시지 처리 ("{nodeId}:{userId}")
+     */
+    public void onInvalidate(String message) {
+        int index = message.lastIndexOf(':');
+        if (index < 0 || nodeId.equals(message.substring(0, index))) {
+            return;
+        }
+        try {
+            profiles.invalidate(Long.parseLong(message.substring(index + 1)));
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 프로필 무효화 메시지 : {}", message);
+        }
+    }
+
+    // DB 에서 조회한 회원은 조회 전에 읽은 버전을 versions 에 기록
+    private Map<Long, CachedProfile> loadAll(Iterable<? extends Long> userIds,
+        Map<Long, String> versions) {
+        List<Long> ids = new ArrayList<>();
+        userIds.forEach(ids::add);
+        Map<Long, CachedProfile> result = new HashMap<>();
+
+        List<Long> misses = new ArrayList<>();
+        List<String> values = readRedis(ids, KEY_PREFIX);
+        for (int i = 0; i < ids.size(); i++) {
+            CachedProfile profile = values == null ? null : deserialize(values.get(i));
+            if (profile != null) {
+                result.put(ids.get(i), profile);
+            } else {
+                misses.add(ids.get(i));
+            }
+        }
+        if (misses.isEmpty()) {
+            return result;
+        }
+
+        // DB 조회 전의 버전 (Redis 장애 시 Redis 에는 저장하지 않고 서버 메모리에만 보관)
+        List<String> before = readRedis(misses, VERSION_KEY_PREFIX);
+        Map<Long, CachedProfile> loaded = profileRepository.findAllById(misses).stream()
+            .map(CachedProfile::from)
+            .collect(Collectors.toMap(CachedProfile::getUserId, p -> p));
+        for (int i = 0; before != null && i < misses.size(); i++) {
+            CachedProfile profile = loaded.get(misses.get(i));
+            if (profile != null) {
+                String version = versionOf(before.get(i));
+                versions.put(profile.getUserId(), version);
+                writeRedis(profile, version);
+            }
+        }
+        result.putAll(loaded);
+        return result;
+    }
+
+    private List<String> readRedis(List<Long> ids, String prefix) {
+        try {
+            return stringRedisTemplate.opsForValue().multiGet(
+                ids.stream().map(id -> prefix + id).collect(Collectors.toList()));
+        } catch (Exception e) {
+            // Redis 장애 시 DB 에서 조회
+            log.error("Exception {}", e);
+            return null;
+        }
+    }
+
+    // 버전이 그대로일 때만 저장 (조회 중에 변경되었으면 저장하지 않음)
+    private void writeRedis(CachedProfile profile, String version) {
+        try {
+            stringRedisTemplate.execute(WRITE_BACK,
+                List.of(KEY_PREFIX + profile.getUserId(), VERSION_KEY_PREFIX + profile.getUserId()),
+                objectMapper.writeValueAsString(profile), version,
+                String.valueOf(redisTtl.toMillis()));
+        } catch (Exception e) {
+            log.error("Exception {}", e);
+        }
+    }
+
+    // 버전이 없으면 빈 문자열
+    private static String versionOf(String value) {
+        return value == null ? "" : value;
+    }
+
+    private CachedProfile deserialize(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(value, CachedProfile.class);
+        } catch (JsonProcessingException e) {
+            log.warn("잘못된 프로필 캐시 값 : {}", value);
+            return null;
+        }
+    }
+}
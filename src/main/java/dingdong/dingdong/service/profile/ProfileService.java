@@ -2,11 +2,10 @@ package dingdong.dingdong.service.profile;
 
 import static dingdong.dingdong.util.exception.ResultCode.PROFILE_NOT_FOUND;
 
-import dingdong.dingdong.domain.user.BlackList;
-import dingdong.dingdong.domain.user.BlackListRepository;
+import dingdong.dingdong.domain.user.ModerationTask;
+import dingdong.dingdong.domain.user.ModerationTaskRepository;
 import dingdong.dingdong.domain.user.Profile;
 import dingdong.dingdong.domain.user.ProfileRepository;
-import dingdong.dingdong.domain.user.RefreshTokenRepository;
 import dingdong.dingdong.domain.user.Report;
 import dingdong.dingdong.domain.user.ReportRepository;
 import dingdong.dingdong.domain.user.User;
@@ -15,19 +14,25 @@ import dingdong.dingdong.dto.auth.LocalResponseDto;
 import dingdong.dingdong.dto.profile.ProfileResponseDto;
 import dingdong.dingdong.dto.profile.ProfileUpdateRequestDto;
 import dingdong.dingdong.dto.profile.ReportRequestDto;
-import dingdong.dingdong.service.s3.S3Uploader;
+import dingdong.dingdong.service.auth.CurrentUserCache;
+import dingdong.dingdong.service.auth.NicknameIndex;
+import dingdong.dingdong.service.image.ImageService;
+import dingdong.dingdong.service.image.ImageVariant;
 import dingdong.dingdong.util.exception.DuplicateException;
 import dingdong.dingdong.util.exception.ForbiddenException;
 import dingdong.dingdong.util.exception.ResourceNotFoundException;
 import dingdong.dingdong.util.exception.ResultCode;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -37,50 +42,85 @@ public class ProfileService {
     private final ProfileRepository profileRepository;
     private final UserRepository userRepository;
     private final ReportRepository reportRepository;
-    private final BlackListRepository blackListRepository;
-    private final RefreshTokenRepository refreshTokenRepository;
-    private final S3Uploader s3Uploader;
+    private final ModerationTaskRepository moderationTaskRepository;
+    private final ImageService imageService;
+    private final CurrentUserCache currentUserCache;
+    private final NicknameIndex nicknameIndex;
+    private final ProfileCache profileCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
 
     private static final long LIMIT_REPORT_COUNT_STOPPED = 2;
     private static final long LIMIT_REPORT_COUNT_BLACK = 4;
 
-    // 프로필 조회
-    @Transactional(readOnly = true)
+    // 프로필 조회 (프로필 캐시 사용)
     public ProfileResponseDto getProfile(Long id) {
-        Profile profile = profileRepository.findByUserId(id)
-            .orElseThrow(() -> new ResourceNotFoundException(ResultCode.PROFILE_NOT_FOUND));
-
+        CachedProfile profile = profileCache.get(id);
+        if (profile == null) {
+            throw new ResourceNotFoundException(ResultCode.PROFILE_NOT_FOUND);
+        }
         return ProfileResponseDto.from(profile);
     }
 
-    // 닉네임 중복 확인
-    @Transactional(readOnly = true)
-    public void checkNickname(String nickname) {
-        if (profileRepository.existsByNickname(nickname)) {
-            throw new DuplicateException(ResultCode.NICKNAME_DUPLICATION);
+    /**
+     * 프로필 수정
+     * 이미지 변환은 DB 연결을 잡지 않도록 트랜잭션을 시작하기 전에 처리하고, 저장에 실패하면 새 이미지의 참조를 해제한다.
+     */
+    public void updateProfile(User user, ProfileUpdateRequestDto profileUpdateRequestDto) {
+        Map<ImageVariant, String> urls = null;
+        if (profileUpdateRequestDto.getProfileImage() != null) {
+            // 프로필 화면용, 채팅 목록용 크기로 변환하여 업로드
+            urls = imageService.upload(profileUpdateRequestDto.getProfileImage(),
+                ImageVariant.AVATAR_SMALL, ImageVariant.AVATAR);
+        } else if (profileUpdateRequestDto.getProfileImageKey() != null) {
+            // S3 에 직접 업로드한 이미지 변환
+            urls = imageService.confirm(user.getId(), profileUpdateRequestDto.getProfileImageKey(),
+                ImageVariant.AVATAR_SMALL, ImageVariant.AVATAR);
+        }
+
+        Map<ImageVariant, String> images = urls;
+        try {
+            transactionTemplate.executeWithoutResult(
+                status -> saveProfile(user, profileUpdateRequestDto, images));
+        } catch (RuntimeException e) {
+            if (images != null) {
+                imageService.release(images.get(ImageVariant.AVATAR),
+                    images.get(ImageVariant.AVATAR_SMALL));
+            }
+            throw e;
         }
     }
 
-    // 프로필 수정
-    @Transactional
-    public void updateProfile(User user, ProfileUpdateRequestDto profileUpdateRequestDto) {
+    private void saveProfile(User user, ProfileUpdateRequestDto profileUpdateRequestDto,
+        Map<ImageVariant, String> urls) {
         Profile profile = profileRepository.findById(user.getId())
             .orElseThrow(() -> new ResourceNotFoundException(PROFILE_NOT_FOUND));
 
-        if (profileUpdateRequestDto.getProfileImage() != null) {
-            String path = s3Uploader.upload(profileUpdateRequestDto.getProfileImage(), "static");
-            profile.setProfileImageUrl(path);
+        boolean changed = false;
+        if (urls != null) {
+            imageService.release(profile.getProfileImageUrl(), profile.getProfileImageSmallUrl());
+            profile.setProfileImage(urls.get(ImageVariant.AVATAR),
+                urls.get(ImageVariant.AVATAR_SMALL));
+            changed = true;
         }
-        if (profileUpdateRequestDto.getNickname() != null) {
-            if (user.getProfile().getNickname() != null && user.getProfile().getNickname()
-                .equals(profileUpdateRequestDto.getNickname())) {
-                return;
-            }
-            checkNickname(profileUpdateRequestDto.getNickname());
-            profile.setNickname(profileUpdateRequestDto.getNickname());
+        String nickname = profileUpdateRequestDto.getNickname();
+        if (nickname != null && !nickname.equals(profile.getNickname())) {
+            // 닉네임 선점 후 저장 (동시에 같은 닉네임을 저장하면 unique 제약 조건으로 실패)
+            nicknameIndex.reserve(nickname, profile.getNickname());
+            profile.setNickname(nickname);
+            changed = true;
+        }
+        if (!changed) {
+            return;
         }
 
-        profileRepository.save(profile);
+        try {
+            profileRepository.saveAndFlush(profile);
+        } catch (DataIntegrityViolationException e) {
+            throw new DuplicateException(ResultCode.NICKNAME_DUPLICATION);
+        }
+        currentUserCache.invalidate(user.getId());
+        profileCache.invalidate(user.getId());
     }
 
     // 나의 동네 조회
@@ -111,39 +151,29 @@ public class ProfileService {
             .reason(reportRequestDto.getReason())
             .build();
 
-        reportRepository.save(report);
+        // 동시에 같은 신고를 저장하면 unique 제약 조건으로 실패
+        try {
+            reportRepository.saveAndFlush(report);
+        } catch (DataIntegrityViolationException e) {
+            throw new DuplicateException(ResultCode.REPORT_DUPLICATION);
+        }
 
-        // 신고를 당한 횟수
-        long reportCount = reportRepository.countByReceiver(receiver);
+        // 신고를 당한 횟수 (전체 신고를 다시 세지 않고 프로필의 횟수만 증가)
+        profileRepository.increaseReportCount(receiver.getId());
+        long reportCount = profileRepository.findReportCountById(receiver.getId());
         // 신고를 10번 당할 때마다 계정이 정지되게 한다
         if (reportCount > 0 && reportCount % LIMIT_REPORT_COUNT_STOPPED == 0) {
             // 신고를 당한 횟수가 총 30번을 초과하면 해당 계정은 회원 탈퇴되고, 블랙리스트에 등록된다
-            if (reportCount >= LIMIT_REPORT_COUNT_BLACK) {
-                receiver.setUnsubscribe();
-                receiver.getProfile().setUnsubscribe();
-                BlackList blackList = BlackList.builder()
-                    .phone(receiver.getPhone())
-                    .reason("신고 횟수 초과")
-                    .createdAt(LocalDateTime.now())
-                    .build();
-                blackListRepository.save(blackList);
-            } else {
-                receiver.setStopped();
-            }
-            userRepository.save(receiver);
-            profileRepository.save(receiver.getProfile());
-
-            // 로그아웃되게 하기
-            refreshTokenRepository.findById(receiver.getPhone())
-                .ifPresent(refreshTokenRepository::delete);
+            ModerationTask.Action action = reportCount >= LIMIT_REPORT_COUNT_BLACK
+                ? ModerationTask.Action.BLACKLIST : ModerationTask.Action.STOP;
+            // 처리할 작업은 신고와 함께 저장하고, 정지, 블랙리스트 처리는 커밋 후 ModerationEventHandler 에서 처리
+            ModerationTask task = moderationTaskRepository.save(ModerationTask.builder()
+                .userId(receiver.getId())
+                .action(action)
+                .reportCount(reportCount)
+                .createdAt(LocalDateTime.now())
+                .build());
+            eventPublisher.publishEvent(new ModerationEvent(task.getId()));
         }
     }
-
-    // 일정시간마다 Scheduling 작동.
-    @Transactional
-    @Scheduled(cron = "0 0 0 * * *", zone = "Asia/Seoul") // 1시간마다 작동
-    public void deleteUnsubUser() {
-        userRepository.deleteUnsubUser();
-        userRepository.derestrictStoppedUser();
-    }
 }
@@ -0,0 +1,38 @@
+package dingdong.dingdong.service.profile;
+
+import lombok.RequiredArgsConstructor;
+import org.quartz.DisallowConcurrentExecution;
+import org.quartz.JobExecutionContext;
+import org.quartz.JobExecutionException;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.repository.JobInstanceAlreadyCompleteException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.quartz.QuartzJobBean;
+
+// 탈퇴 회원 정보 삭제, 정지 회원 해제 (클러스터 전체에서 한 서버만 실행, 처리는 Spring Batch 작업으로 실행)
+@RequiredArgsConstructor
+@DisallowConcurrentExecution
+public class UserMaintenanceJob extends QuartzJobBean {
+
+    private final UserMaintenanceService userMaintenanceService;
+
+    @Value("${user.maintenance.dry-run:false}")
+    private boolean dryRun;
+
+    @Override
+    protected void executeInternal(JobExecutionContext context) throws JobExecutionException {
+        try {
+            JobExecution execution = userMaintenanceService.runDaily(dryRun);
+            if (execution.getStatus() != BatchStatus.COMPLETED) {
+                throw new JobExecutionException("회원 정리 작업 실패 : " + execution.getExitStatus());
+            }
+        } catch (JobInstanceAlreadyCompleteException e) {
+            // 오늘 작업이 이미 완료된 경우 (복구 후 다시 실행된 경우)
+        } catch (JobExecutionException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new JobExecutionException(e);
+        }
+    }
+}
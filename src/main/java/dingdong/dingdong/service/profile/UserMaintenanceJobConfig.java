@@ -0,0 +1,186 @@
+package dingdong.dingdong.service.profile;
+
+import dingdong.dingdong.domain.user.Role;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.Map;
+import javax.sql.DataSource;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.configuration.annotation.JobBuilderFactory;
+import org.springframework.batch.core.configuration.annotation.StepBuilderFactory;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.batch.item.database.JdbcPagingItemReader;
+import org.springframework.batch.item.database.Order;
+import org.springframework.batch.item.database.builder.JdbcBatchItemWriterBuilder;
+import org.springframework.batch.item.database.builder.JdbcPagingItemReaderBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 탈퇴 회원 정보 삭제, 정지 회원 해제 작업
+ * 대상 회원 id 를 인덱스를 사용하는 조건(deleted_date <= 기준 시각)으로 나누어 읽고, chunk 단위로 나누어 커밋한다.
+ * 같은 runDate 로 다시 실행하면 실패한 chunk 부터 이어서 실행하고, dryRun 이면 대상 회원 수만 기록한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Configuration
+public class UserMaintenanceJobConfig {
+
+    public static final String JOB_NAME = "userMaintenanceJob";
+
+    // 탈퇴 후 회원 정보를 보관하는 기간
+    private static final int UNSUB_RETENTION_DAYS = 12;
+    // 정지 기간
+    private static final int STOPPED_DAYS = 14;
+
+    private static final String CLEAR_UNSUB_USER_SQL = "update user set phone = null, "
+        + "modified_date = now() where user_id = ? and deleted_date <= ?";
+    private static final String RELEASE_STOPPED_USER_SQL = "update user set authority = "
+        + Role.REGULAR.ordinal() + ", modified_date = now() where user_id = ? and authority = "
+        + Role.STOPPED.ordinal() + " and modified_date <= ?";
+
+    private final JobBuilderFactory jobBuilderFactory;
+    private final StepBuilderFactory stepBuilderFactory;
+    private final DataSource dataSource;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${user.maintenance.chunk-size:500}")
+    private int chunkSize;
+
+    @Bean
+    public Job userMaintenanceJob() {
+        return jobBuilderFactory.get(JOB_NAME)
+            .start(clearUnsubUserStep())
+            .next(releaseStoppedUserStep())
+            .build();
+    }
+
+    @Bean
+    public Step clearUnsubUserStep() {
+        return stepBuilderFactory.get("clearUnsubUserStep")
+            .<Long, Long>chunk(chunkSize)
+            .reader(clearUnsubUserReader(null))
+            .writer(clearUnsubUserWriter(null, null))
+            .listener(userMaintenanceMetricsListener(null))
+            .build();
+    }
+
+    @Bean
+    public Step releaseStoppedUserStep() {
+        return stepBuilderFactory.get("releaseStoppedUserStep")
+            .<Long, Long>chunk(chunkSize)
+            .reader(releaseStoppedUserReader(null))
+            .writer(releaseStoppedUserWriter(null, null))
+            .listener(userMaintenanceMetricsListener(null))
+            .build();
+    }
+
+    // 보관 기간이 지났고 아직 전화번호가 남아 있는 탈퇴 회원
+    @Bean
+    @StepScope
+    public JdbcPagingItemReader<Long> clearUnsubUserReader(
+        @Value("#{jobParameters['runDate']}") String runDate) {
+        return idReader("clearUnsubUserReader",
+            "deleted_date <= :cutoff and phone is not null",
+            Map.of("cutoff", cutoff(runDate, UNSUB_RETENTION_DAYS)));
+    }
+
+    // 정지 기간이 지난 회원
+    @Bean
+    @StepScope
+    public JdbcPagingItemReader<Long> releaseStoppedUserReader(
+        @Value("#{jobParameters['runDate']}") String runDate) {
+        return idReader("releaseStoppedUserReader",
+            "authority = :authority and modified_date <= :cutoff",
+            Map.of("authority", Role.STOPPED.ordinal(),
+                "cutoff", cutoff(runDate, STOPPED_DAYS)));
+    }
+
+    @Bean
+    @StepScope
+    public ItemWriter<Long> clearUnsubUserWriter(
+        @Value("#{jobParameters['runDate']}") String runDate,
+        @Value("#{jobParameters['dryRun']}") String dryRun) {
+        return idWriter(CLEAR_UNSUB_USER_SQL, cutoff(runDate, UNSUB_RETENTION_DAYS), dryRun);
+    }
+
+    @Bean
+    @StepScope
+    public ItemWriter<Long> releaseStoppedUserWriter(
+        @Value("#{jobParameters['runDate']}") String runDate,
+        @Value("#{jobParameters['dryRun']}") String dryRun) {
+        return idWriter(RELEASE_STOPPED_USER_SQL, cutoff(runDate, STOPPED_DAYS), dryRun);
+    }
+
+    // 처리한 회원 수 기록 (dingdong.batch.items)
+    @Bean
+    @StepScope
+    public StepExecutionListener userMaintenanceMetricsListener(
+        @Value("#{jobParameters['dryRun']}") String dryRun) {
+        return new StepExecutionListener() {
+            @Override
+            public void beforeStep(StepExecution stepExecution) {
+            }
+
+            @Override
+            public ExitStatus afterStep(StepExecution stepExecution) {
+                meterRegistry.counter("dingdong.batch.items", "job", JOB_NAME,
+                    "step", stepExecution.getStepName(), "dryRun", String.valueOf(isDryRun(dryRun)))
+                    .increment(stepExecution.getWriteCount());
+                log.info("{} : read={}, write={}, commit={}, dryRun={}",
+                    stepExecution.getStepName(), stepExecution.getReadCount(),
+                    stepExecution.getWriteCount(), stepExecution.getCommitCount(),
+                    isDryRun(dryRun));
+                return stepExecution.getExitStatus();
+            }
+        };
+    }
+
+    private JdbcPagingItemReader<Long> idReader(String name, String whereClause,
+        Map<String, Object> parameters) {
+        return new JdbcPagingItemReaderBuilder<Long>()
+            .name(name)
+            .dataSource(dataSource)
+            .selectClause("select user_id")
+            .fromClause("from user")
+            .whereClause(whereClause)
+            .parameterValues(parameters)
+            .sortKeys(Map.of("user_id", Order.ASCENDING))
+            .rowMapper((rs, rowNum) -> rs.getLong(1))
+            .pageSize(chunkSize)
+            .build();
+    }
+
+    // 읽은 뒤 변경된 회원은 건너뛰도록 UPDATE 에서 조건을 다시 확인
+    private ItemWriter<Long> idWriter(String sql, Timestamp cutoff, String dryRun) {
+        if (isDryRun(dryRun)) {
+            return items -> log.info("dryRun : {}", items);
+        }
+        return new JdbcBatchItemWriterBuilder<Long>()
+            .dataSource(dataSource)
+            .sql(sql)
+            .itemPreparedStatementSetter((id, ps) -> {
+                ps.setLong(1, id);
+                ps.setTimestamp(2, cutoff);
+            })
+            .assertUpdates(false)
+            .build();
+    }
+
+    private static Timestamp cutoff(String runDate, int days) {
+        return Timestamp.valueOf(LocalDate.parse(runDate).minusDays(days).atStartOfDay());
+    }
+
+    private static boolean isDryRun(String dryRun) {
+        return Boolean.parseBoolean(dryRun);
+    }
+}
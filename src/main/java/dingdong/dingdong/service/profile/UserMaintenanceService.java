@@ -0,0 +1,63 @@
+package dingdong.dingdong.service.profile;
+
+import dingdong.dingdong.service.auth.CurrentUserCache;
+import java.time.LocalDate;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+/**
+ * 탈퇴 회원 정보 삭제, 정지 회원 해제 작업 실행
+ * 매일 자정 UserMaintenanceJob(Quartz) 에서 실행하고, 관리자는 dryRun 으로 대상 회원 수를 미리 확인할 수 있다.
+ */
+@Slf4j
+@Service
+public class UserMaintenanceService {
+
+    private final Job userMaintenanceJob;
+    private final JobLauncher jobLauncher;
+    private final CurrentUserCache currentUserCache;
+
+    public UserMaintenanceService(@Qualifier("userMaintenanceJob") Job userMaintenanceJob,
+        JobLauncher jobLauncher, CurrentUserCache currentUserCache) {
+        this.userMaintenanceJob = userMaintenanceJob;
+        this.jobLauncher = jobLauncher;
+        this.currentUserCache = currentUserCache;
+    }
+
+    /**
+     * 오늘 날짜로 작업 실행 (같은 날 다시 실행하면 실패한 지점부터 이어서 실행)
+     */
+    public JobExecution runDaily(boolean dryRun) throws Exception {
+        return run(new JobParametersBuilder()
+            .addString("runDate", LocalDate.now().toString())
+            .addString("dryRun", String.valueOf(dryRun)));
+    }
+
+    /**
+     * 관리자 요청으로 실행 (요청마다 새로 실행)
+     */
+    public JobExecution runManually(boolean dryRun) throws Exception {
+        return run(new JobParametersBuilder()
+            .addString("runDate", LocalDate.now().toString())
+            .addString("dryRun", String.valueOf(dryRun))
+            .addLong("requestedAt", System.currentTimeMillis()));
+    }
+
+    private JobExecution run(JobParametersBuilder parameters) throws Exception {
+        JobExecution execution = jobLauncher.run(userMaintenanceJob, parameters.toJobParameters());
+        boolean dryRun = Boolean.parseBoolean(execution.getJobParameters().getString("dryRun"));
+        if (!dryRun && execution.getStatus() == BatchStatus.COMPLETED) {
+            // 정지 해제, 전화번호 삭제된 회원이 캐시에 남지 않도록 전체 삭제
+            currentUserCache.invalidateAll();
+        }
+        log.info("회원 정리 작업 : id={}, status={}, dryRun={}", execution.getId(),
+            execution.getStatus(), dryRun);
+        return execution;
+    }
+}
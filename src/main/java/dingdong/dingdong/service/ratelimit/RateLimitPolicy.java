@@ -0,0 +1,41 @@
+package dingdong.dingdong.service.ratelimit;
+
+import java.time.Duration;
+import lombok.Getter;
+
+/**
+ * 요청 제한 정책 (token bucket)
+ * capacity 만큼 한 번에 요청할 수 있고, period 동안 capacity 만큼 다시 채워진다.
+ */
+@Getter
+public enum RateLimitPolicy {
+
+    // 인증 번호 전송 (전화번호별, IP별)
+    SEND_SMS_PHONE("sms:phone", 5, Duration.ofMinutes(10)),
+    SEND_SMS_IP("sms:ip", 30, Duration.ofMinutes(10)),
+
+    // 인증 번호 확인 (IP별, 전화번호별 시도 횟수는 인증 번호 저장소에서 제한)
+    AUTH_IP("auth:ip", 60, Duration.ofMinutes(10)),
+
+    // 나누기 생성 (회원별)
+    POST_CREATE("post:user", 20, Duration.ofHours(1)),
+
+    // 채팅 메시지 전송 (회원별)
+    CHAT_MESSAGE("chat:user", 30, Duration.ofSeconds(10)),
+    ;
+
+    private final String name;
+    private final long capacity;
+    private final Duration period;
+
+    RateLimitPolicy(String name, long capacity, Duration period) {
+        this.name = name;
+        this.capacity = capacity;
+        this.period = period;
+    }
+
+    // ms 당 채워지는 토큰 수
+    public double getRefillPerMillis() {
+        return (double) capacity / period.toMillis();
+    }
+}
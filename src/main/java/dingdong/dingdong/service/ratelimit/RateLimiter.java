@@ -0,0 +1,94 @@
+package dingdong.dingdong.service.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 여러 서버가 공유하는 요청 제한 (Redis token bucket)
+ * 토큰 계산은 Lua 스크립트로 원자적으로 처리하고, 거절된 키는 다시 채워질 때까지
+ * 서버 메모리에서 바로 거절하여 Redis 호출을 줄인다.
+ */
+@Slf4j
+@Component
+public class RateLimiter {
+
+    // {허용 여부, 다음 토큰까지 남은 시간(ms)}
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> TOKEN_BUCKET = new DefaultRedisScript<>(
+        "local capacity = tonumber(ARGV[1]) "
+            + "local rate = tonumber(ARGV[2]) "
+            + "local now = tonumber(ARGV[3]) "
+            + "local v = redis.call('HMGET', KEYS[1], 't', 'ts') "
+            + "local tokens = tonumber(v[1]) or capacity "
+            + "local ts = tonumber(v[2]) or now "
+            + "tokens = math.min(capacity, tokens + math.max(0, now - ts) * rate) "
+            + "local allowed = 0 "
+            + "local wait = 0 "
+            + "if tokens >= 1 then "
+            + "  tokens = tokens - 1 "
+            + "  allowed = 1 "
+            + "else "
+            + "  wait = math.ceil((1 - tokens) / rate) "
+            + "end "
+            + "redis.call('HSET', KEYS[1], 't', tostring(tokens), 'ts', ARGV[3]) "
+            + "redis.call('PEXPIRE', KEYS[1], math.ceil(capacity / rate)) "
+            + "return {allowed, wait}", List.class);
+
+    private static final String KEY_PREFIX = "rate:";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final boolean enabled;
+
+    // 거절된 키와 다시 요청할 수 있는 시각 (서버별 사전 거절)
+    private final Cache<String, Long> blockedUntil = Caffeine.newBuilder()
+        .maximumSize(100_000)
+        .expireAfterWrite(1, TimeUnit.HOURS)
+        .build();
+
+    public RateLimiter(StringRedisTemplate stringRedisTemplate,
+        @Value("${rate-limit.enabled:true}") boolean enabled) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.enabled = enabled;
+    }
+
+    /**
+     * 요청 1건 허용 여부 (Redis 장애 시 허용)
+     */
+    @SuppressWarnings("unchecked")
+    public boolean tryAcquire(RateLimitPolicy policy, String key) {
+        if (!enabled) {
+            return true;
+        }
+        String bucket = policy.getName() + ":" + key;
+        long now = System.currentTimeMillis();
+        Long until = blockedUntil.getIfPresent(bucket);
+        if (until != null) {
+            if (now < until) {
+                return false;
+            }
+            blockedUntil.invalidate(bucket);
+        }
+
+        try {
+            List<Long> result = stringRedisTemplate.execute(TOKEN_BUCKET,
+                List.of(KEY_PREFIX + "{" + bucket + "}"), String.valueOf(policy.getCapacity()),
+                String.valueOf(policy.getRefillPerMillis()), String.valueOf(now));
+            if (result == null || result.get(0) == 1L) {
+                return true;
+            }
+            blockedUntil.put(bucket, now + result.get(1));
+            return false;
+        } catch (Exception e) {
+            log.error("Exception {}", e);
+            return true;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package dingdong.dingdong.service.rating;
+
+import java.util.Map;
+import javax.sql.DataSource;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.JobBuilderFactory;
+import org.springframework.batch.core.configuration.annotation.StepBuilderFactory;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.item.database.JdbcBatchItemWriter;
+import org.springframework.batch.item.database.JdbcPagingItemReader;
+import org.springframework.batch.item.database.Order;
+import org.springframework.batch.item.database.builder.JdbcBatchItemWriterBuilder;
+import org.springframework.batch.item.database.builder.JdbcPagingItemReaderBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 평가 수 재계산 작업
+ * 프로필을 user_id 순으로 나누어 읽고, 각 프로필의 추천/비추천 수를 rating 테이블로 다시 계산하여 저장한다.
+ * 계산과 저장을 한 UPDATE 문에서 처리하므로 작업 중에 들어온 평가도 누락되지 않는다.
+ */
+@RequiredArgsConstructor
+@Configuration
+public class RatingReconcileJobConfig {
+
+    public static final String JOB_NAME = "ratingReconcileJob";
+
+    private static final String RECONCILE_SQL = "update profile set "
+        + "good = (select count(*) from rating r where r.receiver = ? and r.type = "
+        + RatingType.GOOD.ordinal() + "), "
+        + "bad = (select count(*) from rating r where r.receiver = ? and r.type = "
+        + RatingType.BAD.ordinal() + ") "
+        + "where user_id = ?";
+
+    private final JobBuilderFactory jobBuilderFactory;
+    private final StepBuilderFactory stepBuilderFactory;
+    private final DataSource dataSource;
+
+    @Value("${rating.reconcile.chunk-size:500}")
+    private int chunkSize;
+
+    @Bean
+    public Job ratingReconcileJob() {
+        return jobBuilderFactory.get(JOB_NAME)
+            .start(ratingReconcileStep())
+            .build();
+    }
+
+    @Bean
+    public Step ratingReconcileStep() {
+        return stepBuilderFactory.get("ratingReconcileStep")
+            .<Long, Long>chunk(chunkSize)
+            .reader(ratingReconcileReader())
+            .writer(ratingReconcileWriter())
+            .build();
+    }
+
+    @Bean
+    @StepScope
+    public JdbcPagingItemReader<Long> ratingReconcileReader() {
+        return new JdbcPagingItemReaderBuilder<Long>()
+            .name("ratingReconcileReader")
+            .dataSource(dataSource)
+            .selectClause("select user_id")
+            .fromClause("from profile")
+            .sortKeys(Map.of("user_id", Order.ASCENDING))
+            .rowMapper((rs, rowNum) -> rs.getLong(1))
+            .pageSize(chunkSize)
+            .build();
+    }
+
+    @Bean
+    public JdbcBatchItemWriter<Long> ratingReconcileWriter() {
+        return new JdbcBatchItemWriterBuilder<Long>()
+            .dataSource(dataSource)
+            .sql(RECONCILE_SQL)
+            .itemPreparedStatementSetter((id, ps) -> {
+                ps.setLong(1, id);
+                ps.setLong(2, id);
+                ps.setLong(3, id);
+            })
+            .assertUpdates(false)
+            .build();
+    }
+}
@@ -0,0 +1,54 @@
+package dingdong.dingdong.service.rating;
+
+import dingdong.dingdong.util.exception.DuplicateException;
+import dingdong.dingdong.util.exception.ResultCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.launch.support.SimpleJobLauncher;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.stereotype.Service;
+
+/**
+ * 평가 수 재계산 작업 실행 (관리자 요청 시)
+ * 작업은 별도 스레드에서 실행하고, 이미 실행 중이면 새로 실행하지 않는다.
+ */
+@Slf4j
+@Service
+public class RatingReconcileService {
+
+    private final Job ratingReconcileJob;
+    private final JobExplorer jobExplorer;
+    private final SimpleJobLauncher jobLauncher;
+
+    public RatingReconcileService(@Qualifier("ratingReconcileJob") Job ratingReconcileJob,
+        JobExplorer jobExplorer, JobRepository jobRepository) throws Exception {
+        this.ratingReconcileJob = ratingReconcileJob;
+        this.jobExplorer = jobExplorer;
+        this.jobLauncher = new SimpleJobLauncher();
+        this.jobLauncher.setJobRepository(jobRepository);
+        this.jobLauncher.setTaskExecutor(new SimpleAsyncTaskExecutor("rating-reconcile-"));
+        this.jobLauncher.afterPropertiesSet();
+    }
+
+    // 평가 수 재계산 시작
+    public Long reconcile() {
+        if (!jobExplorer.findRunningJobExecutions(RatingReconcileJobConfig.JOB_NAME).isEmpty()) {
+            throw new DuplicateException(ResultCode.RATING_RECONCILE_DUPLICATION);
+        }
+        try {
+            JobExecution execution = jobLauncher.run(ratingReconcileJob, new JobParametersBuilder()
+                .addLong("requestedAt", System.currentTimeMillis())
+                .toJobParameters());
+            log.info("평가 수 재계산 시작 : {}", execution.getId());
+            return execution.getId();
+        } catch (Exception e) {
+            log.error("Exception {}", e);
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -1,7 +1,6 @@
 package dingdong.dingdong.service.rating;
 
 import dingdong.dingdong.domain.chat.ChatJoinRepository;
-import dingdong.dingdong.domain.user.Profile;
 import dingdong.dingdong.domain.user.ProfileRepository;
 import dingdong.dingdong.domain.user.Rating;
 import dingdong.dingdong.domain.user.RatingRepository;
@@ -9,12 +8,16 @@ import dingdong.dingdong.domain.user.User;
 import dingdong.dingdong.domain.user.UserRepository;
 import dingdong.dingdong.dto.rating.RatingRequestDto;
 import dingdong.dingdong.dto.rating.RatingResponseDto;
+import dingdong.dingdong.service.auth.CurrentUserCache;
+import dingdong.dingdong.service.profile.CachedProfile;
+import dingdong.dingdong.service.profile.ProfileCache;
+import dingdong.dingdong.util.exception.DuplicateException;
 import dingdong.dingdong.util.exception.ForbiddenException;
 import dingdong.dingdong.util.exception.ResourceNotFoundException;
 import dingdong.dingdong.util.exception.ResultCode;
-import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -27,13 +30,15 @@ public class RatingService {
     private final UserRepository userRepository;
     private final RatingRepository ratingRepository;
     private final ChatJoinRepository chatJoinRepository;
+    private final CurrentUserCache currentUserCache;
+    private final ProfileCache profileCache;
 
-    // 평가 조회
-    @Transactional
+    // 평가 조회 (프로필 캐시 사용)
     public RatingResponseDto getRating(Long id) {
-        Profile profile = profileRepository.findByUserId(id)
-            .orElseThrow(() -> new ResourceNotFoundException(ResultCode.PROFILE_NOT_FOUND));
-
+        CachedProfile profile = profileCache.get(id);
+        if (profile == null) {
+            throw new ResourceNotFoundException(ResultCode.PROFILE_NOT_FOUND);
+        }
         return RatingResponseDto.from(profile);
     }
 
@@ -47,26 +52,35 @@ public class RatingService {
             throw new ForbiddenException(ResultCode.RATING_CREATE_FAIL_SELF);
         }
 
-        List<Long> users = chatJoinRepository.existsUserByUser(sender.getId());
-        if (!users.contains(userId)) {
+        if (!chatJoinRepository.existsCoParticipant(sender.getId(), userId)) {
             throw new ForbiddenException(ResultCode.RATING_CREATE_FAIL_FORBIDDEN);
         }
 
+        if (ratingRepository.existsBySenderAndReceiver(sender, receiver)) {
+            throw new DuplicateException(ResultCode.RATING_DUPLICATION);
+        }
+
         Rating rating = Rating.builder()
                 .sender(sender)
                 .receiver(receiver)
                 .type(ratingRequestDto.getType())
                 .build();
 
-        ratingRepository.save(rating);
-
-        Long goodCount = ratingRepository.countByReceiverAndType(receiver, RatingType.GOOD);
-        Long badCount = ratingRepository.countByReceiverAndType(receiver, RatingType.BAD);
-
-        Profile receiverProfile = profileRepository.findByUserId(userId)
-            .orElseThrow(() -> new ResourceNotFoundException(ResultCode.PROFILE_NOT_FOUND));
-        receiverProfile.setRating(goodCount, badCount);
+        // 동시에 같은 평가를 저장하면 unique 제약 조건으로 실패
+        try {
+            ratingRepository.saveAndFlush(rating);
+        } catch (DataIntegrityViolationException e) {
+            throw new DuplicateException(ResultCode.RATING_DUPLICATION);
+        }
 
-        profileRepository.save(receiverProfile);
+        // 전체 평가를 다시 세지 않고 받은 사용자의 평가 수만 증가
+        int updated = rating.getType() == RatingType.GOOD
+            ? profileRepository.increaseGood(userId)
+            : profileRepository.increaseBad(userId);
+        if (updated == 0) {
+            throw new ResourceNotFoundException(ResultCode.PROFILE_NOT_FOUND);
+        }
+        currentUserCache.invalidate(receiver.getId());
+        profileCache.invalidate(receiver.getId());
     }
 }
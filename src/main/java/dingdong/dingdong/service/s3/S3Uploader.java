@@ -1,12 +1,27 @@
 package dingdong.dingdong.service.s3;
 
+import com.amazonaws.HttpMethod;
 import com.amazonaws.services.s3.AmazonS3Client;
+import com.amazonaws.services.s3.Headers;
+import com.amazonaws.services.s3.model.AmazonS3Exception;
 import com.amazonaws.services.s3.model.CannedAccessControlList;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
+import com.amazonaws.services.s3.model.MultiObjectDeleteException;
+import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.S3Object;
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.net.URL;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -45,6 +60,50 @@ public class S3Uploader {
         return uploadImageUrl;
     }
 
+    // 변환된 이미지 업로드 (같은 key 의 내용은 바뀌지 않으므로 오래 캐시하도록 설정)
+    public String upload(byte[] bytes, String key, String contentType) {
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(bytes.length);
+        metadata.setContentType(contentType);
+        metadata.setCacheControl("public, max-age=31536000, immutable");
+        amazonS3Client.putObject(new PutObjectRequest(bucket, key,
+            new ByteArrayInputStream(bytes), metadata)
+            .withCannedAcl(CannedAccessControlList.PublicRead));
+        return amazonS3Client.getUrl(bucket, key).toString();
+    }
+
+    /**
+     * 클라이언트가 S3 에 바로 업로드할 수 있는 PUT 주소 발급
+     * Content-Type 과 Content-Length 를 서명에 포함하여 다른 형식이나 크기로는 업로드할 수 없다.
+     */
+    public URL presignPut(String key, String contentType, long size, Date expiration) {
+        GeneratePresignedUrlRequest request = new GeneratePresignedUrlRequest(bucket, key,
+            HttpMethod.PUT)
+            .withContentType(contentType)
+            .withExpiration(expiration);
+        request.putCustomRequestHeader(Headers.CONTENT_LENGTH, String.valueOf(size));
+        return amazonS3Client.generatePresignedUrl(request);
+    }
+
+    /**
+     * 클라이언트가 업로드한 객체 읽기
+     * @return 객체가 없으면 null
+     */
+    public S3Object getObject(String key) {
+        try {
+            return amazonS3Client.getObject(bucket, key);
+        } catch (AmazonS3Exception e) {
+            if (e.getStatusCode() == 404) {
+                return null;
+            }
+            throw e;
+        }
+    }
+
+    public String getUrl(String key) {
+        return amazonS3Client.getUrl(bucket, key).toString();
+    }
+
     // 이미지 S3에 업로드
     private String putS3(File uploadFile, String fileName) {
         amazonS3Client.putObject(new PutObjectRequest(bucket, fileName, uploadFile)
@@ -72,11 +131,24 @@ public class S3Uploader {
         return Optional.empty();
     }
 
-    public void deleteObject(String filePath) {
-        boolean isExistObject = amazonS3Client.doesObjectExist(bucket, filePath);
-
-        if (isExistObject) {
-            amazonS3Client.deleteObject(bucket, filePath);
+    /**
+     * 여러 객체를 한 번의 요청으로 삭제 (최대 1000개, 없는 key 는 성공으로 처리됨)
+     * @return 삭제에 실패한 key
+     */
+    public Set<String> deleteObjects(List<String> keys) {
+        if (keys.isEmpty()) {
+            return Collections.emptySet();
+        }
+        DeleteObjectsRequest request = new DeleteObjectsRequest(bucket)
+            .withKeys(keys.toArray(new String[0]))
+            .withQuiet(true);
+        try {
+            amazonS3Client.deleteObjects(request);
+            return Collections.emptySet();
+        } catch (MultiObjectDeleteException e) {
+            return e.getErrors().stream()
+                .map(MultiObjectDeleteException.DeleteError::getKey)
+                .collect(Collectors.toSet());
         }
     }
 
@@ -0,0 +1,130 @@
+package dingdong.dingdong.service.sms;
+
+import dingdong.dingdong.dto.auth.SendSmsMessage;
+import dingdong.dingdong.dto.auth.SendSmsResponseDto;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 인증 문자 묶음 전송
+ * 요청된 문자를 최대 lingerMillis 동안(또는 maxBatchSize 개까지) 모아 SENS 요청 1건으로 보내고,
+ * 결과는 수신자별 CompletableFuture 로 돌려준다.
+ */
+@Slf4j
+@Component
+public class SmsBatchDispatcher {
+
+    private final SmsGateway smsGateway;
+    private final Executor smsExecutor;
+    private final BlockingQueue<Pending> queue;
+    private final int maxBatchSize;
+    private final long lingerNanos;
+
+    private Thread dispatcher;
+    private volatile boolean running;
+
+    public SmsBatchDispatcher(SmsGateway smsGateway,
+        @Qualifier("smsExecutor") Executor smsExecutor,
+        @Value("${sms.batch.queue-capacity:10000}") int queueCapacity,
+        @Value("${sms.batch.max-size:100}") int maxBatchSize,
+        @Value("${sms.batch.linger-ms:10}") long lingerMillis) {
+        this.smsGateway = smsGateway;
+        this.smsExecutor = smsExecutor;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.maxBatchSize = maxBatchSize;
+        this.lingerNanos = TimeUnit.MILLISECONDS.toNanos(lingerMillis);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        dispatcher = new Thread(this::run, "sms-batch");
+        dispatcher.setDaemon(true);
+        dispatcher.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        dispatcher.interrupt();
+        dispatcher.join(TimeUnit.SECONDS.toMillis(5));
+        // 남은 문자는 바로 전송
+        List<Pending> rest = new ArrayList<>();
+        queue.drainTo(rest);
+        for (int i = 0; i < rest.size(); i += maxBatchSize) {
+            dispatch(rest.subList(i, Math.min(i + maxBatchSize, rest.size())));
+        }
+    }
+
+    // 전송 요청 (대기열이 가득 차면 실패한 future 반환)
+    public CompletableFuture<SendSmsResponseDto> submit(String to, String content) {
+        Pending pending = new Pending(SendSmsMessage.builder().to(to).content(content).build());
+        if (!queue.offer(pending)) {
+            pending.future.completeExceptionally(new SmsSendException("문자 전송 대기열 초과"));
+        }
+        return pending.future;
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                List<Pending> batch = new ArrayList<>(maxBatchSize);
+                batch.add(queue.take());
+                long deadline = System.nanoTime() + lingerNanos;
+                while (batch.size() < maxBatchSize) {
+                    // 이미 쌓인 문자는 기다리지 않고 가져옴
+                    if (queue.drainTo(batch, maxBatchSize - batch.size()) > 0) {
+                        continue;
+                    }
+                    long remaining = deadline - System.nanoTime();
+                    Pending next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : null;
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                smsExecutor.execute(() -> dispatch(batch));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Exception {}", e);
+            }
+        }
+    }
+
+    // 한 요청으로 전송하고 결과를 수신자별로 전달
+    private void dispatch(List<Pending> batch) {
+        try {
+            SendSmsResponseDto response = smsGateway.send(batch.stream()
+                .map(pending -> pending.message)
+                .collect(Collectors.toList()));
+            batch.forEach(pending -> pending.future.complete(response));
+        } catch (RuntimeException e) {
+            log.error("문자 묶음 전송 실패 : {}건", batch.size(), e);
+            batch.forEach(pending -> pending.future.completeExceptionally(e));
+        }
+    }
+
+    private static class Pending {
+
+        private final SendSmsMessage message;
+        private final CompletableFuture<SendSmsResponseDto> future = new CompletableFuture<>();
+
+        private Pending(SendSmsMessage message) {
+            this.message = message;
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package dingdong.dingdong.service.sms;
+
+import dingdong.dingdong.dto.auth.ApplicationNaverSENS;
+import dingdong.dingdong.dto.auth.SendSmsMessage;
+import dingdong.dingdong.dto.auth.SendSmsRequestDto;
+import dingdong.dingdong.dto.auth.SendSmsResponseDto;
+import dingdong.dingdong.util.CircuitBreaker;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.security.InvalidKeyException;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.List;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Naver SENS 문자 전송 클라이언트
+ * 공유 커넥션 풀(smsRestTemplate)로 호출하고, 연속으로 실패하면 서킷 브레이커로 잠시 호출을 막는다.
+ */
+@Slf4j
+@Component
+public class SmsGateway {
+
+    private static final String ACCEPTED = "202";
+
+    private final ApplicationNaverSENS applicationNaverSENS;
+    private final RestTemplate smsRestTemplate;
+    private final MeterRegistry meterRegistry;
+    private final CircuitBreaker circuitBreaker;
+    private final String url;
+    private final String path;
+
+    public SmsGateway(ApplicationNaverSENS applicationNaverSENS,
+        @Qualifier("smsRestTemplate") RestTemplate smsRestTemplate,
+        MeterRegistry meterRegistry,
+        @Value("${application-naver-sens.url:https://sens.apigw.ntruss.com}") String baseUrl,
+        @Value("${sms.circuit.failure-threshold:5}") int failureThreshold,
+        @Value("${sms.circuit.open-ms:30000}") long openMillis) {
+        this.applicationNaverSENS = applicationNaverSENS;
+        this.smsRestTemplate = smsRestTemplate;
+        this.meterRegistry = meterRegistry;
+        this.circuitBreaker = new CircuitBreaker(failureThreshold, openMillis);
+        this.path = "/sms/v2/services/" + applicationNaverSENS.getServiceId() + "/messages";
+        this.url = baseUrl + path;
+    }
+
+    // 서킷이 열려 있으면 전송 요청을 받지 않음
+    public boolean isAvailable() {
+        return !circuitBreaker.isOpen();
+    }
+
+    // 문자 1건 전송
+    public SendSmsResponseDto send(String to, String content) {
+        return send(List.of(SendSmsMessage.builder().to(to).content(content).build()));
+    }
+
+    // 여러 수신자에게 한 번의 서명된 요청으로 전송, 202 가 아니거나 호출에 실패하면 예외
+    public SendSmsResponseDto send(List<SendSmsMessage> messages) {
+        if (!circuitBreaker.allowRequest()) {
+            count("rejected");
+            throw new SmsSendException("SENS 서킷 열림");
+        }
+        SendSmsRequestDto sendSmsRequestDto = SendSmsRequestDto.builder()
+            .type("SMS")
+            .contentType("COMM")
+            .countryCode("82")
+            .from(applicationNaverSENS.getSendFrom())
+            .content("Default message")
+            .messages(messages)
+            .build();
+
+        long time = System.currentTimeMillis();
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.set("x-ncp-apigw-timestamp", Long.toString(time));
+        headers.set("x-ncp-iam-access-key", applicationNaverSENS.getAccessKey());
+        headers.set("x-ncp-apigw-signature-v2", makeSignature(time));
+
+        try {
+            SendSmsResponseDto response = smsRestTemplate
+                .postForObject(url, new HttpEntity<>(sendSmsRequestDto, headers),
+                    SendSmsResponseDto.class);
+            if (response == null || !ACCEPTED.equals(response.getStatusCode())) {
+                throw new SmsSendException("SENS 응답 오류 : "
+                    + (response == null ? null : response.getStatusCode()));
+            }
+            circuitBreaker.onSuccess();
+            count("success");
+            return response;
+        } catch (RestClientException | SmsSendException e) {
+            circuitBreaker.onFailure();
+            count("failure");
+            throw e instanceof SmsSendException ? (SmsSendException) e : new SmsSendException(e);
+        }
+    }
+
+    // "POST {path}\n{timestamp}\n{accessKey}" 를 secret key 로 HmacSHA256 서명
+    public String makeSignature(long time) {
+        String message = "POST " + path + "\n" + time + "\n" + applicationNaverSENS.getAccessKey();
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(
+                applicationNaverSENS.getSecretKey().getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+            return Base64.getEncoder()
+                .encodeToString(mac.doFinal(message.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException | InvalidKeyException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void count(String result) {
+        meterRegistry.counter("sms.send", "result", result).increment();
+    }
+}
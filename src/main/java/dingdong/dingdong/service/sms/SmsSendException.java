@@ -0,0 +1,12 @@
+package dingdong.dingdong.service.sms;
+
+public class SmsSendException extends RuntimeException {
+
+    public SmsSendException(String message) {
+        super(message);
+    }
+
+    public SmsSendException(Throwable cause) {
+        super(cause);
+    }
+}
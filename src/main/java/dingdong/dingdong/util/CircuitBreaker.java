@@ -0,0 +1,51 @@
+package dingdong.dingdong.util;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 외부 API 호출용 서킷 브레이커
+ * 연속 실패가 failureThreshold 회에 도달하면 openMillis 동안 호출을 막고,
+ * 그 이후에는 한 번의 시험 호출 결과로 닫거나 다시 연다.
+ */
+public class CircuitBreaker {
+
+    private final int failureThreshold;
+    private final long openMillis;
+
+    private final AtomicInteger failures = new AtomicInteger();
+    // 열린 시각 (0 이면 닫힘)
+    private final AtomicLong openedAt = new AtomicLong();
+
+    public CircuitBreaker(int failureThreshold, long openMillis) {
+        this.failureThreshold = failureThreshold;
+        this.openMillis = openMillis;
+    }
+
+    // 호출 가능 여부 (열린 후 openMillis 가 지나면 한 요청만 시험 호출 허용)
+    public boolean allowRequest() {
+        long opened = openedAt.get();
+        if (opened == 0) {
+            return true;
+        }
+        long now = System.currentTimeMillis();
+        return now - opened >= openMillis && openedAt.compareAndSet(opened, now);
+    }
+
+    // 호출하지 않고 열려 있는지만 확인
+    public boolean isOpen() {
+        long opened = openedAt.get();
+        return opened != 0 && System.currentTimeMillis() - opened < openMillis;
+    }
+
+    public void onSuccess() {
+        failures.set(0);
+        openedAt.set(0);
+    }
+
+    public void onFailure() {
+        if (failures.incrementAndGet() >= failureThreshold) {
+            openedAt.set(System.currentTimeMillis());
+        }
+    }
+}
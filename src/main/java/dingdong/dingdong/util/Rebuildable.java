@@ -0,0 +1,63 @@
+package dingdong.dingdong.util;
+
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * 주기적으로 다시 만드는 메모리 목록 (Bloom Filter, Set 등)
+ * 다시 만드는 동안 추가된 항목은 새 목록에도 함께 추가하고, 추가와 교체를 같은 잠금으로 실행하여
+ * 교체 직전에 추가된 항목이 어느 목록에도 남지 않는 경우가 없도록 한다. 조회는 잠금 없이 현재 목록을 사용한다.
+ */
+public class Rebuildable<T> {
+
+    private final Supplier<T> factory;
+    private final BiConsumer<T, String> adder;
+    private final Object lock = new Object();
+
+    private volatile T current;
+    // 다시 만드는 중인 목록 (lock 으로 보호)
+    private T rebuilding;
+
+    public Rebuildable(Supplier<T> factory, BiConsumer<T, String> adder) {
+        this.factory = factory;
+        this.adder = adder;
+        this.current = factory.get();
+    }
+
+    public T get() {
+        return current;
+    }
+
+    public void add(String entry) {
+        synchronized (lock) {
+            adder.accept(current, entry);
+            if (rebuilding != null) {
+                adder.accept(rebuilding, entry);
+            }
+        }
+    }
+
+    /**
+     * 새 목록을 만들어 loader 로 채운 후 교체 (loader 는 잠금 없이 실행됨)
+     * loader 가 실패하면 기존 목록을 그대로 사용한다.
+     */
+    public void rebuild(Consumer<T> loader) {
+        T next = factory.get();
+        synchronized (lock) {
+            rebuilding = next;
+        }
+        try {
+            loader.accept(next);
+        } catch (RuntimeException e) {
+            synchronized (lock) {
+                rebuilding = null;
+            }
+            throw e;
+        }
+        synchronized (lock) {
+            current = next;
+            rebuilding = null;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package dingdong.dingdong.util;
 
+import dingdong.dingdong.domain.user.UserPrincipal;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -23,4 +24,15 @@ public class SecurityUtil {
 
         return authentication.getName();
     }
+
+    // JWT uid 클레임의 회원 id (uid 클레임이 없는 토큰이면 null)
+    public static Long getUserId() {
+        final Authentication authentication = SecurityContextHolder.getContext()
+            .getAuthentication();
+
+        if (authentication != null && authentication.getPrincipal() instanceof UserPrincipal) {
+            return ((UserPrincipal) authentication.getPrincipal()).getId();
+        }
+        return null;
+    }
 }
@@ -7,6 +7,8 @@ import static org.springframework.http.HttpStatus.FORBIDDEN;
 import static org.springframework.http.HttpStatus.INTERNAL_SERVER_ERROR;
 import static org.springframework.http.HttpStatus.NOT_FOUND;
 import static org.springframework.http.HttpStatus.OK;
+import static org.springframework.http.HttpStatus.SERVICE_UNAVAILABLE;
+import static org.springframework.http.HttpStatus.TOO_MANY_REQUESTS;
 import static org.springframework.http.HttpStatus.UNAUTHORIZED;
 
 import lombok.AllArgsConstructor;
@@ -31,6 +33,8 @@ public enum ResultCode {
     PROFILE_UPDATE_SUCCESS(OK, "프로필 수정 성공"),
 
     RATING_READ_SUCCESS(OK, "평가 조회 성공"),
+    RATING_RECONCILE_SUCCESS(OK, "평가 재계산 시작"),
+    USER_MAINTENANCE_SUCCESS(OK, "회원 정리 작업 완료"),
 
     POST_READ_SUCCESS(OK, "포스트 조회 성공"),
     POST_DELETE_SUCCESS(OK, "포스트 삭제 성공"),
@@ -46,6 +50,7 @@ public enum ResultCode {
     CHAT_MESSAGE_READ_SUCCESS(OK, "채팅 메세지 조회 성공"),
 
     IMAGE_UPLOAD_SUCCESS(OK, "이미지 업로드 성공"),
+    IMAGE_UPLOAD_URL_SUCCESS(OK, "이미지 업로드 주소 발급 성공"),
 
     TAG_UPDATE_SUCCESS(OK, "해시태그 업로드 성공"),
 
@@ -82,6 +87,7 @@ public enum ResultCode {
     CANNOT_FOLLOW_MYSELF(BAD_REQUEST, "자기 자신은 팔로우 할 수 없습니다"),
 
     VALID_ERROR(BAD_REQUEST, "유효성 검사 실패"),
+    IMAGE_INVALID(BAD_REQUEST, "이미지 파일이 아니거나 크기가 너무 큽니다"),
     POST_CREATE_FAIL(BAD_REQUEST, "포스트 생성 실패"),
     POST_UPDATE_FAIL(BAD_REQUEST, "포스트 수정 실패"),
 
@@ -107,6 +113,7 @@ public enum ResultCode {
     INVALID_AUTH_TOKEN(UNAUTHORIZED, "올바른 토큰이 아닙니다"),
     INVALID_JWT_SIGN(UNAUTHORIZED, "잘못된 JWT 서명입니다"),
     INVALID_JWT_EXPIRED(UNAUTHORIZED, "만료된 JWT 토큰입니다"),
+    REUSED_REFRESH_TOKEN(UNAUTHORIZED, "이미 사용된 리프레시 토큰입니다 - 다시 로그인해주세요"),
     INVALID_ACCOUNT(UNAUTHORIZED, "계정이 비활성화 되었습니다"),
     CREDENTIALS_EXPIRED(UNAUTHORIZED, "비밀번호 유효기간이 만료되었습니다"),
 
@@ -123,6 +130,7 @@ public enum ResultCode {
     AUTH_COOL_TIME_LIMIT(FORBIDDEN, "정회원 인증 제한 - 5분 후에 시도해주세요"),
     AUTH_TIME_OUT(FORBIDDEN, "인증 시간을 초과하였습니다"),
     AUTH_ATTEMPT_COUNT_LIMIT(FORBIDDEN, "정회원 인증 제한 - 인증 시도 횟수 초과"),
+    IMAGE_UPLOAD_FORBIDDEN(FORBIDDEN, "본인이 업로드한 이미지만 사용할 수 있습니다"),
 
     /* 404 NOT_FOUND : Resource 를 찾을 수 없음 */
     AUTH_NOT_FOUND(NOT_FOUND, "해당 사용자의 인증 정보를 찾을 수 없습니다"),
@@ -143,6 +151,8 @@ public enum ResultCode {
 
     CHAT_PROMISE_VOTE_NOT_FOUND(NOT_FOUND, "해당 채팅 약속 투표를 찾을 수 없습니다."),
 
+    IMAGE_UPLOAD_NOT_FOUND(NOT_FOUND, "업로드된 이미지를 찾을 수 없습니다"),
+
     /* 409 CONFLICT : Resource 의 현재 상태와 충돌. 보통 중복된 데이터 존재 */
     DUPLICATE_RESOURCE(CONFLICT, "데이터가 이미 존재합니다"),
     NICKNAME_DUPLICATION(CONFLICT, "이미 사용 중인 닉네임입니다"),
@@ -151,9 +161,18 @@ public enum ResultCode {
     CHAT_PROMISE_VOTE_DUPLICATION(CONFLICT, "이미 투표하였습니다"),
     POST_CONFIRMED_DUPLICATION(CONFLICT, "이미 거래 확정하였습니다"),
     REPORT_DUPLICATION(CONFLICT, "이미 신고한 사용자입니다"),
+    RATING_DUPLICATION(CONFLICT, "이미 평가한 사용자입니다"),
+    RATING_RECONCILE_DUPLICATION(CONFLICT, "이미 평가 재계산이 진행 중입니다"),
+
+    /* 429 TOO_MANY_REQUESTS : 요청 제한 초과 */
+    TOO_MANY_REQUESTS(TOO_MANY_REQUESTS, "요청이 너무 많습니다 - 잠시 후 다시 시도해주세요"),
 
     /* 500 CONFLICT */
     INTER_SERVER_ERROR(INTERNAL_SERVER_ERROR, "서버 오류 발생"),
+
+    /* 503 SERVICE_UNAVAILABLE */
+    SEND_SMS_UNAVAILABLE(SERVICE_UNAVAILABLE, "인증 번호 전송이 일시적으로 불가능합니다 - 잠시 후 다시 시도해주세요"),
+    IMAGE_PROCESSING_UNAVAILABLE(SERVICE_UNAVAILABLE, "이미지 처리 요청이 많습니다 - 잠시 후 다시 시도해주세요"),
     ;
 
     private final HttpStatus httpStatus;
@@ -0,0 +1,49 @@
+-- profile.nickname unique 제약 조건 추가 (MySQL, 배포 전 한 번 실행)
+-- 1. 탈퇴한 회원의 "leave" 닉네임을 NULL 로 변경 (탈퇴 회원은 NULL 이어도 "leave" 로 표시됨)
+-- 2. 중복된 닉네임은 가장 먼저 가입한 회원만 유지하고 나머지는 "{닉네임}_{회원 id}" 로 변경
+--    (이미 사용 중인 이름이면 "{닉네임}_{회원 id}_{n}")
+-- 3. uk_profile_nickname 제약 조건 생성
+-- 실행 중 이전 버전 서버가 중복 닉네임을 저장하여 3 이 실패하면 스크립트를 다시 실행한다.
+-- 제약 조건이 없으면 서버가 시작되지 않는다. (NicknameConstraintCheck)
+
+UPDATE profile SET nickname = NULL WHERE nickname = 'leave';
+
+DROP PROCEDURE IF EXISTS dedupe_profile_nickname;
+
+DELIMITER //
+CREATE PROCEDURE dedupe_profile_nickname()
+BEGIN
+    DECLARE done INT DEFAULT FALSE;
+    DECLARE v_user_id BIGINT;
+    DECLARE v_nickname VARCHAR(255);
+    DECLARE v_candidate VARCHAR(255);
+    DECLARE v_suffix INT;
+    DECLARE duplicates CURSOR FOR
+        SELECT p.user_id, p.nickname FROM profile p
+        WHERE EXISTS (SELECT 1 FROM profile q
+                      WHERE q.nickname = p.nickname AND q.user_id < p.user_id)
+        ORDER BY p.user_id;
+    DECLARE CONTINUE HANDLER FOR NOT FOUND SET done = TRUE;
+
+    OPEN duplicates;
+    rename_loop: LOOP
+        FETCH duplicates INTO v_user_id, v_nickname;
+        IF done THEN
+            LEAVE rename_loop;
+        END IF;
+        SET v_candidate = CONCAT(v_nickname, '_', v_user_id);
+        SET v_suffix = 1;
+        WHILE EXISTS (SELECT 1 FROM profile WHERE nickname = v_candidate) DO
+            SET v_candidate = CONCAT(v_nickname, '_', v_user_id, '_', v_suffix);
+            SET v_suffix = v_suffix + 1;
+        END WHILE;
+        UPDATE profile SET nickname = v_candidate WHERE user_id = v_user_id;
+    END LOOP;
+    CLOSE duplicates;
+END //
+DELIMITER ;
+
+CALL dedupe_profile_nickname();
+DROP PROCEDURE dedupe_profile_nickname;
+
+ALTER TABLE profile ADD CONSTRAINT uk_profile_nickname UNIQUE (nickname);
@@ -0,0 +1,36 @@
+package dingdong.dingdong.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+class RateLimitFilterTest {
+
+    private final RateLimitFilter rateLimitFilter = new RateLimitFilter(null, new ObjectMapper(),
+        List.of("10.0.0.0/8"));
+
+    @DisplayName("신뢰하는 프록시를 거친 요청은 X-Forwarded-For 의 마지막 신뢰하지 않는 주소 사용")
+    @Test
+    void clientIpForwarded() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr("10.0.1.5");
+        // 클라이언트가 임의로 넣은 1.1.1.1 은 무시
+        request.addHeader("X-Forwarded-For", "1.1.1.1, 203.0.113.7, 10.0.2.8");
+
+        assertThat(rateLimitFilter.clientIp(request)).isEqualTo("203.0.113.7");
+    }
+
+    @DisplayName("신뢰하지 않는 주소에서 온 요청은 X-Forwarded-For 무시")
+    @Test
+    void clientIpDirect() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr("203.0.113.7");
+        request.addHeader("X-Forwarded-For", "1.1.1.1");
+
+        assertThat(rateLimitFilter.clientIp(request)).isEqualTo("203.0.113.7");
+    }
+}
@@ -0,0 +1,45 @@
+package dingdong.dingdong.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dingdong.dingdong.domain.user.UserPrincipal;
+import java.util.Base64;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+class TokenProviderTest {
+
+    private static final String SECRET = Base64.getEncoder().encodeToString(new byte[64]);
+
+    private final TokenProvider tokenProvider = new TokenProvider(SECRET, 100);
+
+    @Test
+    @DisplayName("캐시된 토큰도 요청마다 새 인증 정보를 반환하여 한 요청의 변경이 다른 요청에 보이지 않음")
+    void resolveAuthenticationCopies() {
+        String accessToken = tokenProvider.generateTokenDto(authentication(1L))
+            .getAccessToken();
+
+        Authentication first = tokenProvider.resolveAuthentication(accessToken);
+        ((UsernamePasswordAuthenticationToken) first).setDetails("request 1");
+        ((UsernamePasswordAuthenticationToken) first).eraseCredentials();
+        Authentication second = tokenProvider.resolveAuthentication(accessToken);
+
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.getDetails()).isNull();
+        assertThat(((UserPrincipal) second.getPrincipal()).getPassword()).isEqualTo("");
+        assertThat(((UserPrincipal) second.getPrincipal()).getId()).isEqualTo(1L);
+        assertThat(second.getAuthorities()).extracting(GrantedAuthority::getAuthority)
+            .containsExactly("ROLE_USER");
+    }
+
+    private static Authentication authentication(Long userId) {
+        List<GrantedAuthority> authorities = List.of(new SimpleGrantedAuthority("ROLE_USER"));
+        return new UsernamePasswordAuthenticationToken(
+            new UserPrincipal(userId, "01012345678", authorities, null, 0L, 0L), "", authorities);
+    }
+}
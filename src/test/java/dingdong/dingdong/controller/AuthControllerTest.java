@@ -17,12 +17,11 @@ import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import dingdong.dingdong.domain.user.Auth;
-import dingdong.dingdong.domain.user.AuthRepository;
 import dingdong.dingdong.domain.user.Local;
 import dingdong.dingdong.domain.user.LocalRepository;
 import dingdong.dingdong.domain.user.Profile;
 import dingdong.dingdong.domain.user.ProfileRepository;
+import dingdong.dingdong.domain.user.RedisOtpRepository;
 import dingdong.dingdong.domain.user.Role;
 import dingdong.dingdong.domain.user.User;
 import dingdong.dingdong.domain.user.UserRepository;
@@ -33,7 +32,6 @@ import dingdong.dingdong.dto.auth.TokenDto;
 import dingdong.dingdong.dto.auth.TokenRequestDto;
 import dingdong.dingdong.service.auth.AuthService;
 import dingdong.dingdong.service.auth.AuthType;
-import java.time.LocalDateTime;
 import java.util.Map;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -47,7 +45,6 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders;
 import org.springframework.restdocs.payload.JsonFieldType;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -63,14 +60,11 @@ class AuthControllerTest {
     @Autowired
     ObjectMapper objectMapper;
 
-    @Autowired
-    PasswordEncoder passwordEncoder;
-
     @Autowired
     AuthService authService;
 
     @Autowired
-    AuthRepository authRepository;
+    RedisOtpRepository redisOtpRepository;
 
     @Autowired
     ProfileRepository profileRepository;
@@ -93,18 +87,7 @@ class AuthControllerTest {
         Long id = 1L;
         String phone = "01012345678";
         String authNumber = "123456";
-        String requestId = "testRequestId";
-        LocalDateTime requestTime = LocalDateTime.now();
-        Auth auth = Auth.builder()
-            .id(id)
-            .phone(phone)
-            .authNumber(passwordEncoder.encode(authNumber))
-            .requestId(requestId)
-            .requestTime(requestTime)
-            .attemptCount(0)
-            .build();
-
-        authRepository.save(auth);
+        redisOtpRepository.save(phone, authNumber);
 
         Profile profile = Profile.builder()
             .id(id)
@@ -309,6 +292,30 @@ class AuthControllerTest {
             ));
     }
 
+    @Test
+    @DisplayName("닉네임 사용 가능 여부 확인 테스트")
+    void checkNickname() throws Exception {
+        TokenDto tokenDto = getTokenDto();
+        String token = "Bearer " + tokenDto.getAccessToken();
+
+        mockMvc.perform(
+            RestDocumentationRequestBuilders.get("/api/v1/auth/nickname?nickname=testNickname2")
+                .header(HttpHeaders.AUTHORIZATION, token)
+                .accept(MediaType.APPLICATION_JSON))
+            .andDo(print()).andExpect(status().isOk()).andDo(print())
+            .andDo(document("{class-name}/{method-name}",
+                preprocessRequest(modifyUris().scheme(scheme).host(host).port(port), prettyPrint()),
+                preprocessResponse(prettyPrint()),
+                requestHeaders(
+                    headerWithName(HttpHeaders.AUTHORIZATION)
+                        .description("Bearer Type의 AccessToken 값")
+                ),
+                requestParameters(
+                    parameterWithName("nickname").description("확인할 닉네임 값")
+                )
+            ));
+    }
+
     @Test
     @DisplayName("동네 목록 조회 테스트")
     void getLocals() throws Exception {
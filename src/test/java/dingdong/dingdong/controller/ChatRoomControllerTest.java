@@ -12,6 +12,7 @@ import static org.springframework.restdocs.payload.PayloadDocumentation.relaxedR
 import static org.springframework.restdocs.payload.PayloadDocumentation.requestFields;
 import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
 import static org.springframework.restdocs.request.RequestDocumentation.pathParameters;
+import static org.springframework.restdocs.request.RequestDocumentation.requestParameters;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -27,10 +28,9 @@ import dingdong.dingdong.domain.post.Category;
 import dingdong.dingdong.domain.post.CategoryRepository;
 import dingdong.dingdong.domain.post.Post;
 import dingdong.dingdong.domain.post.PostRepository;
-import dingdong.dingdong.domain.user.Auth;
-import dingdong.dingdong.domain.user.AuthRepository;
 import dingdong.dingdong.domain.user.Profile;
 import dingdong.dingdong.domain.user.ProfileRepository;
+import dingdong.dingdong.domain.user.RedisOtpRepository;
 import dingdong.dingdong.domain.user.Role;
 import dingdong.dingdong.domain.user.User;
 import dingdong.dingdong.domain.user.UserRepository;
@@ -57,7 +57,6 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders;
 import org.springframework.restdocs.payload.JsonFieldType;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -73,14 +72,11 @@ class ChatRoomControllerTest {
     @Autowired
     ObjectMapper objectMapper;
 
-    @Autowired
-    PasswordEncoder passwordEncoder;
-
     @Autowired
     AuthService authService;
 
     @Autowired
-    AuthRepository authRepository;
+    RedisOtpRepository redisOtpRepository;
 
     @Autowired
     ProfileRepository profileRepository;
@@ -122,31 +118,11 @@ class ChatRoomControllerTest {
         Long id1 = 1L;
         String phone1 = "01012345678";
         String authNumber = "123456";
-        String requestId1 = "testRequestId1";
-        LocalDateTime requestTime = LocalDateTime.now();
-        Auth auth1 = Auth.builder()
-            .id(id1)
-            .phone(phone1)
-            .authNumber(passwordEncoder.encode(authNumber))
-            .requestId(requestId1)
-            .requestTime(requestTime)
-            .attemptCount(0)
-            .build();
 
         Long id2 = 2L;
         String phone2 = "02012345678";
-        String requestId2 = "testRequestId2";
-        Auth auth2 = Auth.builder()
-            .id(id2)
-            .phone(phone2)
-            .authNumber(passwordEncoder.encode(authNumber))
-            .requestId(requestId2)
-            .requestTime(requestTime)
-            .attemptCount(0)
-            .build();
-
-        authRepository.save(auth1);
-        authRepository.save(auth2);
+        redisOtpRepository.save(phone1, authNumber);
+        redisOtpRepository.save(phone2, authNumber);
 
         String nickname1 = "testNickname1";
         String profileImageUrl1 = "testProfileImageUrl1";
@@ -265,6 +241,7 @@ class ChatRoomControllerTest {
             .type(MessageType.TALK)
             .message("test message")
             .sendTime(LocalDateTime.now())
+            .seq(1L)
             .build();
 
         chatMessageRepository.save(chatMessage);
@@ -470,7 +447,45 @@ class ChatRoomControllerTest {
                     fieldWithPath("data.[].isOwner").type("Boolean").description("본인 메세지 여부"),
                     fieldWithPath("data.[].type").type(JsonFieldType.STRING).description("메세지 타입"),
                     fieldWithPath("data.[].message").type(JsonFieldType.STRING).description("메세지 내용"),
-                    fieldWithPath("data.[].sendTime").type(JsonFieldType.STRING).description("메세지 전송 시간")
+                    fieldWithPath("data.[].sendTime").type(JsonFieldType.STRING).description("메세지 전송 시간"),
+                    fieldWithPath("data.[].seq").type(JsonFieldType.NUMBER).description("채팅방 내 메세지 순번")
+                )
+            ));
+    }
+
+    @Test
+    @DisplayName("채팅 메세지 조회 (순번 이후)")
+    void findChatMessagesByRoomIdAfterSeq() throws Exception {
+        TokenDto tokenDto = getTokenDto();
+        String token = "Bearer " + tokenDto.getAccessToken();
+
+        mockMvc.perform(RestDocumentationRequestBuilders.get("/api/v1/chat/message/{roomId}", 1L)
+            .header(HttpHeaders.AUTHORIZATION, token)
+            .param("after", "0")
+            .accept(MediaType.APPLICATION_JSON))
+            .andDo(print()).andExpect(status().isOk()).andDo(print())
+            .andDo(document("{class-name}/{method-name}",
+                preprocessRequest(modifyUris().scheme(scheme).host(host).port(port), prettyPrint()),
+                preprocessResponse(prettyPrint()),
+                requestHeaders(
+                    headerWithName(HttpHeaders.AUTHORIZATION)
+                        .description("Bearer Type의 AccessToken 값")
+                ),
+                pathParameters(
+                    parameterWithName("roomId").description("채팅방의 고유한 아이디 값")
+                ),
+                requestParameters(
+                    parameterWithName("after").description("이 순번 이후의 메세지만 조회")
+                ),
+                relaxedResponseFields(
+                    fieldWithPath("data.[].userId").type(JsonFieldType.NUMBER).description("사용자의 고유한 아이디 값"),
+                    fieldWithPath("data.[].nickname").type(JsonFieldType.STRING).description("사용자의 닉네임"),
+                    fieldWithPath("data.[].profileImageUrl").type(JsonFieldType.STRING).description("사용자의 프로필 이미지"),
+                    fieldWithPath("data.[].isOwner").type("Boolean").description("본인 메세지 여부"),
+                    fieldWithPath("data.[].type").type(JsonFieldType.STRING).description("메세지 타입"),
+                    fieldWithPath("data.[].message").type(JsonFieldType.STRING).description("메세지 내용"),
+                    fieldWithPath("data.[].sendTime").type(JsonFieldType.STRING).description("메세지 전송 시간"),
+                    fieldWithPath("data.[].seq").type(JsonFieldType.NUMBER).description("채팅방 내 메세지 순번")
                 )
             ));
     }
@@ -0,0 +1,178 @@
+package dingdong.dingdong.controller;
+
+import static org.springframework.restdocs.headers.HeaderDocumentation.headerWithName;
+import static org.springframework.restdocs.headers.HeaderDocumentation.requestHeaders;
+import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
+import static org.springframework.restdocs.operation.preprocess.Preprocessors.modifyUris;
+import static org.springframework.restdocs.operation.preprocess.Preprocessors.preprocessRequest;
+import static org.springframework.restdocs.operation.preprocess.Preprocessors.preprocessResponse;
+import static org.springframework.restdocs.operation.preprocess.Preprocessors.prettyPrint;
+import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
+import static org.springframework.restdocs.payload.PayloadDocumentation.relaxedResponseFields;
+import static org.springframework.restdocs.payload.PayloadDocumentation.requestFields;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dingdong.dingdong.domain.user.LocalRepository;
+import dingdong.dingdong.domain.user.Profile;
+import dingdong.dingdong.domain.user.ProfileRepository;
+import dingdong.dingdong.domain.user.RedisOtpRepository;
+import dingdong.dingdong.domain.user.Role;
+import dingdong.dingdong.domain.user.User;
+import dingdong.dingdong.domain.user.UserRepository;
+import dingdong.dingdong.dto.auth.AuthRequestDto;
+import dingdong.dingdong.dto.auth.TokenDto;
+import dingdong.dingdong.dto.image.ImageUploadRequestDto;
+import dingdong.dingdong.service.auth.AuthService;
+import dingdong.dingdong.service.auth.AuthType;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.restdocs.AutoConfigureRestDocs;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders;
+import org.springframework.restdocs.payload.JsonFieldType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureRestDocs
+@Transactional
+class ImageControllerTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Autowired
+    AuthService authService;
+
+    @Autowired
+    RedisOtpRepository redisOtpRepository;
+
+    @Autowired
+    ProfileRepository profileRepository;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    LocalRepository localRepository;
+
+    @Value("${test.server.http.scheme}")
+    String scheme;
+    @Value("${test.server.http.host}")
+    String host;
+    @Value("${test.server.http.port}")
+    int port;
+
+    @BeforeEach
+    void setUp() {
+        Long id = 1L;
+        String phone = "01012345678";
+        String authNumber = "123456";
+        redisOtpRepository.save(phone, authNumber);
+
+        User user = User.builder()
+            .id(id)
+            .phone(phone)
+            .local1(localRepository.findById(1L).get())
+            .local2(localRepository.findById(2L).get())
+            .authority(Role.REGULAR)
+            .build();
+
+        Profile profile = Profile.builder()
+            .id(id)
+            .user(user)
+            .nickname("testNickname1")
+            .profileImageUrl("testProfileImageUrl1")
+            .good(0L)
+            .bad(0L)
+            .build();
+
+        user.setProfile(profile);
+
+        userRepository.save(user);
+        profileRepository.save(profile);
+    }
+
+    TokenDto getTokenDto() {
+        AuthRequestDto authRequestDto = AuthRequestDto.builder()
+            .phone("01012345678")
+            .authNumber("123456")
+            .build();
+        Map<AuthType, TokenDto> data = authService.auth(authRequestDto);
+
+        return data.get(AuthType.LOGIN);
+    }
+
+    @Test
+    @DisplayName("이미지 업로드 주소 발급")
+    void createUploadUrl() throws Exception {
+        TokenDto tokenDto = getTokenDto();
+        String token = "Bearer " + tokenDto.getAccessToken();
+
+        ImageUploadRequestDto imageUploadRequestDto = ImageUploadRequestDto.builder()
+            .contentType("image/jpeg")
+            .size(1024L * 1024)
+            .build();
+
+        mockMvc.perform(RestDocumentationRequestBuilders.post("/api/v1/image/upload-url")
+            .header(HttpHeaders.AUTHORIZATION, token)
+            .content(objectMapper.writeValueAsString(imageUploadRequestDto))
+            .contentType(MediaType.APPLICATION_JSON)
+            .accept(MediaType.APPLICATION_JSON))
+            .andDo(print()).andExpect(status().isOk())
+            .andDo(document("{class-name}/{method-name}",
+                preprocessRequest(modifyUris().scheme(scheme).host(host).port(port), prettyPrint()),
+                preprocessResponse(prettyPrint()),
+                requestHeaders(
+                    headerWithName(HttpHeaders.AUTHORIZATION)
+                        .description("Bearer Type의 AccessToken 값")
+                ),
+                requestFields(
+                    fieldWithPath("contentType").type(JsonFieldType.STRING)
+                        .description("image/jpeg 또는 image/png"),
+                    fieldWithPath("size").type(JsonFieldType.NUMBER)
+                        .description("업로드할 파일 크기 (byte, 최대 10MB)")
+                ),
+                relaxedResponseFields(
+                    fieldWithPath("data.key").type(JsonFieldType.STRING)
+                        .description("나누기(postImageKeys), 프로필(profileImageKey) 저장 시 전달할 key"),
+                    fieldWithPath("data.uploadUrl").type(JsonFieldType.STRING)
+                        .description("Content-Type, Content-Length 헤더와 함께 PUT 으로 업로드할 주소"),
+                    fieldWithPath("data.expiredAt").type(JsonFieldType.STRING)
+                        .description("업로드 주소 만료 시각")
+                )
+            ));
+    }
+
+    @Test
+    @DisplayName("이미지 업로드 주소 발급 실패 - 지원하지 않는 형식")
+    void createUploadUrlInvalid() throws Exception {
+        TokenDto tokenDto = getTokenDto();
+        String token = "Bearer " + tokenDto.getAccessToken();
+
+        ImageUploadRequestDto imageUploadRequestDto = ImageUploadRequestDto.builder()
+            .contentType("application/pdf")
+            .size(1024L)
+            .build();
+
+        mockMvc.perform(RestDocumentationRequestBuilders.post("/api/v1/image/upload-url")
+            .header(HttpHeaders.AUTHORIZATION, token)
+            .content(objectMapper.writeValueAsString(imageUploadRequestDto))
+            .contentType(MediaType.APPLICATION_JSON)
+            .accept(MediaType.APPLICATION_JSON))
+            .andDo(print()).andExpect(status().isBadRequest());
+    }
+}
@@ -37,12 +37,11 @@ import dingdong.dingdong.domain.post.PostTag;
 import dingdong.dingdong.domain.post.PostTagRepository;
 import dingdong.dingdong.domain.post.Tag;
 import dingdong.dingdong.domain.post.TagRepository;
-import dingdong.dingdong.domain.user.Auth;
-import dingdong.dingdong.domain.user.AuthRepository;
 import dingdong.dingdong.domain.user.Local;
 import dingdong.dingdong.domain.user.LocalRepository;
 import dingdong.dingdong.domain.user.Profile;
 import dingdong.dingdong.domain.user.ProfileRepository;
+import dingdong.dingdong.domain.user.RedisOtpRepository;
 import dingdong.dingdong.domain.user.Role;
 import dingdong.dingdong.domain.user.User;
 import dingdong.dingdong.domain.user.UserRepository;
@@ -70,7 +69,6 @@ import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders;
 import org.springframework.restdocs.payload.JsonFieldType;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -90,14 +88,11 @@ class PostControllerTest {
     @Autowired
     PostRepository postRepository;
 
-    @Autowired
-    PasswordEncoder passwordEncoder;
-
     @Autowired
     AuthService authService;
 
     @Autowired
-    AuthRepository authRepository;
+    RedisOtpRepository redisOtpRepository;
 
     @Autowired
     ProfileRepository profileRepository;
@@ -141,17 +136,7 @@ class PostControllerTest {
         Long id1 = 1L;
         String phone1 = "01012345678";
         String authNumber = "123456";
-        String requestId = "testRequestId";
-        LocalDateTime requestTime = LocalDateTime.now();
-        Auth auth = Auth.builder()
-            .id(id1)
-            .phone(phone1)
-            .authNumber(passwordEncoder.encode(authNumber))
-            .attemptCount(0)
-            .requestId(requestId)
-            .requestTime(requestTime)
-            .build();
-        authRepository.save(auth);
+        redisOtpRepository.save(phone1, authNumber);
 
         Local local1 = Local.builder()
             .id(1L)
@@ -19,11 +19,10 @@ import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import dingdong.dingdong.domain.user.Auth;
-import dingdong.dingdong.domain.user.AuthRepository;
 import dingdong.dingdong.domain.user.LocalRepository;
 import dingdong.dingdong.domain.user.Profile;
 import dingdong.dingdong.domain.user.ProfileRepository;
+import dingdong.dingdong.domain.user.RedisOtpRepository;
 import dingdong.dingdong.domain.user.Role;
 import dingdong.dingdong.domain.user.User;
 import dingdong.dingdong.domain.user.UserRepository;
@@ -33,7 +32,6 @@ import dingdong.dingdong.dto.profile.ReportRequestDto;
 import dingdong.dingdong.service.auth.AuthService;
 import dingdong.dingdong.service.auth.AuthType;
 import dingdong.dingdong.service.profile.ProfileService;
-import java.time.LocalDateTime;
 import java.util.Map;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -48,7 +46,6 @@ import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders;
 import org.springframework.restdocs.payload.JsonFieldType;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -64,9 +61,6 @@ class ProfileControllerTest {
     @Autowired
     ObjectMapper objectMapper;
 
-    @Autowired
-    PasswordEncoder passwordEncoder;
-
     @Autowired
     AuthService authService;
 
@@ -74,7 +68,7 @@ class ProfileControllerTest {
     ProfileService profileService;
 
     @Autowired
-    AuthRepository authRepository;
+    RedisOtpRepository redisOtpRepository;
 
     @Autowired
     ProfileRepository profileRepository;
@@ -98,18 +92,7 @@ class ProfileControllerTest {
         Long id1 = 1L;
         String phone1 = "01012345678";
         String authNumber = "123456";
-        String requestId = "testRequestId";
-        LocalDateTime requestTime = LocalDateTime.now();
-        Auth auth = Auth.builder()
-            .id(id1)
-            .phone(phone1)
-            .authNumber(passwordEncoder.encode(authNumber))
-            .requestId(requestId)
-            .requestTime(requestTime)
-            .attemptCount(0)
-            .build();
-
-        authRepository.save(auth);
+        redisOtpRepository.save(phone1, authNumber);
 
         User user1 = User.builder()
             .id(id1)
@@ -24,11 +24,10 @@ import dingdong.dingdong.domain.post.Category;
 import dingdong.dingdong.domain.post.CategoryRepository;
 import dingdong.dingdong.domain.post.Post;
 import dingdong.dingdong.domain.post.PostRepository;
-import dingdong.dingdong.domain.user.Auth;
-import dingdong.dingdong.domain.user.AuthRepository;
 import dingdong.dingdong.domain.user.Profile;
 import dingdong.dingdong.domain.user.ProfileRepository;
 import dingdong.dingdong.domain.user.RatingRepository;
+import dingdong.dingdong.domain.user.RedisOtpRepository;
 import dingdong.dingdong.domain.user.Role;
 import dingdong.dingdong.domain.user.User;
 import dingdong.dingdong.domain.user.UserRepository;
@@ -38,7 +37,6 @@ import dingdong.dingdong.dto.rating.RatingRequestDto;
 import dingdong.dingdong.service.auth.AuthService;
 import dingdong.dingdong.service.auth.AuthType;
 import dingdong.dingdong.service.rating.RatingType;
-import java.time.LocalDateTime;
 import java.util.Map;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -52,7 +50,6 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders;
 import org.springframework.restdocs.payload.JsonFieldType;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -68,14 +65,11 @@ class RatingControllerTest {
     @Autowired
     ObjectMapper objectMapper;
 
-    @Autowired
-    PasswordEncoder passwordEncoder;
-
     @Autowired
     AuthService authService;
 
     @Autowired
-    AuthRepository authRepository;
+    RedisOtpRepository redisOtpRepository;
 
     @Autowired
     ProfileRepository profileRepository;
@@ -111,18 +105,7 @@ class RatingControllerTest {
         Long id1 = 1L;
         String phone1 = "01012345678";
         String authNumber = "123456";
-        String requestId = "testRequestId";
-        LocalDateTime requestTime = LocalDateTime.now();
-        Auth auth = Auth.builder()
-            .id(id1)
-            .phone(phone1)
-            .authNumber(passwordEncoder.encode(authNumber))
-            .requestId(requestId)
-            .requestTime(requestTime)
-            .attemptCount(0)
-            .build();
-
-        authRepository.save(auth);
+        redisOtpRepository.save(phone1, authNumber);
 
         User user1 = User.builder()
             .id(id1)
@@ -0,0 +1,139 @@
+package dingdong.dingdong.domain.user;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import redis.embedded.RedisServer;
+
+class RedisOtpRepositoryTest {
+
+    private static final int REDIS_PORT = 16382;
+    private static final String PHONE = "01012345678";
+    private static final String OTP_KEY = "otp:{" + PHONE + "}";
+    private static final String COOL_TIME_KEY = "otp:cool:{" + PHONE + "}";
+
+    private static RedisServer redisServer;
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate stringRedisTemplate;
+
+    private RedisOtpRepository redisOtpRepository;
+
+    @BeforeAll
+    static void startRedis() {
+        redisServer = new RedisServer(REDIS_PORT);
+        redisServer.start();
+        connectionFactory = new LettuceConnectionFactory("localhost", REDIS_PORT);
+        connectionFactory.afterPropertiesSet();
+        stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void stopRedis() {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisOtpRepository = new RedisOtpRepository(stringRedisTemplate, "otp-test-secret");
+    }
+
+    @AfterEach
+    void tearDown() {
+        stringRedisTemplate.delete(List.of(OTP_KEY, COOL_TIME_KEY));
+    }
+
+    @Test
+    @DisplayName("인증 번호는 원문 대신 HMAC 값으로 저장")
+    void saveHashed() {
+        redisOtpRepository.save(PHONE, "123456");
+
+        Object stored = stringRedisTemplate.opsForHash().get(OTP_KEY, "h");
+        assertThat(stored).isNotNull().isNotEqualTo("123456");
+        assertThat(stringRedisTemplate.getExpire(OTP_KEY, TimeUnit.SECONDS)).isPositive();
+    }
+
+    @Test
+    @DisplayName("인증에 성공하면 인증 번호를 삭제하여 다시 사용할 수 없음")
+    void verifyDeletes() {
+        redisOtpRepository.save(PHONE, "123456");
+
+        RedisOtpRepository.Result result = redisOtpRepository.verify(PHONE, "123456");
+
+        assertThat(result.getStatus()).isEqualTo(RedisOtpRepository.VERIFIED);
+        assertThat(stringRedisTemplate.hasKey(OTP_KEY)).isFalse();
+        assertThat(redisOtpRepository.verify(PHONE, "123456").getStatus())
+            .isEqualTo(RedisOtpRepository.NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("틀릴 때마다 시도 횟수가 늘고, 5번을 넘으면 인증 번호를 삭제하고 쿨타임 설정")
+    void attemptLimit() {
+        redisOtpRepository.save(PHONE, "123456");
+
+        for (int i = 1; i <= 5; i++) {
+            RedisOtpRepository.Result result = redisOtpRepository.verify(PHONE, "000000");
+            assertThat(result.getStatus()).isEqualTo(RedisOtpRepository.MISMATCH);
+            assertThat(result.getAttemptCount()).isEqualTo(i);
+        }
+        RedisOtpRepository.Result limited = redisOtpRepository.verify(PHONE, "000000");
+
+        assertThat(limited.getStatus()).isEqualTo(RedisOtpRepository.ATTEMPT_LIMIT);
+        assertThat(limited.getAttemptCount()).isEqualTo(6);
+        assertThat(stringRedisTemplate.hasKey(OTP_KEY)).isFalse();
+        assertThat(stringRedisTemplate.getExpire(COOL_TIME_KEY, TimeUnit.SECONDS))
+            .isBetween(1L, 300L);
+    }
+
+    @Test
+    @DisplayName("쿨타임 동안에는 새 인증 번호를 받아도 맞는 번호로 인증할 수 없음")
+    void coolTime() {
+        redisOtpRepository.save(PHONE, "123456");
+        for (int i = 0; i < 6; i++) {
+            redisOtpRepository.verify(PHONE, "000000");
+        }
+
+        redisOtpRepository.save(PHONE, "654321");
+
+        assertThat(redisOtpRepository.verify(PHONE, "654321").getStatus())
+            .isEqualTo(RedisOtpRepository.COOL_TIME);
+        assertThat(stringRedisTemplate.hasKey(OTP_KEY)).isTrue();
+
+        // 쿨타임이 끝나면 마지막으로 받은 번호로 인증
+        stringRedisTemplate.delete(COOL_TIME_KEY);
+        assertThat(redisOtpRepository.verify(PHONE, "654321").getStatus())
+            .isEqualTo(RedisOtpRepository.VERIFIED);
+    }
+
+    @Test
+    @DisplayName("새 인증 번호를 받으면 시도 횟수 초기화")
+    void saveResetsAttempts() {
+        redisOtpRepository.save(PHONE, "123456");
+        redisOtpRepository.verify(PHONE, "000000");
+        redisOtpRepository.verify(PHONE, "000000");
+
+        redisOtpRepository.save(PHONE, "654321");
+
+        assertThat(redisOtpRepository.verify(PHONE, "000000").getAttemptCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("유효 시간(5분)이 지난 인증 번호는 시간 초과")
+    void timeOut() {
+        redisOtpRepository.save(PHONE, "123456");
+        stringRedisTemplate.opsForHash().put(OTP_KEY, "t",
+            String.valueOf(System.currentTimeMillis() - TimeUnit.MINUTES.toMillis(6)));
+
+        assertThat(redisOtpRepository.verify(PHONE, "123456").getStatus())
+            .isEqualTo(RedisOtpRepository.TIME_OUT);
+    }
+}
@@ -0,0 +1,378 @@
+package dingdong.dingdong.loadtest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dingdong.dingdong.config.TokenProvider;
+import dingdong.dingdong.domain.chat.ChatJoin;
+import dingdong.dingdong.domain.chat.ChatJoinRepository;
+import dingdong.dingdong.domain.chat.ChatRoom;
+import dingdong.dingdong.domain.chat.ChatRoomRepository;
+import dingdong.dingdong.domain.chat.MessageType;
+import dingdong.dingdong.domain.chat.RedisChatMessage;
+import dingdong.dingdong.domain.post.Post;
+import dingdong.dingdong.domain.post.PostRepository;
+import dingdong.dingdong.domain.user.Profile;
+import dingdong.dingdong.domain.user.ProfileRepository;
+import dingdong.dingdong.domain.user.Role;
+import dingdong.dingdong.domain.user.User;
+import dingdong.dingdong.domain.user.UserPrincipal;
+import dingdong.dingdong.domain.user.UserRepository;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.boot.web.server.LocalServerPort;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+import org.springframework.web.socket.sockjs.client.SockJsClient;
+import org.springframework.web.socket.sockjs.client.WebSocketTransport;
+import redis.embedded.RedisServer;
+
+/**
+ * 채팅 부하 테스트
+ * 내장 Redis 와 H2 로 서버를 띄우고, 다수의 STOMP 세션을 /ws-stomp 에 연결하여 채팅 전송 후
+ * 전달 지연시간(p50/p99), 초당 메시지 수, 세션당 메모리를 측정한다.
+ * ./gradlew loadTest -Dloadtest.sessions=2000 -Dloadtest.rooms=100 -Dloadtest.rate=1000 -Dloadtest.duration=30
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT, properties = {
+    "spring.datasource.url=jdbc:h2:mem:loadtest;MODE=MySQL;DB_CLOSE_DELAY=-1",
+    "spring.datasource.driver-class-name=org.h2.Driver",
+    "spring.datasource.username=sa",
+    "spring.datasource.password=",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.redis.host=localhost",
+    "spring.quartz.job-store-type=memory",
+    "rate-limit.enabled=false",
+    "jwt.secret=ZGluZ2RvbmctbG9hZC10ZXN0LXNlY3JldC1rZXktZGluZ2RvbmctbG9hZC10ZXN0LXNlY3JldC1rZXktZGluZ2RvbmctbG9hZC10ZXN0",
+    "cloud.aws.credentials.access-key=loadtest",
+    "cloud.aws.credentials.secret-key=loadtest",
+    "cloud.aws.region.static=ap-northeast-2",
+    "cloud.aws.s3.bucket=loadtest",
+    "application-naver-sens.send-from=01000000000",
+    "application-naver-sens.access-key=loadtest",
+    "application-naver-sens.secret-key=loadtest",
+    "application-naver-sens.service-id=loadtest"
+})
+class ChatLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ChatLoadTest.class);
+
+    private static final int SESSIONS = Integer.getInteger("loadtest.sessions", 1000);
+    private static final int ROOMS = Integer.getInteger("loadtest.rooms", 50);
+    private static final int RATE = Integer.getInteger("loadtest.rate", 500);
+    private static final int DURATION_SECONDS = Integer.getInteger("loadtest.duration", 30);
+    private static final int REDIS_PORT = Integer.getInteger("loadtest.redis.port", 16379);
+
+    private static final RedisServer redisServer;
+
+    static {
+        redisServer = new RedisServer(REDIS_PORT);
+        redisServer.start();
+    }
+
+    @DynamicPropertySource
+    static void redisProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.redis.port", () -> REDIS_PORT);
+    }
+
+    @AfterAll
+    static void stopRedis() {
+        redisServer.stop();
+    }
+
+    @LocalServerPort
+    int port;
+
+    @Autowired
+    TokenProvider tokenProvider;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    ProfileRepository profileRepository;
+
+    @Autowired
+    PostRepository postRepository;
+
+    @Autowired
+    ChatRoomRepository chatRoomRepository;
+
+    @Autowired
+    ChatJoinRepository chatJoinRepository;
+
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder delivered = new LongAdder();
+
+    @Test
+    @DisplayName("채팅 전송 부하 테스트")
+    void chatLoad() throws Exception {
+        User admin = createUser("00000000000", "띵-동");
+        List<ChatRoom> rooms = createRooms(admin);
+        List<User> users = new ArrayList<>();
+        List<ChatJoin> joins = new ArrayList<>();
+        for (int i = 0; i < SESSIONS; i++) {
+            User user = createUser(String.format("010%08d", i), "loadtest" + i);
+            users.add(user);
+            // 실제 채팅처럼 참여한 채팅방에서만 전송
+            joins.add(ChatJoin.builder()
+                .chatRoom(rooms.get(i % rooms.size()))
+                .user(user)
+                .build());
+        }
+        chatJoinRepository.saveAll(joins);
+
+        WebSocketStompClient stompClient = stompClient();
+        long heapBefore = usedHeap();
+
+        // 세션 연결 및 채팅방 구독
+        List<ClientSession> sessions = new ArrayList<>();
+        for (int i = 0; i < SESSIONS; i++) {
+            Long roomId = rooms.get(i % rooms.size()).getId();
+            sessions.add(connect(stompClient, users.get(i), roomId));
+        }
+        long heapAfter = usedHeap();
+
+        // 부하 전송
+        ScheduledExecutorService sender = Executors.newScheduledThreadPool(4);
+        long periodMicros = Math.max(1, 1_000_000L / RATE);
+        sender.scheduleAtFixedRate(() -> {
+            ClientSession session = sessions
+                .get(ThreadLocalRandom.current().nextInt(sessions.size()));
+            session.send(String.valueOf(System.nanoTime()));
+            sent.increment();
+        }, 0, periodMicros, TimeUnit.MICROSECONDS);
+
+        long started = System.nanoTime();
+        TimeUnit.SECONDS.sleep(DURATION_SECONDS);
+        sender.shutdownNow();
+        // 전송 중인 메시지가 모두 전달될 때까지 잠시 대기
+        TimeUnit.SECONDS.sleep(2);
+        double elapsedSeconds = (System.nanoTime() - started) / 1_000_000_000.0;
+
+        sessions.forEach(ClientSession::disconnect);
+        stompClient.stop();
+
+        log.info("========== 채팅 부하 테스트 결과 ==========");
+        log.info("세션 수 : {}, 채팅방 수 : {}, 목표 전송률 : {} msg/s, 시간 : {}s",
+            SESSIONS, ROOMS, RATE, DURATION_SECONDS);
+        log.info("전송 : {} msg ({} msg/s)", sent.sum(),
+            String.format("%.1f", sent.sum() / elapsedSeconds));
+        log.info("전달 : {} msg ({} msg/s)", delivered.sum(),
+            String.format("%.1f", delivered.sum() / elapsedSeconds));
+        log.info("전달 지연시간 p50 : {} ms, p99 : {} ms, max : {} ms",
+            latency.percentile(50) / 1000.0, latency.percentile(99) / 1000.0,
+            latency.max() / 1000.0);
+        log.info("세션당 메모리(클라이언트+서버) : {} KB",
+            (heapAfter - heapBefore) / SESSIONS / 1024);
+
+        assertThat(delivered.sum()).isPositive();
+    }
+
+    private User createUser(String phone, String nickname) {
+        User user = User.builder()
+            .phone(phone)
+            .authority(Role.REGULAR)
+            .build();
+        userRepository.save(user);
+        Profile profile = Profile.builder()
+            .id(user.getId())
+            .user(user)
+            .nickname(nickname)
+            .build();
+        profileRepository.save(profile);
+        return user;
+    }
+
+    private List<ChatRoom> createRooms(User owner) {
+        List<ChatRoom> rooms = new ArrayList<>();
+        for (int i = 0; i < ROOMS; i++) {
+            Post post = Post.builder()
+                .user(owner)
+                .title("load test " + i)
+                .people(SESSIONS)
+                .cost(0)
+                .build();
+            postRepository.save(post);
+            ChatRoom chatRoom = ChatRoom.builder()
+                .id(post.getId())
+                .post(post)
+                .build();
+            chatRoomRepository.save(chatRoom);
+            rooms.add(chatRoom);
+        }
+        return rooms;
+    }
+
+    private WebSocketStompClient stompClient() {
+        SockJsClient sockJsClient = new SockJsClient(
+            List.of(new WebSocketTransport(new StandardWebSocketClient())));
+        WebSocketStompClient stompClient = new WebSocketStompClient(sockJsClient);
+        stompClient.setMessageConverter(new MappingJackson2MessageConverter());
+
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(4);
+        scheduler.initialize();
+        stompClient.setTaskScheduler(scheduler);
+        return stompClient;
+    }
+
+    private ClientSession connect(WebSocketStompClient stompClient, User user, Long roomId)
+        throws Exception {
+        // 로그인과 같이 회원 id(uid 클레임)를 포함한 토큰 발급
+        List<GrantedAuthority> authorities =
+            List.of(new SimpleGrantedAuthority(Role.REGULAR.name()));
+        String token = "Bearer " + tokenProvider.generateTokenDto(
+            new UsernamePasswordAuthenticationToken(new UserPrincipal(user.getId(),
+                user.getPhone(), authorities, null, 0L, 0L), "", authorities)).getAccessToken();
+
+        StompHeaders connectHeaders = new StompHeaders();
+        connectHeaders.add("Authorization", token);
+
+        StompSession session = stompClient
+            .connect("ws://localhost:" + port + "/ws-stomp", new WebSocketHttpHeaders(),
+                connectHeaders, new StompSessionHandlerAdapter() {
+                })
+            .get(10, TimeUnit.SECONDS);
+
+        CountDownLatch subscribed = new CountDownLatch(1);
+        StompHeaders subscribeHeaders = new StompHeaders();
+        subscribeHeaders.setDestination("/topic/chat/room/" + roomId);
+        subscribeHeaders.setReceipt("subscribed");
+        session.setAutoReceipt(true);
+        session.subscribe(subscribeHeaders, new StompFrameHandler() {
+            @Override
+            public Type getPayloadType(StompHeaders headers) {
+                return RedisChatMessage.class;
+            }
+
+            @Override
+            public void handleFrame(StompHeaders headers, Object payload) {
+                onMessage((RedisChatMessage) payload);
+            }
+        }).addReceiptTask(subscribed::countDown);
+        assertThat(subscribed.await(10, TimeUnit.SECONDS))
+            .as("채팅방 %d 구독 확인 (receipt)", roomId).isTrue();
+
+        return new ClientSession(session, token, roomId);
+    }
+
+    private void onMessage(RedisChatMessage message) {
+        if (message.getType() != MessageType.TALK) {
+            return;
+        }
+        try {
+            long sentAt = Long.parseLong(message.getMessage());
+            latency.record((System.nanoTime() - sentAt) / 1000);
+            delivered.increment();
+        } catch (NumberFormatException ignored) {
+            // 부하 테스트 외 메시지
+        }
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static class ClientSession {
+
+        private final StompSession session;
+        private final StompHeaders sendHeaders = new StompHeaders();
+        private final Long roomId;
+
+        ClientSession(StompSession session, String token, Long roomId) {
+            this.session = session;
+            this.roomId = roomId;
+            sendHeaders.setDestination("/pub/chat/message");
+            sendHeaders.add("Authorization", token);
+        }
+
+        void send(String message) {
+            session.send(sendHeaders, RedisChatMessage.builder()
+                .roomId(roomId)
+                .type(MessageType.TALK)
+                .message(message)
+                .build());
+        }
+
+        void disconnect() {
+            if (session.isConnected()) {
+                session.disconnect();
+            }
+        }
+    }
+
+    /**
+     * 100us 단위 버킷의 지연시간 히스토그램 (최대 10초)
+     */
+    private static class LatencyHistogram {
+
+        private static final int BUCKET_MICROS = 100;
+        private static final int BUCKETS = 100_000;
+
+        private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+        private final LongAdder count = new LongAdder();
+        private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+        void record(long micros) {
+            int bucket = (int) Math.min(BUCKETS - 1, Math.max(0, micros / BUCKET_MICROS));
+            buckets.incrementAndGet(bucket);
+            count.increment();
+            max.accumulate(micros);
+        }
+
+        long percentile(double percentile) {
+            long total = count.sum();
+            if (total == 0) {
+                return 0;
+            }
+            long target = (long) Math.ceil(total * percentile / 100.0);
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += buckets.get(i);
+                if (seen >= target) {
+                    return (long) (i + 1) * BUCKET_MICROS;
+                }
+            }
+            return (long) BUCKETS * BUCKET_MICROS;
+        }
+
+        long max() {
+            return max.get();
+        }
+    }
+}
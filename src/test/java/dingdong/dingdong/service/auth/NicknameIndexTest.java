@@ -0,0 +1,101 @@
+package dingdong.dingdong.service.auth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import dingdong.dingdong.domain.user.ProfileRepository;
+import java.util.List;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import redis.embedded.RedisServer;
+
+class NicknameIndexTest {
+
+    private static final int REDIS_PORT = 16381;
+
+    private static RedisServer redisServer;
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate stringRedisTemplate;
+
+    private ProfileRepository profileRepository;
+    private NicknameIndex nicknameIndex;
+
+    @BeforeAll
+    static void startRedis() {
+        redisServer = new RedisServer(REDIS_PORT);
+        redisServer.start();
+        connectionFactory = new LettuceConnectionFactory("localhost", REDIS_PORT);
+        connectionFactory.afterPropertiesSet();
+        stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void stopRedis() {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        profileRepository = mock(ProfileRepository.class);
+        nicknameIndex = new NicknameIndex(stringRedisTemplate, profileRepository,
+            mock(NicknameConstraintCheck.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        stringRedisTemplate.delete(List.of("nickname:index", "nickname:index:loaded",
+            "nickname:index:lock", "nickname:index:released"));
+    }
+
+    @Test
+    @DisplayName("기존 닉네임을 불러온 후에는 Redis 목록으로 확인")
+    void load() {
+        when(profileRepository.findNicknamesAfter(anyLong(), any()))
+            .thenReturn(List.<Object[]>of(new Object[]{1L, "before"}));
+
+        nicknameIndex.init();
+
+        assertThat(nicknameIndex.isAvailable("before")).isFalse();
+        assertThat(nicknameIndex.isAvailable("after")).isTrue();
+    }
+
+    @Test
+    @DisplayName("불러오는 중에 해제된 닉네임은 목록에 다시 남지 않음")
+    void releaseDuringLoad() {
+        when(profileRepository.findNicknamesAfter(anyLong(), any())).thenAnswer(invocation -> {
+            // "before" 를 읽은 직후 회원이 닉네임을 변경하고 커밋
+            nicknameIndex.release("before");
+            return List.<Object[]>of(new Object[]{1L, "before"}, new Object[]{2L, "kept"});
+        });
+        when(profileRepository.existsByNickname("before")).thenReturn(false);
+
+        nicknameIndex.init();
+
+        assertThat(nicknameIndex.isAvailable("before")).isTrue();
+        assertThat(nicknameIndex.isAvailable("kept")).isFalse();
+    }
+
+    @Test
+    @DisplayName("불러오는 중에 해제되었지만 다시 사용 중인 닉네임은 유지")
+    void releaseAndReuseDuringLoad() {
+        when(profileRepository.findNicknamesAfter(anyLong(), any())).thenAnswer(invocation -> {
+            nicknameIndex.release("before");
+            return List.<Object[]>of(new Object[]{1L, "before"});
+        });
+        when(profileRepository.existsByNickname("before")).thenReturn(true);
+
+        nicknameIndex.init();
+
+        assertThat(nicknameIndex.isAvailable("before")).isFalse();
+    }
+}
@@ -0,0 +1,81 @@
+package dingdong.dingdong.service.auth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import dingdong.dingdong.domain.user.BlackListRepository;
+import dingdong.dingdong.domain.user.Role;
+import dingdong.dingdong.domain.user.UserRepository;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+class PhoneFilterTest {
+
+    private final BlackListRepository blackListRepository = mock(BlackListRepository.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final StringRedisTemplate stringRedisTemplate = mock(StringRedisTemplate.class);
+    private final PhoneFilter phoneFilter = new PhoneFilter(blackListRepository, userRepository,
+        stringRedisTemplate, 1000, 0.01);
+
+    @DisplayName("불러오기 전에는 DB 로 확인")
+    @Test
+    void beforeLoad() {
+        when(blackListRepository.existsById("01000000001")).thenReturn(true);
+
+        assertThat(phoneFilter.isBlackListed("01000000001")).isTrue();
+        assertThat(phoneFilter.mightBeUnsubscribed("01000000002")).isTrue();
+    }
+
+    @DisplayName("불러온 후에는 DB 를 조회하지 않고 메모리에서 확인")
+    @Test
+    void afterLoad() {
+        when(blackListRepository.findAllPhones()).thenReturn(List.of("01000000001"));
+        when(userRepository.findPhonesByAuthority(Role.UNSUB)).thenReturn(List.of("01000000002"));
+
+        phoneFilter.rebuild();
+
+        assertThat(phoneFilter.isBlackListed("01000000001")).isTrue();
+        assertThat(phoneFilter.isBlackListed("01000000003")).isFalse();
+        assertThat(phoneFilter.mightBeUnsubscribed("01000000002")).isTrue();
+        verify(blackListRepository, never()).existsById(anyString());
+    }
+
+    @DisplayName("블랙리스트 등록, 탈퇴는 바로 반영하고 다른 서버에 전달")
+    @Test
+    void add() {
+        phoneFilter.rebuild();
+
+        phoneFilter.addBlackList("01000000001");
+        phoneFilter.addUnsubscribed("01000000002");
+
+        assertThat(phoneFilter.isBlackListed("01000000001")).isTrue();
+        assertThat(phoneFilter.mightBeUnsubscribed("01000000002")).isTrue();
+        verify(stringRedisTemplate).convertAndSend(PhoneFilter.TOPIC.getTopic(), "b:01000000001");
+        verify(stringRedisTemplate).convertAndSend(PhoneFilter.TOPIC.getTopic(), "u:01000000002");
+    }
+
+    @DisplayName("다시 만드는 동안 받은 변경도 새 목록에 반영")
+    @Test
+    void changeDuringRebuild() {
+        phoneFilter.rebuild();
+        when(blackListRepository.findAllPhones()).thenAnswer(invocation -> {
+            phoneFilter.onInvalidate("b:01000000001");
+            return List.of();
+        });
+        when(userRepository.findPhonesByAuthority(Role.UNSUB)).thenAnswer(invocation -> {
+            phoneFilter.onInvalidate("u:01000000002");
+            return List.of();
+        });
+
+        phoneFilter.rebuild();
+
+        assertThat(phoneFilter.isBlackListed("01000000001")).isTrue();
+        assertThat(phoneFilter.mightBeUnsubscribed("01000000002")).isTrue();
+    }
+}
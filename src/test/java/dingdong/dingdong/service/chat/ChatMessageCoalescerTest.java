@@ -0,0 +1,76 @@
+package dingdong.dingdong.service.chat;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import dingdong.dingdong.domain.chat.RedisChatMessage;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+
+class ChatMessageCoalescerTest {
+
+    private static final String ROOM = ChatMessageCoalescer.ROOM_DESTINATION + 1;
+    private static final String BATCH = ROOM + ChatMessageCoalescer.BATCH_SUFFIX;
+
+    private SimpMessageSendingOperations messagingTemplate;
+    private BatchSubscriptionRegistry batchSubscriptionRegistry;
+    private ChatMessageCoalescer chatMessageCoalescer;
+
+    @BeforeEach
+    void setUp() {
+        messagingTemplate = mock(SimpMessageSendingOperations.class);
+        batchSubscriptionRegistry = new BatchSubscriptionRegistry();
+        chatMessageCoalescer = new ChatMessageCoalescer(messagingTemplate,
+            batchSubscriptionRegistry, 20, 50, 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        chatMessageCoalescer.shutdown();
+    }
+
+    @Test
+    @DisplayName("묶음 구독자가 없는 채팅방은 메시지를 모으지 않음")
+    void publishWithoutBatchSubscriber() {
+        RedisChatMessage message = RedisChatMessage.builder().roomId(1L).message("hi").build();
+
+        chatMessageCoalescer.publish(1L, message);
+        chatMessageCoalescer.shutdown();
+
+        verify(messagingTemplate).convertAndSend(ROOM, message);
+        verify(messagingTemplate, never()).convertAndSend(eq(BATCH), any(Object.class));
+    }
+
+    @Test
+    @DisplayName("묶음 구독자가 있으면 묶음 destination 으로도 전송")
+    void publishWithBatchSubscriber() {
+        batchSubscriptionRegistry.subscribe("session", "sub-0", 1L);
+        RedisChatMessage message = RedisChatMessage.builder().roomId(1L).message("hi").build();
+
+        chatMessageCoalescer.publish(1L, message);
+
+        verify(messagingTemplate).convertAndSend(ROOM, message);
+        verify(messagingTemplate).convertAndSend(BATCH, List.of(message));
+    }
+
+    @Test
+    @DisplayName("구독 해제, 연결 종료 시 묶음 구독 수 감소")
+    void unsubscribeAndDisconnect() {
+        batchSubscriptionRegistry.subscribe("session1", "sub-0", 1L);
+        batchSubscriptionRegistry.subscribe("session2", "sub-0", 1L);
+
+        batchSubscriptionRegistry.unsubscribe("session1", "sub-0");
+        assertThat(batchSubscriptionRegistry.hasSubscribers(1L)).isTrue();
+
+        batchSubscriptionRegistry.disconnect("session2");
+        assertThat(batchSubscriptionRegistry.hasSubscribers(1L)).isFalse();
+    }
+}
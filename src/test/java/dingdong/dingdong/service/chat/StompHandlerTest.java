@@ -0,0 +1,70 @@
+package dingdong.dingdong.service.chat;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import dingdong.dingdong.config.TokenProvider;
+import dingdong.dingdong.service.auth.TokenRevocationList;
+import dingdong.dingdong.service.ratelimit.RateLimitPolicy;
+import dingdong.dingdong.service.ratelimit.RateLimiter;
+import dingdong.dingdong.util.exception.Result;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+
+class StompHandlerTest {
+
+    private final RateLimiter rateLimiter = mock(RateLimiter.class);
+    private final SimpMessageSendingOperations messagingTemplate =
+        mock(SimpMessageSendingOperations.class);
+    private final StompHandler stompHandler;
+
+    @SuppressWarnings("unchecked")
+    StompHandlerTest() {
+        ObjectProvider<SimpMessageSendingOperations> provider = mock(ObjectProvider.class);
+        when(provider.getObject()).thenReturn(messagingTemplate);
+        stompHandler = new StompHandler(mock(TokenProvider.class),
+            mock(TokenRevocationList.class), rateLimiter, mock(BatchSubscriptionRegistry.class),
+            provider);
+    }
+
+    @Test
+    @DisplayName("전송 제한 이내의 메시지는 그대로 전달")
+    void sendAllowed() {
+        when(rateLimiter.tryAcquire(RateLimitPolicy.CHAT_MESSAGE, "1")).thenReturn(true);
+        Message<?> message = send("1");
+
+        assertThat(stompHandler.preSend(message, mock(MessageChannel.class))).isSameAs(message);
+        verifyNoInteractions(messagingTemplate);
+    }
+
+    @Test
+    @DisplayName("전송 제한을 넘은 메시지만 버리고 보낸 회원에게 에러를 알림 (연결은 유지)")
+    void sendRejected() {
+        when(rateLimiter.tryAcquire(RateLimitPolicy.CHAT_MESSAGE, "1")).thenReturn(false);
+
+        assertThat(stompHandler.preSend(send("1"), mock(MessageChannel.class))).isNull();
+        verify(messagingTemplate).convertAndSendToUser(eq("1"),
+            eq(StompHandler.ERROR_DESTINATION), any(Result.class));
+    }
+
+    private static Message<byte[]> send(String userId) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SEND);
+        accessor.setSessionId("session");
+        accessor.setDestination("/pub/chat/message");
+        accessor.setUser(new UsernamePasswordAuthenticationToken(userId, null));
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
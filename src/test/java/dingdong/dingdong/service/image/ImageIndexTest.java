@@ -0,0 +1,172 @@
+package dingdong.dingdong.service.image;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dingdong.dingdong.domain.image.ImageObject;
+import dingdong.dingdong.domain.image.ImageObjectRepository;
+import dingdong.dingdong.domain.image.ImageTombstone;
+import dingdong.dingdong.domain.image.ImageTombstoneRepository;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import javax.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// 참조 해제는 새 트랜잭션이나 커밋 후 콜백에서 실행되므로 실제로 커밋하고 직접 정리한다
+@SpringBootTest
+class ImageIndexTest {
+
+    private static final String HASH = "0123456789abcdef";
+    private static final String BUCKET_URL = "https://dingdongbucket.s3.ap-northeast-2.amazonaws.com/";
+
+    @Autowired
+    ImageService imageService;
+
+    @Autowired
+    ImageIndex imageIndex;
+
+    @Autowired
+    ImageObjectRepository imageObjectRepository;
+
+    @Autowired
+    ImageTombstoneRepository imageTombstoneRepository;
+
+    @Autowired
+    EntityManager entityManager;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    List<String> keys = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        for (String key : keys) {
+            jdbcTemplate.update("delete from image_tombstone where object_key = ?", key);
+            jdbcTemplate.update("delete from image_object where object_key = ?", key);
+        }
+    }
+
+    @Test
+    @DisplayName("등록한 이미지는 같은 원본, 같은 크기로 참조하면 참조 수가 늘어남")
+    void acquire() {
+        String key = newKey();
+        imageIndex.register(HASH, ImageVariant.DETAIL, key, 100L);
+
+        assertThat(imageIndex.acquire(HASH, ImageVariant.DETAIL)).isEqualTo(key);
+        assertThat(imageIndex.acquire(HASH, ImageVariant.THUMBNAIL)).isNull();
+        assertThat(imageIndex.acquire("unknown", ImageVariant.DETAIL)).isNull();
+        assertThat(refCount(key)).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("참조가 남아 있으면 색인에 유지하고, 모두 해제되면 색인에서 지우고 삭제 대기 목록에 기록")
+    void release() {
+        String key = newKey();
+        imageIndex.register(HASH, ImageVariant.DETAIL, key, 100L);
+        imageIndex.acquire(HASH, ImageVariant.DETAIL);
+
+        imageIndex.release(key);
+
+        assertThat(refCount(key)).isEqualTo(1L);
+        assertThat(tombstoneKeys()).doesNotContain(key);
+
+        imageIndex.release(key);
+
+        assertThat(imageIndex.isReferenced(key)).isFalse();
+        assertThat(imageIndex.acquire(HASH, ImageVariant.DETAIL)).isNull();
+        assertThat(tombstoneKeys()).containsOnlyOnce(key);
+    }
+
+    @Test
+    @DisplayName("이미 해제된 이미지를 다시 해제해도 참조 수가 음수가 되거나 중복 기록되지 않음")
+    void releaseTwice() {
+        String key = newKey();
+        imageIndex.register(HASH, ImageVariant.DETAIL, key, 100L);
+
+        imageIndex.release(key);
+        imageIndex.release(key);
+
+        assertThat(tombstoneKeys()).containsOnlyOnce(key);
+    }
+
+    @Test
+    @DisplayName("삭제된 이미지를 다시 올리면 새 key 로 등록되어 삭제 대기 중인 객체와 겹치지 않음")
+    void registerAfterRelease() {
+        String key = newKey();
+        imageIndex.register(HASH, ImageVariant.DETAIL, key, 100L);
+        imageIndex.release(key);
+
+        String newKey = newKey();
+        imageIndex.register(HASH, ImageVariant.DETAIL, newKey, 100L);
+
+        assertThat(newKey).isNotEqualTo(key);
+        assertThat(imageIndex.acquire(HASH, ImageVariant.DETAIL)).isEqualTo(newKey);
+        assertThat(imageIndex.isReferenced(key)).isFalse();
+    }
+
+    @Test
+    @DisplayName("커밋된 트랜잭션에서 해제한 이미지는 커밋 후 색인에서 지우고 삭제 대기 목록에 기록")
+    void releaseAfterCommit() {
+        String key = newKey();
+        imageIndex.register(HASH, ImageVariant.DETAIL, key, 100L);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            imageService.release(BUCKET_URL + key);
+            // 커밋 전에는 반영되지 않음
+            assertThat(imageIndex.isReferenced(key)).isTrue();
+        });
+
+        assertThat(imageIndex.isReferenced(key)).isFalse();
+        assertThat(tombstoneKeys()).containsOnlyOnce(key);
+    }
+
+    @Test
+    @DisplayName("롤백된 트랜잭션에서 해제한 이미지는 그대로 유지")
+    void releaseRollback() {
+        String key = newKey();
+        imageIndex.register(HASH, ImageVariant.DETAIL, key, 100L);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            imageService.release(BUCKET_URL + key);
+            status.setRollbackOnly();
+        });
+
+        assertThat(imageIndex.isReferenced(key)).isTrue();
+        assertThat(tombstoneKeys()).doesNotContain(key);
+    }
+
+    private String newKey() {
+        String key = ImageService.newKey(HASH, ImageVariant.DETAIL);
+        keys.add(key);
+        return key;
+    }
+
+    private Long refCount(String key) {
+        // 참조 수는 DB 에서 직접 변경되므로 다시 조회
+        entityManager.clear();
+        return imageObjectRepository.findAll().stream()
+            .filter(imageObject -> imageObject.getObjectKey().equals(key))
+            .map(ImageObject::getRefCount)
+            .findFirst()
+            .orElse(null);
+    }
+
+    private List<String> tombstoneKeys() {
+        return imageTombstoneRepository
+            .findExpired(LocalDateTime.now().plusMinutes(1), PageRequest.of(0, 100)).stream()
+            .map(ImageTombstone::getObjectKey)
+            .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,126 @@
+package dingdong.dingdong.service.image;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import dingdong.dingdong.util.exception.LimitException;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import javax.imageio.ImageIO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ImageProcessorTest {
+
+    private final ImageProcessor imageProcessor = new ImageProcessor(4_000_000, 0.85f);
+
+    @DisplayName("정사각형 변환은 가운데를 잘라 지정 크기로 줄임")
+    @Test
+    void resizeSquare() throws IOException {
+        BufferedImage source = imageProcessor.decode(png(800, 400));
+
+        BufferedImage avatar = imageProcessor.resize(source, ImageVariant.AVATAR);
+
+        assertThat(avatar.getWidth()).isEqualTo(128);
+        assertThat(avatar.getHeight()).isEqualTo(128);
+    }
+
+    @DisplayName("비율 유지 변환은 긴 변 기준으로 줄이고 작은 이미지는 키우지 않음")
+    @Test
+    void resizeKeepRatio() throws IOException {
+        BufferedImage source = imageProcessor.decode(png(800, 400));
+
+        BufferedImage thumbnail = imageProcessor.resize(source, ImageVariant.THUMBNAIL);
+        BufferedImage detail = imageProcessor.resize(source, ImageVariant.DETAIL);
+
+        assertThat(thumbnail.getWidth()).isEqualTo(320);
+        assertThat(thumbnail.getHeight()).isEqualTo(160);
+        assertThat(detail.getWidth()).isEqualTo(800);
+        assertThat(detail.getHeight()).isEqualTo(400);
+    }
+
+    @DisplayName("JPEG 로 인코딩")
+    @Test
+    void render() throws IOException {
+        BufferedImage source = imageProcessor.decode(png(100, 100));
+
+        byte[] jpeg = imageProcessor.render(source, ImageVariant.AVATAR_SMALL);
+
+        assertThat(jpeg[0]).isEqualTo((byte) 0xFF);
+        assertThat(jpeg[1]).isEqualTo((byte) 0xD8);
+    }
+
+    @DisplayName("이미지가 아니거나 최대 픽셀 수를 넘으면 예외")
+    @Test
+    void decodeInvalid() throws IOException {
+        byte[] tooLarge = png(4000, 1001);
+
+        assertThatThrownBy(() -> imageProcessor.decode("not image".getBytes()))
+            .isInstanceOf(LimitException.class);
+        assertThatThrownBy(() -> imageProcessor.decode(tooLarge))
+            .isInstanceOf(LimitException.class);
+    }
+
+    @DisplayName("EXIF Orientation 대로 회전 후 변환")
+    @Test
+    void decodeOrientation() throws IOException {
+        byte[] rotated = withOrientation(jpeg(200, 100), 6);
+
+        BufferedImage source = imageProcessor.decode(rotated);
+
+        assertThat(ImageProcessor.orientation(rotated)).isEqualTo(6);
+        assertThat(source.getWidth()).isEqualTo(100);
+        assertThat(source.getHeight()).isEqualTo(200);
+        // 왼쪽 위의 빨간 점이 오른쪽 위로 이동
+        assertThat(new Color(source.getRGB(99, 0)).getRed()).isGreaterThan(200);
+    }
+
+    @DisplayName("EXIF 가 없는 이미지는 그대로 사용")
+    @Test
+    void decodeWithoutOrientation() throws IOException {
+        BufferedImage source = imageProcessor.decode(jpeg(200, 100));
+
+        assertThat(ImageProcessor.orientation(png(10, 10))).isEqualTo(1);
+        assertThat(source.getWidth()).isEqualTo(200);
+        assertThat(source.getHeight()).isEqualTo(100);
+    }
+
+    private static byte[] png(int width, int height) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB), "png", bytes);
+        return bytes.toByteArray();
+    }
+
+    // 왼쪽 위에 빨간 점이 있는 흰 JPEG
+    private static byte[] jpeg(int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setColor(Color.WHITE);
+        graphics.fillRect(0, 0, width, height);
+        graphics.setColor(Color.RED);
+        graphics.fillRect(0, 0, 10, 10);
+        graphics.dispose();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ImageIO.write(image, "jpeg", bytes);
+        return bytes.toByteArray();
+    }
+
+    // SOI 바로 뒤에 Orientation 만 있는 EXIF(APP1, big endian) 추가
+    private static byte[] withOrientation(byte[] jpeg, int orientation) {
+        byte[] app1 = {
+            (byte) 0xFF, (byte) 0xE1, 0x00, 0x22,
+            'E', 'x', 'i', 'f', 0x00, 0x00,
+            'M', 'M', 0x00, 0x2A, 0x00, 0x00, 0x00, 0x08,
+            0x00, 0x01,
+            0x01, 0x12, 0x00, 0x03, 0x00, 0x00, 0x00, 0x01, 0x00, (byte) orientation, 0x00, 0x00,
+            0x00, 0x00, 0x00, 0x00};
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        bytes.write(jpeg, 0, 2);
+        bytes.write(app1, 0, app1.length);
+        bytes.write(jpeg, 2, jpeg.length - 2);
+        return bytes.toByteArray();
+    }
+}
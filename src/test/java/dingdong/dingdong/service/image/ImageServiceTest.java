@@ -0,0 +1,125 @@
+package dingdong.dingdong.service.image;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.amazonaws.services.s3.model.S3Object;
+import dingdong.dingdong.service.s3.S3Uploader;
+import dingdong.dingdong.util.exception.ForbiddenException;
+import dingdong.dingdong.util.exception.LimitException;
+import dingdong.dingdong.util.exception.ResourceNotFoundException;
+import java.io.ByteArrayInputStream;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ImageServiceTest {
+
+    private static final String BUCKET_URL = "https://dingdongbucket.s3.ap-northeast-2.amazonaws.com/";
+    private static final long MAX_UPLOAD_BYTES = 1024;
+
+    private final ImageIndex imageIndex = mock(ImageIndex.class);
+    private final S3Uploader s3Uploader = mock(S3Uploader.class);
+    private final ImageService imageService = new ImageService(
+        new ImageProcessor(4_000_000, 0.85f), imageIndex, s3Uploader, Runnable::run,
+        MAX_UPLOAD_BYTES, 600);
+
+    @DisplayName("업로드된 이미지 주소에서 S3 key 추출")
+    @Test
+    void keyOf() {
+        String key = ImageService.newKey("abc123", ImageVariant.DETAIL);
+
+        assertThat(ImageService.keyOf(BUCKET_URL + key)).isEqualTo(key);
+        assertThat(ImageService.keyOf(BUCKET_URL + "static/%EC%82%AC%EC%A7%84.jpg"))
+            .isEqualTo("static/사진.jpg");
+    }
+
+    @DisplayName("같은 원본, 같은 크기라도 객체마다 다른 key 사용")
+    @Test
+    void newKey() {
+        String key = ImageService.newKey("abc123", ImageVariant.DETAIL);
+
+        assertThat(key).startsWith("images/abc123/").endsWith(".jpg");
+        assertThat(ImageService.newKey("abc123", ImageVariant.DETAIL)).isNotEqualTo(key);
+    }
+
+    @DisplayName("기본 이미지와 업로드하지 않은 주소는 삭제 대상에서 제외")
+    @Test
+    void keyOfShared() {
+        assertThat(ImageService.keyOf(BUCKET_URL + "static/default_post.png")).isNull();
+        assertThat(ImageService.keyOf(BUCKET_URL + "static/default_profile.png")).isNull();
+        assertThat(ImageService.keyOf(BUCKET_URL + "other/file.jpg")).isNull();
+        assertThat(ImageService.keyOf(null)).isNull();
+    }
+
+    @DisplayName("발급한 형식의 본인 업로드 key 만 허용")
+    @Test
+    void isUploadKeyOf() {
+        String uuid = UUID.randomUUID().toString();
+
+        assertThat(ImageService.isUploadKeyOf(1L, "uploads/1/" + uuid)).isTrue();
+        assertThat(ImageService.isUploadKeyOf(1L, "uploads/11/" + uuid)).isFalse();
+        assertThat(ImageService.isUploadKeyOf(1L, "uploads/1/" + uuid + "/../2")).isFalse();
+        assertThat(ImageService.isUploadKeyOf(1L, "uploads/1/../2/" + uuid)).isFalse();
+        assertThat(ImageService.isUploadKeyOf(1L, "images/1/" + uuid)).isFalse();
+        assertThat(ImageService.isUploadKeyOf(1L, null)).isFalse();
+    }
+
+    @DisplayName("다른 회원이 업로드한 key 는 S3 에서 읽지 않고 거절")
+    @Test
+    void confirmForeignKey() {
+        String key = "uploads/2/" + UUID.randomUUID();
+
+        assertThatThrownBy(() -> imageService.confirm(1L, key, ImageVariant.AVATAR))
+            .isInstanceOf(ForbiddenException.class);
+        verifyNoInteractions(s3Uploader, imageIndex);
+    }
+
+    @DisplayName("업로드되지 않은 key 는 찾을 수 없음")
+    @Test
+    void confirmMissing() {
+        String key = "uploads/1/" + UUID.randomUUID();
+        when(s3Uploader.getObject(key)).thenReturn(null);
+
+        assertThatThrownBy(() -> imageService.confirm(1L, key, ImageVariant.AVATAR))
+            .isInstanceOf(ResourceNotFoundException.class);
+        verifyNoInteractions(imageIndex);
+    }
+
+    @DisplayName("최대 크기를 넘는 원본은 읽지 않고 거절")
+    @Test
+    void confirmOversize() {
+        String key = "uploads/1/" + UUID.randomUUID();
+        S3Object object = new S3Object();
+        object.setObjectContent(new ByteArrayInputStream(new byte[(int) MAX_UPLOAD_BYTES + 1]));
+        object.getObjectMetadata().setContentLength(MAX_UPLOAD_BYTES + 1);
+        when(s3Uploader.getObject(key)).thenReturn(object);
+
+        assertThatThrownBy(() -> imageService.confirm(1L, key, ImageVariant.AVATAR))
+            .isInstanceOf(LimitException.class);
+        verifyNoInteractions(imageIndex);
+    }
+
+    @DisplayName("트랜잭션 밖에서 변환에 실패하면 이미 참조를 늘린 이미지는 해제")
+    @Test
+    void confirmFailureReleasesAcquired() {
+        String key = "uploads/1/" + UUID.randomUUID();
+        S3Object object = new S3Object();
+        byte[] bytes = "not image".getBytes();
+        object.setObjectContent(new ByteArrayInputStream(bytes));
+        object.getObjectMetadata().setContentLength(bytes.length);
+        when(s3Uploader.getObject(key)).thenReturn(object);
+        String existing = ImageService.newKey("abc123", ImageVariant.AVATAR_SMALL);
+        when(imageIndex.acquire(anyString(), eq(ImageVariant.AVATAR_SMALL))).thenReturn(existing);
+
+        assertThatThrownBy(() -> imageService.confirm(1L, key, ImageVariant.AVATAR_SMALL,
+            ImageVariant.AVATAR)).isInstanceOf(LimitException.class);
+        verify(imageIndex).release(existing);
+    }
+}
@@ -0,0 +1,178 @@
+package dingdong.dingdong.service.post;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import dingdong.dingdong.domain.chat.ChatJoin;
+import dingdong.dingdong.domain.chat.ChatJoinRepository;
+import dingdong.dingdong.domain.chat.ChatMessage;
+import dingdong.dingdong.domain.chat.ChatMessageRepository;
+import dingdong.dingdong.domain.chat.ChatRoom;
+import dingdong.dingdong.domain.chat.ChatRoomRepository;
+import dingdong.dingdong.domain.chat.MessageType;
+import dingdong.dingdong.domain.post.CategoryRepository;
+import dingdong.dingdong.domain.post.Post;
+import dingdong.dingdong.domain.post.PostRepository;
+import dingdong.dingdong.domain.user.Role;
+import dingdong.dingdong.domain.user.User;
+import dingdong.dingdong.domain.user.UserRepository;
+import dingdong.dingdong.util.exception.ForbiddenException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import javax.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+// 메시지는 chunk 마다 별도 트랜잭션으로 나누어 삭제되므로 데이터를 커밋하고 직접 정리한다
+@SpringBootTest(properties = {"spring.jpa.properties.hibernate.generate_statistics=true",
+    "chat.purge.chunk-size=100"})
+class PostDeleteTest {
+
+    @Autowired
+    PostService postService;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    CategoryRepository categoryRepository;
+
+    @Autowired
+    PostRepository postRepository;
+
+    @Autowired
+    ChatRoomRepository chatRoomRepository;
+
+    @Autowired
+    ChatJoinRepository chatJoinRepository;
+
+    @Autowired
+    ChatMessageRepository chatMessageRepository;
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    User user;
+    List<Long> postIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.builder()
+            .phone("09000000021")
+            .authority(Role.REGULAR)
+            .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        for (Long postId : postIds) {
+            jdbcTemplate.update("delete from chat_message where room_id = ?", postId);
+            jdbcTemplate.update("delete from chat_join where post_id = ?", postId);
+            jdbcTemplate.update("delete from chat_room where post_id = ?", postId);
+            jdbcTemplate.update("delete from post where post_id = ?", postId);
+        }
+        userRepository.deleteById(user.getId());
+    }
+
+    @Test
+    @DisplayName("나누기 삭제 시 채팅 메시지 수에 따라 늘어나는 SQL 은 chunk 단위 삭제뿐")
+    void deletePostStatementCount() {
+        Long smallRoom = createPostWithMessages(3);
+        Long largeRoom = createPostWithMessages(300);
+
+        long smallCount = countStatements(smallRoom);
+        long largeCount = countStatements(largeRoom);
+
+        // chunk 크기(100)보다 메시지가 많으면 chunk 수만큼만 늘어남
+        assertThat(largeCount).isEqualTo(smallCount + 300 / 100);
+        assertThat(postRepository.existsById(largeRoom)).isFalse();
+        assertThat(chatRoomRepository.existsById(largeRoom)).isFalse();
+        assertThat(chatMessageRepository.findMaxSeqByChatRoomId(largeRoom)).isNull();
+    }
+
+    @Test
+    @DisplayName("나누기 삭제 시 메시지를 채팅방보다 먼저 모두 삭제")
+    void deletePostMessages() {
+        Long postId = createPostWithMessages(250);
+
+        postService.deletePost(user, postId);
+
+        assertThat(postRepository.existsById(postId)).isFalse();
+        assertThat(chatRoomRepository.existsById(postId)).isFalse();
+        assertThat(chatMessageRepository.findMaxSeqByChatRoomId(postId)).isNull();
+    }
+
+    @Test
+    @DisplayName("삭제할 수 없는 나누기는 메시지도 삭제하지 않음")
+    void deletePostForbidden() {
+        Long postId = createPostWithMessages(250);
+        User other = userRepository.save(User.builder()
+            .phone("09000000022")
+            .authority(Role.REGULAR)
+            .build());
+
+        try {
+            assertThatThrownBy(() -> postService.deletePost(other, postId))
+                .isInstanceOf(ForbiddenException.class);
+            assertThat(chatRoomRepository.existsById(postId)).isTrue();
+            assertThat(chatMessageRepository.findMaxSeqByChatRoomId(postId)).isEqualTo(250L);
+        } finally {
+            userRepository.deleteById(other.getId());
+        }
+    }
+
+    private long countStatements(Long postId) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        postService.deletePost(user, postId);
+        return statistics.getPrepareStatementCount();
+    }
+
+    private Long createPostWithMessages(int count) {
+        Post post = postRepository.save(Post.builder()
+            .user(user)
+            .category(categoryRepository.findById(1L).get())
+            .title("test title")
+            .bio("test bio")
+            .location("test location")
+            .people(2)
+            .cost(1000)
+            .gatheredPeople(1)
+            .done(false)
+            .build());
+        postIds.add(post.getId());
+
+        ChatRoom chatRoom = chatRoomRepository.save(ChatRoom.builder()
+            .post(post)
+            .build());
+        chatJoinRepository.save(ChatJoin.builder()
+            .chatRoom(chatRoom)
+            .user(user)
+            .build());
+
+        List<ChatMessage> messages = new ArrayList<>();
+        for (int i = 1; i <= count; i++) {
+            messages.add(ChatMessage.builder()
+                .chatRoom(chatRoom)
+                .sender(user)
+                .type(MessageType.TALK)
+                .message("message " + i)
+                .sendTime(LocalDateTime.now())
+                .seq((long) i)
+                .build());
+        }
+        chatMessageRepository.saveAll(messages);
+        return post.getId();
+    }
+}
@@ -0,0 +1,106 @@
+package dingdong.dingdong.service.profile;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import dingdong.dingdong.domain.user.ModerationTask;
+import dingdong.dingdong.domain.user.ModerationTaskRepository;
+import dingdong.dingdong.domain.user.RedisRefreshTokenRepository;
+import dingdong.dingdong.domain.user.Role;
+import dingdong.dingdong.domain.user.User;
+import dingdong.dingdong.domain.user.UserRepository;
+import dingdong.dingdong.service.auth.TokenRevocationList;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+// 작업마다 별도 트랜잭션으로 처리되므로 데이터를 커밋하고 직접 정리한다 (스케줄러는 실행하지 않음)
+@SpringBootTest(properties = {"spring.quartz.auto-startup=false",
+    "moderation.retry.max-attempts=2"})
+class ModerationRetryJobTest {
+
+    @Autowired
+    ModerationEventHandler moderationEventHandler;
+
+    @Autowired
+    ModerationTaskRepository moderationTaskRepository;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @MockBean
+    RedisRefreshTokenRepository redisRefreshTokenRepository;
+
+    @MockBean
+    TokenRevocationList tokenRevocationList;
+
+    User user;
+    Long taskId;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.builder()
+            .phone("09000000031")
+            .authority(Role.REGULAR)
+            .build());
+        taskId = moderationTaskRepository.save(ModerationTask.builder()
+            .userId(user.getId())
+            .action(ModerationTask.Action.STOP)
+            .reportCount(5L)
+            .createdAt(LocalDateTime.now().minusHours(1))
+            .build()).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("delete from moderation_task where user_id = ?", user.getId());
+        userRepository.deleteById(user.getId());
+    }
+
+    @Test
+    @DisplayName("재처리된 작업은 삭제되고, Refresh Token 은 커밋 후 삭제")
+    void retry() {
+        new ModerationRetryJob(moderationEventHandler).executeInternal(null);
+
+        assertThat(moderationTaskRepository.existsById(taskId)).isFalse();
+        assertThat(userRepository.findById(user.getId()).get().getAuthority())
+            .isEqualTo(Role.STOPPED);
+        verify(redisRefreshTokenRepository).delete("09000000031");
+    }
+
+    @Test
+    @DisplayName("처리에 실패하면 롤백되어 Redis 는 변경하지 않고, max-attempts 번 실패하면 DEAD 로 남김")
+    void retryFailure() {
+        doThrow(new IllegalStateException("test")).when(tokenRevocationList)
+            .revokeUser(user.getId());
+        ModerationRetryJob job = new ModerationRetryJob(moderationEventHandler);
+
+        job.executeInternal(null);
+
+        ModerationTask task = moderationTaskRepository.findById(taskId).get();
+        assertThat(task.getAttempts()).isEqualTo(1);
+        assertThat(task.getStatus()).isEqualTo(ModerationTask.Status.PENDING);
+        assertThat(userRepository.findById(user.getId()).get().getAuthority())
+            .isEqualTo(Role.REGULAR);
+        verify(redisRefreshTokenRepository, never()).delete(anyString());
+
+        job.executeInternal(null);
+
+        task = moderationTaskRepository.findById(taskId).get();
+        assertThat(task.getAttempts()).isEqualTo(2);
+        assertThat(task.getStatus()).isEqualTo(ModerationTask.Status.DEAD);
+        assertThat(moderationEventHandler.findPendingTaskIds()).doesNotContain(taskId);
+    }
+}
@@ -0,0 +1,114 @@
+package dingdong.dingdong.service.profile;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dingdong.dingdong.domain.user.Profile;
+import dingdong.dingdong.domain.user.ProfileRepository;
+import java.util.List;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import redis.embedded.RedisServer;
+
+class ProfileCacheTest {
+
+    private static final int REDIS_PORT = 16380;
+
+    private static RedisServer redisServer;
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate stringRedisTemplate;
+
+    private ProfileRepository profileRepository;
+    private ProfileCache profileCache;
+
+    @BeforeAll
+    static void startRedis() {
+        redisServer = new RedisServer(REDIS_PORT);
+        redisServer.start();
+        connectionFactory = new LettuceConnectionFactory("localhost", REDIS_PORT);
+        connectionFactory.afterPropertiesSet();
+        stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void stopRedis() {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        profileRepository = mock(ProfileRepository.class);
+        profileCache = new ProfileCache(profileRepository, stringRedisTemplate, new ObjectMapper(),
+            100, 10, 10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        stringRedisTemplate.delete(List.of("profile:1", "profile:version:1"));
+    }
+
+    @Test
+    @DisplayName("DB 에서 조회한 프로필은 Redis 와 서버 메모리에 저장")
+    void getStoresProfile() {
+        when(profileRepository.findAllById(any())).thenReturn(List.of(profile("before")));
+
+        assertThat(profileCache.get(1L).getNickname()).isEqualTo("before");
+        assertThat(profileCache.get(1L).getNickname()).isEqualTo("before");
+
+        assertThat(stringRedisTemplate.opsForValue().get("profile:1")).contains("before");
+        verify(profileRepository, times(1)).findAllById(any());
+    }
+
+    @Test
+    @DisplayName("DB 조회 중에 프로필이 변경되면 이전 값을 Redis 와 서버 메모리에 저장하지 않음")
+    void getDuringInvalidate() {
+        when(profileRepository.findAllById(any()))
+            .thenAnswer(invocation -> {
+                // 이전 값을 조회한 직후 다른 요청이 프로필을 변경하고 커밋
+                profileCache.invalidate(1L);
+                return List.of(profile("before"));
+            })
+            .thenReturn(List.of(profile("after")));
+
+        assertThat(profileCache.get(1L).getNickname()).isEqualTo("before");
+        assertThat(stringRedisTemplate.opsForValue().get("profile:1")).isNull();
+
+        assertThat(profileCache.get(1L).getNickname()).isEqualTo("after");
+        assertThat(stringRedisTemplate.opsForValue().get("profile:1")).contains("after");
+    }
+
+    @Test
+    @DisplayName("프로필 변경 시 Redis 값 삭제 후 다시 조회")
+    void invalidate() {
+        when(profileRepository.findAllById(any()))
+            .thenReturn(List.of(profile("before")))
+            .thenReturn(List.of(profile("after")));
+        profileCache.get(1L);
+
+        profileCache.invalidate(1L);
+
+        assertThat(stringRedisTemplate.opsForValue().get("profile:1")).isNull();
+        assertThat(profileCache.get(1L).getNickname()).isEqualTo("after");
+    }
+
+    private static Profile profile(String nickname) {
+        return Profile.builder()
+            .id(1L)
+            .nickname(nickname)
+            .good(0L)
+            .bad(0L)
+            .build();
+    }
+}
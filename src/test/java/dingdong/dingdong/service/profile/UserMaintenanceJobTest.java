@@ -0,0 +1,81 @@
+package dingdong.dingdong.service.profile;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dingdong.dingdong.domain.user.Role;
+import dingdong.dingdong.domain.user.User;
+import dingdong.dingdong.domain.user.UserRepository;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+// 배치 작업은 테스트 트랜잭션 안에서 실행할 수 없으므로 데이터를 커밋하고 직접 정리한다
+@SpringBootTest
+class UserMaintenanceJobTest {
+
+    @Autowired
+    UserMaintenanceService userMaintenanceService;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    Long unsubId;
+    Long stoppedId;
+
+    @BeforeEach
+    void setUp() {
+        User unsub = userRepository.save(User.builder()
+            .phone("09000000011")
+            .authority(Role.UNSUB)
+            .deletedDate(LocalDateTime.now().minusDays(13))
+            .build());
+        User stopped = userRepository.save(User.builder()
+            .phone("09000000012")
+            .authority(Role.STOPPED)
+            .build());
+        unsubId = unsub.getId();
+        stoppedId = stopped.getId();
+        // 정지된 지 15일 지난 회원
+        jdbcTemplate.update("update user set modified_date = ? where user_id = ?",
+            Timestamp.valueOf(LocalDateTime.now().minusDays(15)), stoppedId);
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteById(unsubId);
+        userRepository.deleteById(stoppedId);
+    }
+
+    @Test
+    @DisplayName("회원 정리 작업 dryRun 테스트")
+    void dryRun() throws Exception {
+        JobExecution execution = userMaintenanceService.runManually(true);
+
+        assertThat(execution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        assertThat(userRepository.findById(unsubId).get().getPhone()).isEqualTo("09000000011");
+        assertThat(userRepository.findById(stoppedId).get().getAuthority())
+            .isEqualTo(Role.STOPPED);
+    }
+
+    @Test
+    @DisplayName("회원 정리 작업 테스트")
+    void run() throws Exception {
+        JobExecution execution = userMaintenanceService.runManually(false);
+
+        assertThat(execution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        assertThat(userRepository.findById(unsubId).get().getPhone()).isNull();
+        assertThat(userRepository.findById(stoppedId).get().getAuthority())
+            .isEqualTo(Role.REGULAR);
+    }
+}
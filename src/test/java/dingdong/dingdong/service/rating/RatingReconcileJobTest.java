@@ -0,0 +1,104 @@
+package dingdong.dingdong.service.rating;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dingdong.dingdong.domain.user.Profile;
+import dingdong.dingdong.domain.user.ProfileRepository;
+import dingdong.dingdong.domain.user.Rating;
+import dingdong.dingdong.domain.user.RatingRepository;
+import dingdong.dingdong.domain.user.Role;
+import dingdong.dingdong.domain.user.User;
+import dingdong.dingdong.domain.user.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// 배치 작업은 테스트 트랜잭션 안에서 실행할 수 없으므로 데이터를 커밋하고 직접 정리한다
+@SpringBootTest
+class RatingReconcileJobTest {
+
+    @Autowired
+    JobLauncher jobLauncher;
+
+    @Autowired
+    @Qualifier("ratingReconcileJob")
+    Job ratingReconcileJob;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    ProfileRepository profileRepository;
+
+    @Autowired
+    RatingRepository ratingRepository;
+
+    Long senderId;
+    Long receiverId;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate.executeWithoutResult(status -> {
+            User sender = saveUser("09000000001", 0L, 0L);
+            // 실제 평가와 맞지 않는 평가 수
+            User receiver = saveUser("09000000002", 5L, 3L);
+            ratingRepository.save(Rating.builder()
+                .sender(sender)
+                .receiver(receiver)
+                .type(RatingType.GOOD)
+                .build());
+            senderId = sender.getId();
+            receiverId = receiver.getId();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        transactionTemplate.executeWithoutResult(status -> {
+            ratingRepository.deleteAll(ratingRepository.findAll());
+            profileRepository.deleteById(senderId);
+            profileRepository.deleteById(receiverId);
+        });
+    }
+
+    @Test
+    @DisplayName("평가 수 재계산 테스트")
+    void reconcile() throws Exception {
+        JobExecution execution = jobLauncher.run(ratingReconcileJob, new JobParametersBuilder()
+            .addLong("requestedAt", System.currentTimeMillis())
+            .toJobParameters());
+
+        assertThat(execution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        Profile receiver = profileRepository.findById(receiverId).get();
+        assertThat(receiver.getGood()).isEqualTo(1L);
+        assertThat(receiver.getBad()).isEqualTo(0L);
+        Profile sender = profileRepository.findById(senderId).get();
+        assertThat(sender.getGood()).isEqualTo(0L);
+    }
+
+    private User saveUser(String phone, Long good, Long bad) {
+        User user = userRepository.save(User.builder()
+            .phone(phone)
+            .authority(Role.REGULAR)
+            .build());
+        profileRepository.save(Profile.builder()
+            .user(user)
+            .good(good)
+            .bad(bad)
+            .build());
+        return user;
+    }
+}
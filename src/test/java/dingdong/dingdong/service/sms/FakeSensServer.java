@@ -0,0 +1,131 @@
+package dingdong.dingdong.service.sms;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 테스트/부하 테스트용 Naver SENS 대역 서버 (JDK HttpServer)
+ * 서명을 검증하고 202 응답을 돌려주며, 지연 시간과 응답 코드를 바꿔 장애 상황을 만들 수 있다.
+ * 단독 실행 : java FakeSensServer {port} {secretKey} {latencyMs}
+ */
+public class FakeSensServer implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(FakeSensServer.class);
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final String secretKey;
+
+    private final AtomicInteger received = new AtomicInteger();
+    private final AtomicInteger messages = new AtomicInteger();
+    private volatile long latencyMillis;
+    private volatile int status = 202;
+
+    public FakeSensServer(int port, String secretKey) throws IOException {
+        this.secretKey = secretKey;
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", port), 0);
+        this.executor = Executors.newCachedThreadPool();
+        server.createContext("/sms/v2/services/", this::handle);
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    public String getUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    public int getReceived() {
+        return received.get();
+    }
+
+    // 받은 수신자 수 (묶음 요청의 messages 합계)
+    public int getMessages() {
+        return messages.get();
+    }
+
+    public void setLatencyMillis(long latencyMillis) {
+        this.latencyMillis = latencyMillis;
+    }
+
+    public void setStatus(int status) {
+        this.status = status;
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        received.incrementAndGet();
+        String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+        messages.addAndGet(body.split("\"to\"", -1).length - 1);
+        try {
+            if (latencyMillis > 0) {
+                Thread.sleep(latencyMillis);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        String timestamp = exchange.getRequestHeaders().getFirst("x-ncp-apigw-timestamp");
+        String accessKey = exchange.getRequestHeaders().getFirst("x-ncp-iam-access-key");
+        String signature = exchange.getRequestHeaders().getFirst("x-ncp-apigw-signature-v2");
+        String expected = sign("POST " + exchange.getRequestURI().getPath() + "\n" + timestamp
+            + "\n" + accessKey);
+        if (signature == null || !signature.equals(expected)) {
+            respond(exchange, 401, "{\"errorMessage\":\"invalid signature\"}");
+            return;
+        }
+        if (status != 202) {
+            respond(exchange, status, "{\"statusCode\":\"" + status + "\"}");
+            return;
+        }
+        respond(exchange, 202, "{\"statusCode\":\"202\",\"statusName\":\"success\","
+            + "\"requestId\":\"" + UUID.randomUUID() + "\","
+            + "\"requestTime\":\"" + LocalDateTime.now().withNano(0) + "\"}");
+    }
+
+    private void respond(HttpExchange exchange, int code, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(code, bytes.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(bytes);
+        }
+    }
+
+    private String sign(String message) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(secretKey.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+            return Base64.getEncoder()
+                .encodeToString(mac.doFinal(message.getBytes(StandardCharsets.UTF_8)));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : 18080;
+        String secretKey = args.length > 1 ? args[1] : "secret";
+        FakeSensServer server = new FakeSensServer(port, secretKey);
+        server.setLatencyMillis(args.length > 2 ? Long.parseLong(args[2]) : 0);
+        log.info("Fake SENS server : {}", server.getUrl());
+    }
+}
@@ -0,0 +1,86 @@
+package dingdong.dingdong.service.sms;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import dingdong.dingdong.config.SmsConfig;
+import dingdong.dingdong.dto.auth.ApplicationNaverSENS;
+import dingdong.dingdong.dto.auth.SendSmsResponseDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+
+class SmsBatchDispatcherTest {
+
+    private static final String SECRET_KEY = "secret-key";
+
+    private FakeSensServer fakeSensServer;
+    private ExecutorService executor;
+    private SmsBatchDispatcher smsBatchDispatcher;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        fakeSensServer = new FakeSensServer(0, SECRET_KEY);
+        executor = Executors.newFixedThreadPool(4);
+
+        ApplicationNaverSENS applicationNaverSENS = new ApplicationNaverSENS();
+        applicationNaverSENS.setSendFrom("01000000000");
+        applicationNaverSENS.setAccessKey("access-key");
+        applicationNaverSENS.setSecretKey(SECRET_KEY);
+        applicationNaverSENS.setServiceId("service-id");
+        SmsGateway smsGateway = new SmsGateway(applicationNaverSENS,
+            new SmsConfig().smsRestTemplate(new RestTemplateBuilder(), 10, 1000, 1000),
+            new SimpleMeterRegistry(), fakeSensServer.getUrl(), 3, 60000);
+
+        smsBatchDispatcher = new SmsBatchDispatcher(smsGateway, executor, 1000, 100, 50);
+        smsBatchDispatcher.start();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        smsBatchDispatcher.stop();
+        executor.shutdownNow();
+        fakeSensServer.close();
+    }
+
+    @Test
+    @DisplayName("동시 전송 요청 묶음 전송 테스트")
+    void submit() throws Exception {
+        List<CompletableFuture<SendSmsResponseDto>> futures = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            futures.add(smsBatchDispatcher.submit(String.format("010%08d", i), "content " + i));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(5, TimeUnit.SECONDS);
+
+        assertThat(futures).allMatch(future -> "202".equals(future.join().getStatusCode()));
+        assertThat(fakeSensServer.getMessages()).isEqualTo(200);
+        // 요청 1건에 최대 100명
+        assertThat(fakeSensServer.getReceived()).isBetween(2, 20);
+    }
+
+    @Test
+    @DisplayName("묶음 전송 실패 시 수신자별 실패 전달 테스트")
+    void submitFail() {
+        fakeSensServer.setStatus(500);
+
+        CompletableFuture<SendSmsResponseDto> first = smsBatchDispatcher.submit("01000000001", "a");
+        CompletableFuture<SendSmsResponseDto> second = smsBatchDispatcher.submit("01000000002", "b");
+
+        assertThatThrownBy(() -> first.get(5, TimeUnit.SECONDS))
+            .isInstanceOf(ExecutionException.class)
+            .hasCauseInstanceOf(SmsSendException.class);
+        assertThatThrownBy(() -> second.get(5, TimeUnit.SECONDS))
+            .isInstanceOf(ExecutionException.class)
+            .hasCauseInstanceOf(SmsSendException.class);
+    }
+}
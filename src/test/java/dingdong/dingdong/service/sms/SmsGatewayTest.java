@@ -0,0 +1,76 @@
+package dingdong.dingdong.service.sms;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import dingdong.dingdong.config.SmsConfig;
+import dingdong.dingdong.dto.auth.ApplicationNaverSENS;
+import dingdong.dingdong.dto.auth.SendSmsResponseDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+
+class SmsGatewayTest {
+
+    private static final String SECRET_KEY = "secret-key";
+
+    private FakeSensServer fakeSensServer;
+    private SmsGateway smsGateway;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        fakeSensServer = new FakeSensServer(0, SECRET_KEY);
+
+        ApplicationNaverSENS applicationNaverSENS = new ApplicationNaverSENS();
+        applicationNaverSENS.setSendFrom("01000000000");
+        applicationNaverSENS.setAccessKey("access-key");
+        applicationNaverSENS.setSecretKey(SECRET_KEY);
+        applicationNaverSENS.setServiceId("service-id");
+
+        smsGateway = new SmsGateway(applicationNaverSENS,
+            new SmsConfig().smsRestTemplate(new RestTemplateBuilder(), 10, 500, 500),
+            new SimpleMeterRegistry(), fakeSensServer.getUrl(), 3, 60000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        fakeSensServer.close();
+    }
+
+    @Test
+    @DisplayName("문자 전송 성공 테스트")
+    void send() {
+        SendSmsResponseDto response = smsGateway.send("01012345678", "[띵-동] 인증번호 [123456]");
+
+        assertThat(response.getStatusCode()).isEqualTo("202");
+        assertThat(response.getRequestId()).isNotNull();
+        assertThat(fakeSensServer.getReceived()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("응답 시간 초과 테스트")
+    void sendTimeout() {
+        fakeSensServer.setLatencyMillis(1000);
+
+        assertThatThrownBy(() -> smsGateway.send("01012345678", "content"))
+            .isInstanceOf(SmsSendException.class);
+    }
+
+    @Test
+    @DisplayName("연속 실패 시 서킷 열림 테스트")
+    void circuitOpen() {
+        fakeSensServer.setStatus(500);
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> smsGateway.send("01012345678", "content"))
+                .isInstanceOf(SmsSendException.class);
+        }
+
+        assertThat(smsGateway.isAvailable()).isFalse();
+        assertThatThrownBy(() -> smsGateway.send("01012345678", "content"))
+            .isInstanceOf(SmsSendException.class);
+        assertThat(fakeSensServer.getReceived()).isEqualTo(3);
+    }
+}
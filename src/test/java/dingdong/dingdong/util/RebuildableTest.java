@@ -0,0 +1,61 @@
+package dingdong.dingdong.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RebuildableTest {
+
+    private final Rebuildable<Set<String>> set =
+        new Rebuildable<>(ConcurrentHashMap::newKeySet, Set::add);
+
+    @DisplayName("다시 만드는 동안 추가된 항목은 새 목록에도 남음")
+    @Test
+    void addDuringRebuild() {
+        set.add("before");
+
+        set.rebuild(rebuilt -> {
+            rebuilt.add("loaded");
+            set.add("during");
+        });
+
+        assertThat(set.get()).containsExactlyInAnyOrder("loaded", "during");
+    }
+
+    @DisplayName("다시 만들기에 실패하면 기존 목록을 유지")
+    @Test
+    void rebuildFailure() {
+        set.add("before");
+
+        assertThatThrownBy(() -> set.rebuild(rebuilt -> {
+            throw new IllegalStateException();
+        })).isInstanceOf(IllegalStateException.class);
+        set.add("after");
+
+        assertThat(set.get()).containsExactlyInAnyOrder("before", "after");
+    }
+
+    @DisplayName("원본에 반영 후 추가한 항목은 교체와 동시에 추가되어도 누락되지 않음")
+    @Test
+    void addConcurrentlyWithSwap() throws InterruptedException {
+        int count = 20_000;
+        Set<String> source = ConcurrentHashMap.newKeySet();
+        Thread writer = new Thread(() -> {
+            for (int i = 0; i < count; i++) {
+                source.add("entry-" + i);
+                set.add("entry-" + i);
+            }
+        });
+        writer.start();
+        while (writer.isAlive()) {
+            set.rebuild(rebuilt -> rebuilt.addAll(source));
+        }
+        writer.join();
+
+        assertThat(set.get()).hasSize(count);
+    }
+}